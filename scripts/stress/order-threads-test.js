@@ -0,0 +1,97 @@
+/*
+- Compara a vazão da API de pedidos com virtual threads e com threads de plataforma:
+  - Suba a aplicação com VIRTUAL_THREADS_ENABLED=false e execute este teste com -e THREADS=platform;
+  - Reinicie a aplicação com VIRTUAL_THREADS_ENABLED=true e execute novamente com -e THREADS=virtual,
+    mantendo os demais parâmetros;
+  - Cada execução grava o resumo em order-threads-<THREADS>.json; compare http_reqs (requisições/s) e
+    http_req_duration (p95) geral e por rota (tag name) dos dois arquivos.
+- Cada iteração cria um pedido (POST /), avança o status do pedido criado (PATCH /{id}/status) e consulta a
+  página de pedidos ativos, que não passa pelo cache. O pedido por ID e o painel da cozinha, servidos da memória,
+  são consultados em uma parte das iterações (READ_RATIO);
+  - A criação valida os produtos no microsserviço de catálogo e a atualização consulta o microsserviço de
+    pagamento: ambos devem estar disponíveis, com os produtos de PRODUCTS cadastrados no catálogo;
+  - Informe TOKEN quando a API exigir autenticação (enviado como Authorization: Bearer).
+- Com virtual threads, acompanhe também a métrica jvm.threads.virtual.pinned no Actuator e os avisos
+  "Virtual thread fixada à carrier" no log.
+*/
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+
+export let check_failure_rate = new Rate('check_failure_rate');
+
+// Endereço da API de pedidos (ex.: BASE_URL=http://localhost:8080)
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+// Rótulo da execução, usado no nome do arquivo de resultado (platform ou virtual)
+const THREADS = __ENV.THREADS || 'unlabeled';
+// Fração das iterações que também consulta as rotas servidas da memória
+const READ_RATIO = Number(__ENV.READ_RATIO || 0.5);
+// Token de acesso, quando a API exigir autenticação
+const TOKEN = __ENV.TOKEN;
+// IDs dos pedidos criados pelo seed (03-order-seed.sql)
+const ORDER_IDS = [1, 2, 3, 4];
+// Produtos do catálogo usados nos pedidos criados (os mesmos do seed)
+const PRODUCTS = [
+  { productId: 1, name: 'X-Burger', unitPrice: 22.90 },
+  { productId: 12, name: 'Refrigerante Lata', unitPrice: 6.90 },
+];
+
+const HEADERS = Object.assign({ 'Content-Type': 'application/json' },
+  TOKEN ? { Authorization: `Bearer ${TOKEN}` } : {});
+
+export let options = {
+  stages: [
+    { duration: '1m', target: 50 },  // Aquecimento (JIT e pools de conexão)
+    { duration: '3m', target: 400 }, // Aumenta a carga até 400 usuários simultâneos
+    { duration: '2m', target: 400 }, // Mantém a carga máxima
+    { duration: '30s', target: 0 },  // Reduz a carga para 0 usuários
+  ],
+  thresholds: {
+    check_failure_rate: ['rate<0.01'], // Taxa de falhas dos checks deve ser menor que 1%
+    http_req_duration: ['p(95)<1000'], // 95% das requisições devem ser concluídas em menos de 1000ms
+    // Limites por rota, para que o resumo traga o p95 de cada uma
+    'http_req_duration{name:criar}': ['p(95)<1500'],
+    'http_req_duration{name:status}': ['p(95)<1500'],
+    'http_req_duration{name:pagina}': ['p(95)<1000'],
+  },
+};
+
+export default function () {
+  const product = PRODUCTS[Math.floor(Math.random() * PRODUCTS.length)];
+  const order = JSON.stringify({
+    items: [{ ...product, quantity: 1 + Math.floor(Math.random() * 3), observations: '' }],
+  });
+
+  const created = http.post(`${BASE_URL}/`, order, { headers: HEADERS, tags: { name: 'criar' } });
+  const createdOk = check(created, { 'Pedido criado (201)': (r) => r.status === 201 });
+  check_failure_rate.add(!createdOk);
+
+  if (createdOk) {
+    const updated = http.patch(`${BASE_URL}/${created.json('id')}/status`, JSON.stringify({ status: 'PREPARING' }),
+      { headers: HEADERS, tags: { name: 'status' } });
+    check_failure_rate.add(!check(updated, { 'Status atualizado (200)': (r) => r.status === 200 }));
+  }
+
+  const page = http.get(`${BASE_URL}/active/page?size=20`, { headers: HEADERS, tags: { name: 'pagina' } });
+  check_failure_rate.add(!check(page, { 'Página consultada (200)': (r) => r.status === 200 }));
+
+  if (Math.random() < READ_RATIO) {
+    const orderId = ORDER_IDS[Math.floor(Math.random() * ORDER_IDS.length)];
+    const reads = http.batch([
+      ['GET', `${BASE_URL}/${orderId}`, null, { headers: HEADERS, tags: { name: 'pedido' } }],
+      ['GET', `${BASE_URL}/active`, null, { headers: HEADERS, tags: { name: 'painel' } }],
+    ]);
+    check_failure_rate.add(!check(reads, {
+      'Consultas em memória (200)': (r) => r.every((res) => res.status === 200),
+    }));
+  }
+}
+
+// Grava o resumo da execução para comparar as duas configurações de threads
+export function handleSummary(data) {
+  return {
+    stdout: textSummary(data, { indent: ' ', enableColors: true }),
+    [`order-threads-${THREADS}.json`]: JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,65 @@
+package benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.soat.fiap.food.core.order.core.application.usecases.EnsureValidOrderItemsUseCase;
+import com.soat.fiap.food.core.order.core.domain.model.OrderItem;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderItemPrice;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.ProductDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.StockDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.CatalogGateway;
+
+/**
+ * Mede a validação dos itens do pedido ({@link EnsureValidOrderItemsUseCase})
+ * conforme a quantidade de itens, com o catálogo respondendo em memória.
+ * <p>
+ * Metade dos itens repete produtos já presentes no pedido, como em pedidos com
+ * o mesmo lanche em linhas diferentes. Execução: {@code ./gradlew jmh}.
+ * </p>
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnsureValidOrderItemsBenchmark {
+
+	@Param({"1", "10", "50", "100", "200"})
+	private int items;
+
+	private List<OrderItem> orderItems;
+	private CatalogGateway catalogGateway;
+
+	@Setup
+	public void setUp() {
+		var price = new BigDecimal("12.50");
+		var distinctProducts = Math.max(1, (items + 1) / 2);
+
+		var products = new ArrayList<ProductDTO>();
+		for (long id = 1; id <= distinctProducts; id++) {
+			products.add(new ProductDTO(id, "Produto " + id, price, true, true, new StockDTO(1000)));
+		}
+
+		orderItems = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			long productId = i % distinctProducts + 1;
+			orderItems.add(new OrderItem(productId, "Produto " + productId, new OrderItemPrice(1, price), null));
+		}
+
+		catalogGateway = new CatalogGateway(productIds -> products);
+	}
+
+	@Benchmark
+	public List<OrderItem> ensureValidOrderItems() {
+		EnsureValidOrderItemsUseCase.ensureValidOrderItems(orderItems, catalogGateway);
+		return orderItems;
+	}
+}
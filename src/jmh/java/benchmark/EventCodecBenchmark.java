@@ -0,0 +1,88 @@
+package benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.azure.core.util.BinaryData;
+import com.google.gson.Gson;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCreatedEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderItemCreatedEventDto;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+
+/**
+ * Compara a leitura e a escrita de eventos pelo {@link EventCodec} com o
+ * caminho anterior via Gson ({@code gson.fromJson(body.toString(), ...)} e
+ * {@code gson.toJson(event)}).
+ * <p>
+ * Execução: {@code ./gradlew jmh}. Observe, além do tempo médio, a alocação por
+ * operação ({@code -prof gc}).
+ * </p>
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+	@Param({"1", "10", "50"})
+	private int items;
+
+	private Gson gson;
+	private EventCodec eventCodec;
+	private OrderCreatedEventDto event;
+	private BinaryData body;
+
+	@Setup
+	public void setUp() {
+		gson = new Gson();
+		eventCodec = new EventCodec();
+
+		event = new OrderCreatedEventDto();
+		event.setId(1L);
+		event.setOrderNumber("ORD-2025-00000001");
+		event.setStatusDescription("RECEBIDO");
+		event.setUserId("5f2b7c1e-3a4d-4b6e-9f8a-1c2d3e4f5a6b");
+		event.setTotalAmount(BigDecimal.valueOf(items * 25L, 1));
+		event.setItems(new ArrayList<>());
+		for (long i = 1; i <= items; i++) {
+			var item = new OrderItemCreatedEventDto();
+			item.setId(i);
+			item.setProductId(100 + i);
+			item.setName("Produto " + i);
+			item.setQuantity(1);
+			item.setUnitPrice(BigDecimal.valueOf(25, 1));
+			item.setSubtotal(BigDecimal.valueOf(25, 1));
+			item.setObservations("Sem cebola");
+			event.getItems().add(item);
+		}
+
+		body = BinaryData.fromBytes(gson.toJson(event).getBytes());
+	}
+
+	@Benchmark
+	public OrderCreatedEventDto decodeGson() {
+		return gson.fromJson(body.toString(), OrderCreatedEventDto.class);
+	}
+
+	@Benchmark
+	public OrderCreatedEventDto decodeEventCodec() {
+		return eventCodec.decode(body, OrderCreatedEventDto.class);
+	}
+
+	@Benchmark
+	public String encodeGson() {
+		return gson.toJson(event);
+	}
+
+	@Benchmark
+	public String encodeEventCodec() {
+		return eventCodec.encode(event);
+	}
+}
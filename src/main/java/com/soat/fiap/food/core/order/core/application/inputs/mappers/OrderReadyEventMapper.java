@@ -23,6 +23,7 @@ public class OrderReadyEventMapper {
 		}
 
 		OrderReadyEvent event = new OrderReadyEvent();
+		event.setOrderId(order.getId());
 		event.setClientId(order.getUserId());
 		event.setOrderNumber(order.getOrderNumber());
 		event.setAmount(order.getAmount());
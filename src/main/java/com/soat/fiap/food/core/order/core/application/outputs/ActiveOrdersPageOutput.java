@@ -0,0 +1,35 @@
+package com.soat.fiap.food.core.order.core.application.outputs;
+
+import java.util.List;
+
+import com.soat.fiap.food.core.order.core.domain.model.Order;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+
+/**
+ * Representa um DTO de saída da aplicação (Application Layer) contendo uma
+ * página de pedidos ativos e a posição a partir da qual a próxima página deve
+ * ser buscada.
+ */
+public record ActiveOrdersPageOutput(List<Order> orders, ActiveOrdersCursorDTO nextCursor) {
+
+	/**
+	 * Construtor do record {@code ActiveOrdersPageOutput}.
+	 *
+	 * @param orders
+	 *            Pedidos ativos da página.
+	 * @param nextCursor
+	 *            Posição do último pedido da página ou {@code null} se não houver
+	 *            próxima página.
+	 */
+	public ActiveOrdersPageOutput {
+	}
+
+	/**
+	 * Indica se existe uma próxima página.
+	 *
+	 * @return {@code true} se houver mais pedidos ativos após esta página
+	 */
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -1,5 +1,7 @@
 package com.soat.fiap.food.core.order.core.application.usecases;
 
+import java.util.Optional;
+
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderPaymentException;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderPaymentNotFoundException;
@@ -35,25 +37,64 @@ public class EnsureOrderPaymentIsValidUseCase {
 	 */
 	public static void ensureOrderPaymentIsValid(Long id, OrderStatus status, PaymentGateway paymentGateway,
 			OrderGateway orderGateway) {
-		var order = orderGateway.findById(id);
-		PaymentStatusDTO payment = null;
+		ensurePaymentIsValidForOrder(id, status, getOrderPayment(id, paymentGateway), orderGateway);
+	}
 
+	/**
+	 * Consulta o pagamento de um pedido.
+	 * <p>
+	 * A consulta é uma chamada síncrona ao serviço de pagamento; quem repete a
+	 * atualização do status após um conflito deve consultá-lo uma única vez, fora
+	 * das tentativas, e validar cada tentativa com
+	 * {@link #ensurePaymentIsValidForOrder}.
+	 * </p>
+	 *
+	 * @param id
+	 *            ID do Pedido
+	 * @param paymentGateway
+	 *            Gateway de pagamento para comunicação com o mundo exterior
+	 * @return pagamento do pedido, ou vazio se não for possível obtê-lo
+	 */
+	public static Optional<PaymentStatusDTO> getOrderPayment(Long id, PaymentGateway paymentGateway) {
 		try {
-			payment = paymentGateway.getOrderStatus(id);
+			return Optional.ofNullable(paymentGateway.getOrderStatus(id));
 		} catch (Exception ex) {
 			log.info("Não foi possível obter o pagamento do pedido: {}, causa: {}", id, ex.getMessage());
+			return Optional.empty();
 		}
+	}
+
+	/**
+	 * Valida o pagamento já consultado contra o estado atual do pedido, sem
+	 * chamar o serviço de pagamento.
+	 *
+	 * @param id
+	 *            ID do Pedido a ser validado
+	 * @param status
+	 *            novo status do pedido
+	 * @param payment
+	 *            pagamento do pedido obtido por {@link #getOrderPayment}
+	 * @param orderGateway
+	 *            Gateway de pedido para comunicação com o mundo exterior
+	 * @throws OrderPaymentNotFoundException
+	 *             se o pagamento não existir
+	 * @throws OrderNotFoundException
+	 *             se o pedido não existir
+	 */
+	public static void ensurePaymentIsValidForOrder(Long id, OrderStatus status, Optional<PaymentStatusDTO> payment,
+			OrderGateway orderGateway) {
+		var order = orderGateway.findById(id);
 
 		if (order.isEmpty()) {
 			throw new OrderNotFoundException("Pedido", id);
-		} else if (payment == null && order.get().getOrderStatus() != OrderStatus.RECEIVED) {
+		} else if (payment.isEmpty() && order.get().getOrderStatus() != OrderStatus.RECEIVED) {
 			log.info("Pagamento do pedido de ID: {}, de status: {} não encontrado", id, order.get().getOrderStatus());
 			throw new OrderPaymentNotFoundException("O pagamento do pedido não existe");
 		}
 
 		var isInProgress = status.getCode() > OrderStatus.RECEIVED.getCode()
 				&& status.getCode() < OrderStatus.CANCELLED.getCode();
-		var paymentNotRealized = payment != null && payment.status() != StatusDTO.APPROVED;
+		var paymentNotRealized = payment.isPresent() && payment.get().status() != StatusDTO.APPROVED;
 
 		if (isInProgress && paymentNotRealized) {
 			throw new OrderPaymentException(
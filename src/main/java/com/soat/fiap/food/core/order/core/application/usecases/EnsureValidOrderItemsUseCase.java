@@ -1,11 +1,13 @@
 package com.soat.fiap.food.core.order.core.application.usecases;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderException;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderItemException;
 import com.soat.fiap.food.core.order.core.domain.model.OrderItem;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.ProductDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.CatalogGateway;
 
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,10 @@ public class EnsureValidOrderItemsUseCase {
 
 	/**
 	 * Valida os produtos dos itens do pedido com base no catálogo.
+	 * <p>
+	 * O estoque é verificado pela quantidade total de cada produto no pedido,
+	 * somando os itens que repetem o mesmo produto.
+	 * </p>
 	 *
 	 * @param orderItems
 	 *            Lista de itens do pedido
@@ -31,18 +37,20 @@ public class EnsureValidOrderItemsUseCase {
 	 */
 	public static void ensureValidOrderItems(List<OrderItem> orderItems, CatalogGateway gateway) {
 
-		var productIds = orderItems.stream().map(OrderItem::getProductId).toList();
+		var productIds = orderItems.stream().map(OrderItem::getProductId).distinct().toList();
 
-		var products = gateway.findByProductIds(productIds);
+		var products = indexById(gateway.findByProductIds(productIds), productIds.size());
+		Map<Long, Integer> requestedQuantities = HashMap.newHashMap(productIds.size());
 
 		for (OrderItem orderItem : orderItems) {
 
-			var productOrderItem = products.stream()
-					.filter(p -> p.id() != null && Objects.equals(p.id(), orderItem.getProductId()))
-					.findFirst()
-					.orElseThrow(() -> new OrderItemException("O produto do item do pedido não existe"));
+			var productOrderItem = products.get(orderItem.getProductId());
+			var requestedQuantity = requestedQuantities.merge(orderItem.getProductId(), orderItem.getQuantity(),
+					Integer::sum);
 
-			if (!productOrderItem.name().equals(orderItem.getName())) {
+			if (productOrderItem == null) {
+				throw new OrderItemException("O produto do item do pedido não existe");
+			} else if (!productOrderItem.name().equals(orderItem.getName())) {
 				throw new OrderItemException("O nome do produto do item diverge do nome do produto cadastrado");
 			} else if (productOrderItem.price().compareTo(orderItem.getUnitPrice()) != 0) {
 				throw new OrderItemException("O preço unitário do item do pedido diverge do preço do produto");
@@ -50,10 +58,30 @@ public class EnsureValidOrderItemsUseCase {
 				throw new OrderItemException("O pedido não pode possuir produtos inativos");
 			} else if (!productOrderItem.categoryIsActive()) {
 				throw new OrderItemException("A categoria do produto do pedido não pode estar inativa");
-			} else if (productOrderItem.stock().quantity() < orderItem.getQuantity()) {
+			} else if (productOrderItem.stock().quantity() < requestedQuantity) {
 				throw new OrderItemException(String.format("Quantidade insuficiente em estoque para o produto: %s",
 						productOrderItem.name()));
 			}
 		}
 	}
+
+	/**
+	 * Indexa os produtos do catálogo por ID, mantendo o primeiro produto de cada
+	 * ID.
+	 *
+	 * @param products
+	 *            Produtos retornados pelo catálogo
+	 * @param expectedSize
+	 *            Quantidade esperada de produtos
+	 * @return Produtos por ID
+	 */
+	private static Map<Long, ProductDTO> indexById(List<ProductDTO> products, int expectedSize) {
+		Map<Long, ProductDTO> productsById = HashMap.newHashMap(expectedSize);
+		for (ProductDTO product : products) {
+			if (product.id() != null) {
+				productsById.putIfAbsent(product.id(), product);
+			}
+		}
+		return productsById;
+	}
 }
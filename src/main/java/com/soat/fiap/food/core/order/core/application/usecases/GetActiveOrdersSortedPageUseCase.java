@@ -0,0 +1,55 @@
+package com.soat.fiap.food.core.order.core.application.usecases;
+
+import com.soat.fiap.food.core.order.core.application.outputs.ActiveOrdersPageOutput;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caso de uso: Buscar uma página de pedidos ativos ordenados por prioridade e
+ * data de criação.
+ */
+@Slf4j
+public class GetActiveOrdersSortedPageUseCase {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	/**
+	 * Busca uma página de pedidos ativos, na mesma ordem de
+	 * {@link GetActiveOrdersSortedUseCase}, iniciando imediatamente após o cursor
+	 * informado (paginação keyset). O custo de cada página é limitado pelo seu
+	 * tamanho, independentemente da quantidade total de pedidos ativos.
+	 * <p>
+	 * Um pedido a mais é buscado para determinar se existe próxima página.
+	 *
+	 * @param cursor
+	 *            Posição do último pedido da página anterior ou {@code null} para a
+	 *            primeira página
+	 * @param size
+	 *            Tamanho da página (limitado entre 1 e {@link #MAX_PAGE_SIZE})
+	 * @param gateway
+	 *            Gateway para comunicação com o mundo exterior
+	 * @return Página de pedidos ativos e cursor da próxima página
+	 */
+	public static ActiveOrdersPageOutput getActiveOrdersSortedPage(ActiveOrdersCursorDTO cursor, int size,
+			OrderGateway gateway) {
+		var pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+		log.info("Buscando página de pedidos ativos. Tamanho: {}, cursor: {}", pageSize, cursor);
+
+		var orders = gateway.findActiveOrdersSortedAfter(cursor, pageSize + 1);
+
+		if (orders.size() <= pageSize) {
+			return new ActiveOrdersPageOutput(orders, null);
+		}
+
+		var page = orders.subList(0, pageSize);
+		var last = page.get(pageSize - 1);
+		var nextCursor = new ActiveOrdersCursorDTO(last.getOrderStatus().getActivePriority(), last.getCreatedAt(),
+				last.getId());
+
+		return new ActiveOrdersPageOutput(page, nextCursor);
+	}
+}
@@ -0,0 +1,35 @@
+package com.soat.fiap.food.core.order.core.application.usecases;
+
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caso de uso: Obter a versão atual de um pedido.
+ */
+@Slf4j
+public class GetOrderVersionUseCase {
+
+	/**
+	 * Busca a versão e a data de atualização de um pedido pelo seu ID, sem
+	 * carregar o agregado.
+	 *
+	 * @param id
+	 *            Identificador do pedido
+	 * @param gateway
+	 *            Gateway para comunicação com o mundo exterior
+	 * @return a versão do pedido
+	 */
+	public static OrderVersionDTO getOrderVersion(Long id, OrderGateway gateway) {
+		var existingVersion = gateway.findVersionById(id);
+
+		if (existingVersion.isEmpty()) {
+			log.warn("Pedido não encontrado. Id: {}", id);
+			throw new OrderNotFoundException("Pedido", id);
+		}
+
+		return existingVersion.get();
+	}
+}
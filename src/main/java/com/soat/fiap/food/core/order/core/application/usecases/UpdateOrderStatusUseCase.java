@@ -2,6 +2,7 @@ package com.soat.fiap.food.core.order.core.application.usecases;
 
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
 import com.soat.fiap.food.core.order.core.domain.model.Order;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
@@ -16,6 +17,10 @@ public class UpdateOrderStatusUseCase {
 
 	/**
 	 * Atualiza o status de um pedido
+	 * <p>
+	 * A transição é validada pelas regras do domínio ({@link Order}) e persistida
+	 * por um único UPDATE condicional à versão e ao status lidos, sem regravar o
+	 * agregado.
 	 *
 	 * @param orderId
 	 *            ID do pedido
@@ -26,6 +31,8 @@ public class UpdateOrderStatusUseCase {
 	 * @return Pedido atualizado
 	 * @throws OrderAlreadyHasStatusException
 	 *             Se o pedido já possuir o status informado para atualização
+	 * @throws OrderStatusConflictException
+	 *             Se o pedido foi alterado concorrentemente
 	 */
 	public static Order updateOrderStatus(Long orderId, OrderStatus orderStatus, OrderGateway gateway) {
 
@@ -37,8 +44,17 @@ public class UpdateOrderStatusUseCase {
 			throw new OrderAlreadyHasStatusException("O pedido já possui o status informado para atualização");
 		}
 
+		var currentStatus = order.get().getOrderStatus();
+
 		order.get().setOrderStatus(orderStatus);
 
+		if (!gateway.updateStatus(order.get(), currentStatus)) {
+			log.warn("Pedido {} alterado concorrentemente. Versão esperada: {}, status esperado: {}", orderId,
+					order.get().getVersion(), currentStatus);
+			throw new OrderStatusConflictException(
+					String.format("O pedido %d foi alterado concorrentemente", orderId));
+		}
+
 		return order.get();
 	}
 }
@@ -9,6 +9,7 @@ import lombok.Data;
  */
 @Data
 public class OrderReadyEvent {
+	private Long orderId;
 	private String clientId;
 	private String orderNumber;
 	private BigDecimal amount;
@@ -0,0 +1,16 @@
+package com.soat.fiap.food.core.order.core.domain.exceptions;
+
+/**
+ * Exceção lançada quando o status de um pedido foi alterado concorrentemente
+ * entre a leitura e a gravação da transição de status
+ */
+public class OrderStatusConflictException extends OrderException {
+
+	public OrderStatusConflictException(String message) {
+		super(message);
+	}
+
+	public OrderStatusConflictException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
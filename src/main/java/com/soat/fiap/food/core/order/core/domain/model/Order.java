@@ -33,6 +33,8 @@ public class Order {
 	private OrderStatus orderStatus = OrderStatus.RECEIVED;
 	private BigDecimal amount;
 	private AuditInfo auditInfo = new AuditInfo();
+	// Versão do agregado persistido (controle de concorrência otimista)
+	private Long version;
 
 	private List<OrderItem> orderItems = new ArrayList<>();
 
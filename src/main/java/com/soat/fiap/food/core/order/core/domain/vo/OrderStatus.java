@@ -11,6 +11,11 @@ public enum OrderStatus {
 	RECEIVED(1, "Recebido"), PREPARING(2, "Em Preparação"), READY(3, "Pronto"), COMPLETED(4, "Finalizado"), CANCELLED(5,
 			"Cancelado");
 
+	/**
+	 * Prioridade atribuída a status que não fazem parte da fila de pedidos ativos
+	 */
+	public static final int INACTIVE_PRIORITY = 4;
+
 	private final int code;
 	private final String description;
 
@@ -19,6 +24,31 @@ public enum OrderStatus {
 		this.description = description;
 	}
 
+	/**
+	 * Prioridade do status na fila de pedidos ativos (menor valor = maior
+	 * prioridade): PRONTO > EM_PREPARACAO > RECEBIDO. Status finalizados
+	 * (FINALIZADO e CANCELADO) recebem {@link #INACTIVE_PRIORITY}.
+	 *
+	 * @return prioridade do status na fila de pedidos ativos
+	 */
+	public int getActivePriority() {
+		return switch (this) {
+			case READY -> 1;
+			case PREPARING -> 2;
+			case RECEIVED -> 3;
+			default -> INACTIVE_PRIORITY;
+		};
+	}
+
+	/**
+	 * Indica se o status representa um pedido ativo (ainda não finalizado).
+	 *
+	 * @return {@code true} se o pedido ainda está em andamento
+	 */
+	public boolean isActive() {
+		return getActivePriority() < INACTIVE_PRIORITY;
+	}
+
 	public static OrderStatus fromCode(int code) {
 		for (OrderStatus status : values()) {
 			if (status.code == code) {
@@ -3,6 +3,7 @@ package com.soat.fiap.food.core.order.core.interfaceadapters.controller;
 import com.soat.fiap.food.core.order.core.application.usecases.EnsureOrderPaymentIsValidUseCase;
 import com.soat.fiap.food.core.order.core.application.usecases.UpdateOrderStatusUseCase;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.PaymentGateway;
@@ -19,6 +20,10 @@ public class ChargebackOrderController {
 
 	/**
 	 * Estorna pedido.
+	 * <p>
+	 * Um conflito de concorrência na gravação lança
+	 * {@link OrderStatusConflictException}; cabe ao chamador repetir a chamada em
+	 * uma nova transação, que relê o pedido.
 	 *
 	 * @param id
 	 *            ID do pedido
@@ -41,8 +46,7 @@ public class ChargebackOrderController {
 
 			log.info("Atualizando status do pedido {} para {}", id, chargebackOrderStatus);
 
-			var order = UpdateOrderStatusUseCase.updateOrderStatus(id, chargebackOrderStatus, orderGateway);
-			var updatedOrder = orderGateway.save(order);
+			var updatedOrder = UpdateOrderStatusUseCase.updateOrderStatus(id, chargebackOrderStatus, orderGateway);
 
 			log.info("Status do pedido {} atualizado para {}", id, updatedOrder);
 		} catch (OrderAlreadyHasStatusException ex) {
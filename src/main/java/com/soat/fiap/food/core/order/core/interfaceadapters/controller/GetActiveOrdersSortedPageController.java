@@ -0,0 +1,42 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.controller;
+
+import com.soat.fiap.food.core.order.core.application.usecases.GetActiveOrdersSortedPageUseCase;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.ActiveOrdersCursorMapper;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+import com.soat.fiap.food.core.order.core.interfaceadapters.presenter.OrderPresenter;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.ActiveOrdersPageResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller: Buscar uma página de pedidos ativos ordenados por prioridade e
+ * data de criação.
+ */
+@Slf4j
+public class GetActiveOrdersSortedPageController {
+
+	/**
+	 * Busca uma página de pedidos ativos a partir do cursor informado.
+	 *
+	 * @param cursor
+	 *            Token do cursor retornado pela página anterior ou {@code null}
+	 *            para a primeira página
+	 * @param size
+	 *            Tamanho da página
+	 * @param dataSource
+	 *            Origem de dados para o gateway
+	 * @return Página de pedidos ativos ordenados
+	 */
+	public static ActiveOrdersPageResponse getActiveOrdersSortedPage(String cursor, int size,
+			OrderDataSource dataSource) {
+		log.debug("Iniciando busca de página de pedidos ativos ordenados");
+
+		var gateway = new OrderGateway(dataSource);
+
+		var page = GetActiveOrdersSortedPageUseCase
+				.getActiveOrdersSortedPage(ActiveOrdersCursorMapper.toCursor(cursor), size, gateway);
+
+		return OrderPresenter.toActiveOrdersPageResponse(page);
+	}
+}
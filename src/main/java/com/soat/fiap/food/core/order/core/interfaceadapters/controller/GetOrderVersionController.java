@@ -0,0 +1,34 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.controller;
+
+import com.soat.fiap.food.core.order.core.application.usecases.GetOrderVersionUseCase;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller: Buscar versão do pedido por ID.
+ *
+ * Este controller é responsável por obter a versão atual de um pedido, usada
+ * para validar requisições condicionais antes de carregar o pedido completo.
+ */
+@Slf4j
+public class GetOrderVersionController {
+	/**
+	 * Busca a versão atual de um pedido pelo seu ID.
+	 *
+	 * @param id
+	 *            Identificador do pedido
+	 * @param orderDataSource
+	 *            Origem de dados para o gateway
+	 * @return a versão e a data de atualização do pedido
+	 */
+	public static OrderVersionDTO getOrderVersion(Long id, OrderDataSource orderDataSource) {
+		log.debug("Buscando versão do pedido de id: {}", id);
+
+		var gateway = new OrderGateway(orderDataSource);
+
+		return GetOrderVersionUseCase.getOrderVersion(id, gateway);
+	}
+}
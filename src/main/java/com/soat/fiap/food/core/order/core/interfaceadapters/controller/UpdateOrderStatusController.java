@@ -1,8 +1,12 @@
 package com.soat.fiap.food.core.order.core.interfaceadapters.controller;
 
+import java.util.Optional;
+
 import com.soat.fiap.food.core.order.core.application.usecases.*;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.payment.PaymentStatusDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.EventPublisherGateway;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.PaymentGateway;
@@ -21,38 +25,62 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UpdateOrderStatusController {
 
+	/**
+	 * Consulta o pagamento do pedido, uma única vez por requisição.
+	 * <p>
+	 * A consulta é uma chamada síncrona ao serviço de pagamento; deve ser feita
+	 * antes e fora das tentativas de
+	 * {@link #updateOrderStatus(Long, OrderStatusRequest, Optional, OrderDataSource, EventPublisherSource)}
+	 * — um conflito de versão não altera o pagamento.
+	 * </p>
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @param paymentDataSource
+	 *            Origem de dados para o gateway de pagamento
+	 * @return pagamento do pedido, ou vazio se não for possível obtê-lo
+	 */
+	public static Optional<PaymentStatusDTO> getOrderPayment(Long id, PaymentDataSource paymentDataSource) {
+		return EnsureOrderPaymentIsValidUseCase.getOrderPayment(id, new PaymentGateway(paymentDataSource));
+	}
+
 	/**
 	 * Atualizaa status do pedido.
+	 * <p>
+	 * Relê o pedido, valida o pagamento já consultado por
+	 * {@link #getOrderPayment(Long, PaymentDataSource)} e grava a transição. Um
+	 * conflito de concorrência na gravação lança
+	 * {@link OrderStatusConflictException}; cabe ao chamador repetir a chamada em
+	 * uma nova transação, que relê o pedido.
 	 *
 	 * @param id
 	 *            ID do pedido
 	 * @param orderStatusRequest
 	 *            Status do pedido a ser atualizado
+	 * @param payment
+	 *            Pagamento do pedido
 	 * @param orderDataSource
 	 *            Origem de dados para o gateway de pedido
-	 * @param paymentDataSource
-	 *            Origem de dados para o gateway de pagamento
 	 * @param eventPublisherSource
 	 *            Origem de publicação de eventos
 	 * @return Pedido atualizado
 	 */
 	public static OrderStatusResponse updateOrderStatus(Long id, OrderStatusRequest orderStatusRequest,
-			OrderDataSource orderDataSource, PaymentDataSource paymentDataSource,
+			Optional<PaymentStatusDTO> payment, OrderDataSource orderDataSource,
 			EventPublisherSource eventPublisherSource) {
 
 		var orderGateway = new OrderGateway(orderDataSource);
-		var paymentGateway = new PaymentGateway(paymentDataSource);
 		var eventPublisherGateway = new EventPublisherGateway(eventPublisherSource);
 
 		try {
 
-			EnsureOrderPaymentIsValidUseCase.ensureOrderPaymentIsValid(id, orderStatusRequest.getStatus(),
-					paymentGateway, orderGateway);
+			EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(id, orderStatusRequest.getStatus(), payment,
+					orderGateway);
 
 			log.info("Atualizando status do pedido {} para {}", id, orderStatusRequest.getStatus());
 
-			var order = UpdateOrderStatusUseCase.updateOrderStatus(id, orderStatusRequest.getStatus(), orderGateway);
-			var updatedOrder = orderGateway.save(order);
+			var updatedOrder = UpdateOrderStatusUseCase.updateOrderStatus(id, orderStatusRequest.getStatus(),
+					orderGateway);
 
 			log.info("Status do pedido {} atualizado para {}", id, updatedOrder);
 
@@ -0,0 +1,67 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.controller;
+
+import com.soat.fiap.food.core.order.core.application.usecases.PublishOrderCanceledEventUseCase;
+import com.soat.fiap.food.core.order.core.application.usecases.PublishOrderReadyEventUseCase;
+import com.soat.fiap.food.core.order.core.application.usecases.UpdateOrderStatusUseCase;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.EventPublisherGateway;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller: Atualizar status do pedido a partir de um evento de pagamento.
+ * <p>
+ * Diferente de {@link UpdateOrderStatusController}, o pagamento não é
+ * consultado no microsserviço de pagamento: o próprio evento recebido já
+ * informa a situação do pagamento. O pedido é lido uma única vez, pelo caso de
+ * uso de atualização; em caso de conflito de concorrência é lançada
+ * {@link OrderStatusConflictException} e cabe ao chamador repetir a chamada em
+ * uma nova transação, que relê o pedido.
+ */
+@Slf4j
+public class UpdateOrderStatusFromEventController {
+
+	/**
+	 * Atualiza o status do pedido conforme o evento de pagamento recebido.
+	 * <p>
+	 * Se o pedido já possuir o status, o evento é considerado já aplicado e
+	 * ignorado.
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @param orderStatus
+	 *            Status do pedido determinado pelo evento
+	 * @param orderDataSource
+	 *            Origem de dados para o gateway de pedido
+	 * @param eventPublisherSource
+	 *            Origem de publicação de eventos
+	 */
+	public static void updateOrderStatus(Long id, OrderStatus orderStatus, OrderDataSource orderDataSource,
+			EventPublisherSource eventPublisherSource) {
+
+		var orderGateway = new OrderGateway(orderDataSource);
+		var eventPublisherGateway = new EventPublisherGateway(eventPublisherSource);
+
+		try {
+
+			log.info("Atualizando status do pedido {} para {} a partir de evento de pagamento", id, orderStatus);
+
+			var updatedOrder = UpdateOrderStatusUseCase.updateOrderStatus(id, orderStatus, orderGateway);
+
+			log.info("Status do pedido {} atualizado para {}", id, updatedOrder);
+
+			if (updatedOrder.getOrderStatus() == OrderStatus.CANCELLED) {
+				PublishOrderCanceledEventUseCase.publishOrderCanceledEvent(updatedOrder, eventPublisherGateway);
+			} else if (updatedOrder.getOrderStatus() == OrderStatus.READY) {
+				PublishOrderReadyEventUseCase.publishCreateOrderEvent(updatedOrder, eventPublisherGateway);
+			}
+		} catch (OrderAlreadyHasStatusException ex) {
+			log.info("Pedido {} já possui o status {}", id, orderStatus);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO utilizado para representar a posição (keyset) do último pedido de uma
+ * página de pedidos ativos. A próxima página começa imediatamente após a tupla
+ * (prioridade do status, data de criação, ID).
+ *
+ * @param statusPriority
+ *            Prioridade do status do último pedido da página
+ * @param createdAt
+ *            Data de criação do último pedido da página
+ * @param id
+ *            ID do último pedido da página
+ */
+public record ActiveOrdersCursorDTO(int statusPriority, LocalDateTime createdAt, Long id) {
+}
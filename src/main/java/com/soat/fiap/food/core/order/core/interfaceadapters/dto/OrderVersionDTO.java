@@ -0,0 +1,18 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO utilizado para representar a versão atual de um pedido, sem os seus
+ * itens. Permite responder requisições condicionais (ETag) sem carregar o
+ * agregado.
+ *
+ * @param id
+ *            ID do pedido
+ * @param version
+ *            Versão do pedido (incrementada a cada gravação)
+ * @param updatedAt
+ *            Data da última atualização do pedido
+ */
+public record OrderVersionDTO(Long id, Long version, LocalDateTime updatedAt) {
+}
@@ -13,6 +13,8 @@ import lombok.Data;
  */
 @Data
 public class OrderReadyEventDto {
+	// Não faz parte da mensagem (transient): usado apenas para ordenar os eventos do pedido
+	private transient Long orderId;
 	private String clientId;
 	private String orderNumber;
 	private BigDecimal amount;
@@ -0,0 +1,60 @@
+package com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderException;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+
+/**
+ * Mapper responsável por converter o cursor de paginação de pedidos ativos
+ * ({@link ActiveOrdersCursorDTO}) em um token opaco exposto aos clientes e
+ * vice-versa.
+ */
+public class ActiveOrdersCursorMapper {
+
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * Converte um {@link ActiveOrdersCursorDTO} em um token opaco (Base64 URL-safe).
+	 *
+	 * @param cursor
+	 *            Cursor a ser convertido
+	 * @return Token do cursor ou {@code null} se o cursor for nulo
+	 */
+	public static String toToken(ActiveOrdersCursorDTO cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		var raw = cursor.statusPriority() + SEPARATOR + cursor.createdAt() + SEPARATOR + cursor.id();
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Converte um token opaco em um {@link ActiveOrdersCursorDTO}.
+	 *
+	 * @param token
+	 *            Token do cursor
+	 * @return Cursor correspondente ou {@code null} se o token for nulo ou vazio
+	 * @throws OrderException
+	 *             se o token for inválido
+	 */
+	public static ActiveOrdersCursorDTO toCursor(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		try {
+			var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			var parts = raw.split("\\|");
+
+			return new ActiveOrdersCursorDTO(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]),
+					Long.parseLong(parts[2]));
+		} catch (RuntimeException ex) {
+			throw new OrderException("Cursor de paginação inválido: " + token, ex);
+		}
+	}
+}
@@ -37,6 +37,8 @@ public class OrderDTOMapper {
 			order.setAuditInfo(new AuditInfo(dto.createdAt(), dto.updatedAt()));
 		}
 
+		order.setVersion(dto.version());
+
 		return order;
 	}
 
@@ -57,6 +59,6 @@ public class OrderDTOMapper {
 				.toList();
 
 		return new OrderDTO(order.getId(), order.getUserId(), order.getOrderNumber(), order.getOrderStatus(),
-				order.getAmount(), itemDTOs, order.getCreatedAt(), order.getUpdatedAt());
+				order.getAmount(), itemDTOs, order.getCreatedAt(), order.getUpdatedAt(), order.getVersion());
 	}
 }
@@ -24,6 +24,7 @@ public class OrderReadyEventMapper {
 
 		OrderReadyEventDto dto = new OrderReadyEventDto();
 
+		dto.setOrderId(event.getOrderId());
 		dto.setClientId(event.getClientId());
 		dto.setOrderNumber(event.getOrderNumber());
 		dto.setAmount(event.getAmount());
@@ -5,7 +5,9 @@ import java.util.Optional;
 
 import com.soat.fiap.food.core.order.core.domain.model.Order;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
 
@@ -33,6 +35,29 @@ public class OrderGateway {
 		return OrderDTOMapper.toDomain(savedDTO);
 	}
 
+	/**
+	 * Persiste somente a transição de status do pedido, condicionada à versão e ao
+	 * status anteriores (compare-and-set), sem regravar o agregado. Em caso de
+	 * sucesso, a versão do pedido é incrementada.
+	 *
+	 * @param order
+	 *            Pedido com o novo status já aplicado
+	 * @param expectedStatus
+	 *            Status do pedido antes da transição
+	 * @return {@code true} se a transição foi gravada; {@code false} se o pedido
+	 *         foi alterado concorrentemente
+	 */
+	public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+		var updated = orderDataSource.updateStatus(order.getId(), order.getVersion(), expectedStatus,
+				order.getOrderStatus(), order.getUpdatedAt());
+
+		if (updated && order.getVersion() != null) {
+			order.setVersion(order.getVersion() + 1);
+		}
+
+		return updated;
+	}
+
 	/**
 	 * Busca um pedido pelo ID.
 	 *
@@ -43,6 +68,18 @@ public class OrderGateway {
 	public Optional<Order> findById(Long id) {
 		return orderDataSource.findById(id).map(OrderDTOMapper::toDomain);
 	}
+
+	/**
+	 * Busca a versão atual de um pedido pelo ID, sem carregar o agregado.
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @return Optional contendo a versão do pedido ou vazio se não encontrado
+	 */
+	public Optional<OrderVersionDTO> findVersionById(Long id) {
+		return orderDataSource.findVersionById(id);
+	}
+
 	/**
 	 * Lista todos os pedidos persistidos.
 	 *
@@ -95,4 +132,23 @@ public class OrderGateway {
 	public List<Order> findActiveOrdersSorted() {
 		return orderDataSource.findActiveOrdersSorted().stream().map(OrderDTOMapper::toDomain).toList();
 	}
+
+	/**
+	 * Busca uma página de pedidos ativos, na mesma ordem de
+	 * {@link #findActiveOrdersSorted()}, iniciando imediatamente após o cursor
+	 * informado.
+	 *
+	 * @param cursor
+	 *            Posição do último pedido da página anterior ou {@code null} para a
+	 *            primeira página
+	 * @param limit
+	 *            Quantidade máxima de pedidos
+	 * @return Lista de pedidos ativos da página
+	 */
+	public List<Order> findActiveOrdersSortedAfter(ActiveOrdersCursorDTO cursor, int limit) {
+		return orderDataSource.findActiveOrdersSortedAfter(cursor, limit)
+				.stream()
+				.map(OrderDTOMapper::toDomain)
+				.toList();
+	}
 }
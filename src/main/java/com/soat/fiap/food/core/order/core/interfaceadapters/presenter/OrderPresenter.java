@@ -2,7 +2,10 @@ package com.soat.fiap.food.core.order.core.interfaceadapters.presenter;
 
 import java.util.List;
 
+import com.soat.fiap.food.core.order.core.application.outputs.ActiveOrdersPageOutput;
 import com.soat.fiap.food.core.order.core.domain.model.Order;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.ActiveOrdersCursorMapper;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.ActiveOrdersPageResponse;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderItemResponse;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderStatusResponse;
@@ -28,7 +31,7 @@ public class OrderPresenter {
 
 		return new OrderResponse(order.getId(), order.getOrderNumber(), order.getOrderStatus(),
 				order.getOrderStatus().getDescription(), order.getUserId(), order.getAmount(), itemResponses,
-				order.getCreatedAt(), order.getUpdatedAt());
+				order.getCreatedAt(), order.getUpdatedAt(), order.getVersion());
 	}
 
 	/**
@@ -61,4 +64,21 @@ public class OrderPresenter {
 	public static List<OrderResponse> toListOrderResponse(List<Order> orders) {
 		return orders.stream().map(OrderPresenter::toOrderResponse).toList();
 	}
+
+	/**
+	 * Converte uma página de pedidos ativos ({@link ActiveOrdersPageOutput}) para
+	 * um {@link ActiveOrdersPageResponse}.
+	 *
+	 * @param page
+	 *            Página de pedidos ativos a ser convertida.
+	 * @return Um DTO {@link ActiveOrdersPageResponse} com os pedidos da página e o
+	 *         cursor da próxima página.
+	 */
+	public static ActiveOrdersPageResponse toActiveOrdersPageResponse(ActiveOrdersPageOutput page) {
+		return ActiveOrdersPageResponse.builder()
+				.orders(toListOrderResponse(page.orders()))
+				.nextCursor(ActiveOrdersCursorMapper.toToken(page.nextCursor()))
+				.hasNext(page.hasNext())
+				.build();
+	}
 }
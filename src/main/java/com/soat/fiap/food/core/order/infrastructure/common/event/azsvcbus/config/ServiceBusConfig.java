@@ -1,17 +1,18 @@
 package com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.azure.messaging.servicebus.ServiceBusClientBuilder;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
 
 /**
  * Classe de configuração do Azure Service Bus.
  * <p>
  */
-@Configuration
+@Configuration @EnableConfigurationProperties(ServiceBusProcessorProperties.class)
 public class ServiceBusConfig {
 
 	@Value("${azsvcbus.connection-string}")
@@ -44,17 +45,17 @@ public class ServiceBusConfig {
 	}
 
 	@Bean
-	public ServiceBusSenderClient orderCreatedSender(ServiceBusClientBuilder builder) {
-		return builder.sender().topicName(ORDER_CREATED_TOPIC).buildClient();
+	public ServiceBusSenderAsyncClient orderCreatedSender(ServiceBusClientBuilder builder) {
+		return builder.sender().topicName(ORDER_CREATED_TOPIC).buildAsyncClient();
 	}
 
 	@Bean
-	public ServiceBusSenderClient orderCanceledSender(ServiceBusClientBuilder builder) {
-		return builder.sender().queueName(ORDER_CANCELED_TOPIC).buildClient();
+	public ServiceBusSenderAsyncClient orderCanceledSender(ServiceBusClientBuilder builder) {
+		return builder.sender().queueName(ORDER_CANCELED_TOPIC).buildAsyncClient();
 	}
 
 	@Bean
-	public ServiceBusSenderClient orderReadySender(ServiceBusClientBuilder builder) {
-		return builder.sender().queueName(ORDER_READY_QUEUE).buildClient();
+	public ServiceBusSenderAsyncClient orderReadySender(ServiceBusClientBuilder builder) {
+		return builder.sender().queueName(ORDER_READY_QUEUE).buildAsyncClient();
 	}
 }
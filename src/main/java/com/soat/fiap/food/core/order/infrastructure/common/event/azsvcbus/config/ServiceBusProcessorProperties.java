@@ -0,0 +1,98 @@
+package com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder.ServiceBusProcessorClientBuilder;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuração de concorrência dos processadores do Azure Service Bus
+ * ({@code azsvcbus.processors}).
+ * <p>
+ * Cada listener é identificado por um nome (por exemplo
+ * {@code payment-approved}); valores não informados para o listener são lidos
+ * de {@code defaults} e, na ausência destes, mantêm o padrão do SDK (uma
+ * mensagem por vez, sem prefetch).
+ * </p>
+ */
+@ConfigurationProperties("azsvcbus.processors") @Getter @Setter
+public class ServiceBusProcessorProperties {
+
+	/** Configuração aplicada a todos os listeners. */
+	private Settings defaults = new Settings();
+
+	/** Configuração específica por listener. */
+	private Map<String, Settings> listeners = new HashMap<>();
+
+	/**
+	 * Aplica ao builder a concorrência, o prefetch e a renovação de lock do
+	 * listener informado.
+	 *
+	 * @param listener
+	 *            Nome do listener
+	 * @param builder
+	 *            Builder do processador
+	 * @return o mesmo builder, para encadeamento
+	 */
+	public ServiceBusProcessorClientBuilder apply(String listener, ServiceBusProcessorClientBuilder builder) {
+		var settings = resolve(listener);
+
+		if (settings.getMaxConcurrentCalls() != null) {
+			builder.maxConcurrentCalls(settings.getMaxConcurrentCalls());
+		}
+		if (settings.getPrefetchCount() != null) {
+			builder.prefetchCount(settings.getPrefetchCount());
+		}
+		if (settings.getMaxAutoLockRenewDuration() != null) {
+			builder.maxAutoLockRenewDuration(settings.getMaxAutoLockRenewDuration());
+		}
+		return builder;
+	}
+
+	/**
+	 * Combina a configuração do listener com a configuração padrão.
+	 *
+	 * @param listener
+	 *            Nome do listener
+	 * @return configuração efetiva do listener
+	 */
+	public Settings resolve(String listener) {
+		var specific = listeners.getOrDefault(listener, new Settings());
+
+		var settings = new Settings();
+		settings.setMaxConcurrentCalls(specific.getMaxConcurrentCalls() != null
+				? specific.getMaxConcurrentCalls()
+				: defaults.getMaxConcurrentCalls());
+		settings.setPrefetchCount(
+				specific.getPrefetchCount() != null ? specific.getPrefetchCount() : defaults.getPrefetchCount());
+		settings.setMaxAutoLockRenewDuration(specific.getMaxAutoLockRenewDuration() != null
+				? specific.getMaxAutoLockRenewDuration()
+				: defaults.getMaxAutoLockRenewDuration());
+		return settings;
+	}
+
+	/**
+	 * Configuração de um processador.
+	 */
+	@Getter @Setter
+	public static class Settings {
+
+		/** Quantidade de mensagens processadas em paralelo. */
+		private Integer maxConcurrentCalls;
+
+		/** Quantidade de mensagens buscadas antecipadamente do broker. */
+		private Integer prefetchCount;
+
+		/**
+		 * Tempo máximo de renovação automática do lock de uma mensagem em
+		 * processamento.
+		 */
+		private Duration maxAutoLockRenewDuration;
+	}
+}
@@ -0,0 +1,94 @@
+package com.soat.fiap.food.core.order.infrastructure.common.event.codec;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.azure.core.util.BinaryData;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Codec JSON dos eventos trocados pelo Service Bus.
+ * <p>
+ * Lê os eventos diretamente dos bytes da mensagem ({@link BinaryData}), sem
+ * converter o corpo para {@code String}. Os leitores e escritores de cada tipo
+ * são criados uma única vez e reutilizados; o acesso às propriedades usa
+ * acessores gerados em tempo de execução (Blackbird), em vez de reflexão, e os
+ * buffers de leitura e escrita são reaproveitados entre threads, inclusive
+ * virtual threads.
+ * </p>
+ * <p>
+ * O formato é compatível com o gerado pelo Gson: propriedades nulas e campos
+ * {@code transient} são omitidos, propriedades desconhecidas são ignoradas e
+ * datas são representadas no formato ISO-8601.
+ * </p>
+ */
+@Component
+public class EventCodec {
+
+	private final JsonMapper mapper;
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	public EventCodec() {
+		var factory = JsonFactory.builder().recyclerPool(JsonRecyclerPools.newConcurrentDequePool()).build();
+
+		this.mapper = JsonMapper.builder(factory)
+				.addModule(new JavaTimeModule())
+				.addModule(new BlackbirdModule())
+				.enable(MapperFeature.PROPAGATE_TRANSIENT_MARKER)
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.serializationInclusion(JsonInclude.Include.NON_NULL)
+				.build();
+	}
+
+	/**
+	 * Lê um evento do corpo de uma mensagem.
+	 *
+	 * @param body
+	 *            Corpo da mensagem
+	 * @param type
+	 *            Tipo do evento
+	 * @return Evento lido
+	 * @throws IllegalArgumentException
+	 *             se o corpo não for um JSON válido para o tipo informado
+	 */
+	public <T> T decode(BinaryData body, Class<T> type) {
+		try {
+			return readers.computeIfAbsent(type, mapper::readerFor).readValue(body.toBytes());
+		} catch (IOException ex) {
+			throw new IllegalArgumentException("Corpo de mensagem inválido para " + type.getSimpleName(), ex);
+		}
+	}
+
+	/**
+	 * Serializa um evento em JSON.
+	 *
+	 * @param event
+	 *            Evento a ser serializado
+	 * @return JSON do evento
+	 * @throws IllegalStateException
+	 *             se o evento não puder ser serializado
+	 */
+	public String encode(Object event) {
+		try {
+			return writers.computeIfAbsent(event.getClass(), mapper::writerFor).writeValueAsString(event);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Falha ao serializar o evento " + event.getClass().getSimpleName(), ex);
+		}
+	}
+}
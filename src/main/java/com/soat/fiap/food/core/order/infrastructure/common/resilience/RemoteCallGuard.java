@@ -0,0 +1,128 @@
+package com.soat.fiap.food.core.order.infrastructure.common.resilience;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Protege as chamadas síncronas aos microsserviços externos com Resilience4j.
+ * <p>
+ * Cada serviço (por exemplo {@code catalog} ou {@code payment}) tem suas
+ * próprias instâncias, configuradas em {@code resilience4j.*.instances}:
+ * <ul>
+ * <li>bulkhead de semáforo, que limita as chamadas simultâneas e rejeita as
+ * excedentes em vez de ocupar mais threads do Tomcat;</li>
+ * <li>circuit breaker, que rejeita as chamadas imediatamente enquanto o serviço
+ * estiver falhando;</li>
+ * <li>time limiter, que encerra a espera pela resposta após o tempo
+ * configurado.</li>
+ * </ul>
+ * As métricas ({@code resilience4j.circuitbreaker.*},
+ * {@code resilience4j.bulkhead.*} e {@code resilience4j.timelimiter.*}) são
+ * publicadas no Micrometer pelos registros do Resilience4j.
+ * </p>
+ * <p>
+ * A chamada é executada em uma virtual thread, para que o time limiter possa
+ * liberar a thread chamadora; o contexto de tracing e de log é propagado.
+ * </p>
+ * <p>
+ * O time limiter devolve a permissão do bulkhead ao expirar, mas a virtual
+ * thread continua bloqueada na leitura do socket até o tempo limite do cliente
+ * HTTP. Por isso o {@code connectTimeout} somado ao {@code readTimeout} do
+ * OpenFeign não deve exceder o tempo limite do serviço; o tempo limite do
+ * cliente é relatado como {@link TimeoutException}, assim como o do time
+ * limiter.
+ * </p>
+ */
+@Component @Slf4j
+public class RemoteCallGuard {
+
+	private final CircuitBreakerRegistry circuitBreakers;
+	private final BulkheadRegistry bulkheads;
+	private final TimeLimiterRegistry timeLimiters;
+	private final ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+	private final ExecutorService executor = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("remote-call-", 0).factory());
+
+	public RemoteCallGuard(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+			TimeLimiterRegistry timeLimiters) {
+		this.circuitBreakers = circuitBreakers;
+		this.bulkheads = bulkheads;
+		this.timeLimiters = timeLimiters;
+	}
+
+	/**
+	 * Executa a chamada ao serviço sob o bulkhead, o circuit breaker e o time
+	 * limiter do serviço.
+	 *
+	 * @param service
+	 *            Nome das instâncias do Resilience4j do serviço
+	 * @param call
+	 *            Chamada ao serviço
+	 * @return resultado da chamada
+	 * @throws TimeoutException
+	 *             se a chamada exceder o tempo limite do serviço ou o tempo de
+	 *             conexão ou de leitura do cliente HTTP
+	 * @throws io.github.resilience4j.bulkhead.BulkheadFullException
+	 *             se o limite de chamadas simultâneas for atingido
+	 * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException
+	 *             se o circuito estiver aberto
+	 * @throws RuntimeException
+	 *             a mesma exceção lançada pela chamada
+	 */
+	public <T> T call(String service, Supplier<T> call) throws TimeoutException {
+		Callable<T> task = snapshots.captureAll().wrap(call::get);
+		Callable<T> limited = TimeLimiter.decorateFutureSupplier(timeLimiters.timeLimiter(service),
+				() -> executor.submit(task));
+		Callable<T> guarded = Bulkhead.decorateCallable(bulkheads.bulkhead(service),
+				CircuitBreaker.decorateCallable(circuitBreakers.circuitBreaker(service), limited));
+
+		try {
+			return guarded.call();
+		} catch (TimeoutException ex) {
+			throw ex;
+		} catch (RuntimeException ex) {
+			if (isSocketTimeout(ex)) {
+				var timeout = new TimeoutException("Tempo limite do cliente HTTP excedido no serviço " + service);
+				timeout.initCause(ex);
+				throw timeout;
+			}
+			throw ex;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrompido aguardando o serviço " + service, ex);
+		} catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static boolean isSocketTimeout(Throwable ex) {
+		for (var cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+		log.debug("Executor de chamadas a serviços externos encerrado");
+	}
+}
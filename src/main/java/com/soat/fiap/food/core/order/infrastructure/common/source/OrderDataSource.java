@@ -1,10 +1,13 @@
 package com.soat.fiap.food.core.order.infrastructure.common.source;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
 
 /**
  * DataSource para persistência de pedidos
@@ -20,6 +23,27 @@ public interface OrderDataSource {
 	 */
 	OrderDTO save(OrderDTO orderDTO);
 
+	/**
+	 * Atualiza o status de um pedido em um único comando condicional, somente se a
+	 * versão e o status persistidos ainda forem os esperados. A versão do pedido é
+	 * incrementada.
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @param expectedVersion
+	 *            Versão lida antes da transição
+	 * @param expectedStatus
+	 *            Status lido antes da transição
+	 * @param newStatus
+	 *            Novo status
+	 * @param updatedAt
+	 *            Data de atualização do pedido
+	 * @return {@code true} se o status foi atualizado; {@code false} se o pedido
+	 *         não existe ou foi alterado concorrentemente
+	 */
+	boolean updateStatus(Long id, Long expectedVersion, OrderStatus expectedStatus, OrderStatus newStatus,
+			LocalDateTime updatedAt);
+
 	/**
 	 * Busca um pedido por ID
 	 *
@@ -29,6 +53,16 @@ public interface OrderDataSource {
 	 */
 	Optional<OrderDTO> findById(Long id);
 
+	/**
+	 * Busca somente a versão e a data de atualização de um pedido por ID, sem
+	 * carregar o pedido e seus itens
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @return Optional contendo a versão do pedido ou vazio se não encontrado
+	 */
+	Optional<OrderVersionDTO> findVersionById(Long id);
+
 	/**
 	 * Busca pedidos por status
 	 *
@@ -72,4 +106,18 @@ public interface OrderDataSource {
 	 */
 	List<OrderDTO> findActiveOrdersSorted();
 
+	/**
+	 * Busca uma página de pedidos ativos, na mesma ordem de
+	 * {@link #findActiveOrdersSorted()}, iniciando imediatamente após o cursor
+	 * informado (paginação keyset).
+	 *
+	 * @param cursor
+	 *            Posição do último pedido da página anterior ou {@code null} para a
+	 *            primeira página
+	 * @param limit
+	 *            Quantidade máxima de pedidos
+	 * @return Pedidos ativos da página
+	 */
+	List<OrderDTO> findActiveOrdersSortedAfter(ActiveOrdersCursorDTO cursor, int limit);
+
 }
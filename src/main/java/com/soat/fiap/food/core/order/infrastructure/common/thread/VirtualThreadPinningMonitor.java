@@ -0,0 +1,83 @@
+package com.soat.fiap.food.core.order.infrastructure.common.thread;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detecta virtual threads fixadas (pinned) à thread carrier.
+ * <p>
+ * Uma virtual thread bloqueada dentro de um bloco {@code synchronized} (ou em
+ * código nativo) não libera a carrier, reduzindo o paralelismo ao número de
+ * núcleos. O monitor acompanha o evento JFR {@code jdk.VirtualThreadPinned} em
+ * streaming e, para bloqueios acima do limite configurado, registra a pilha
+ * responsável no log e a duração na métrica {@code jvm.threads.virtual.pinned}.
+ * </p>
+ * <p>
+ * Ativo somente com {@code spring.threads.virtual.enabled=true}.
+ * </p>
+ */
+@Component @ConditionalOnThreading(Threading.VIRTUAL) @Slf4j
+public class VirtualThreadPinningMonitor {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final String METRIC_PINNED = "jvm.threads.virtual.pinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final RecordingStream recording;
+	private final Timer pinned;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+			@Value("${order.virtual-threads.pinning-threshold:PT20MS}") Duration threshold) {
+		this.pinned = Timer.builder(METRIC_PINNED)
+				.description("Tempo em que virtual threads permaneceram fixadas à carrier")
+				.register(meterRegistry);
+
+		this.recording = new RecordingStream();
+		recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recording.onEvent(PINNED_EVENT, this::onPinned);
+	}
+
+	@PostConstruct
+	public void start() {
+		recording.startAsync();
+		log.info("Monitoramento de virtual threads fixadas à carrier iniciado");
+	}
+
+	@PreDestroy
+	public void stop() {
+		recording.close();
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.record(event.getDuration());
+
+		var stackTrace = event.getStackTrace() == null
+				? "pilha indisponível"
+				: event.getStackTrace()
+						.getFrames()
+						.stream()
+						.limit(LOGGED_FRAMES)
+						.map(VirtualThreadPinningMonitor::format)
+						.collect(Collectors.joining(" <- "));
+		log.warn("Virtual thread fixada à carrier por {} ms: {}", event.getDuration().toMillis(), stackTrace);
+	}
+
+	private static String format(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+				+ frame.getLineNumber();
+	}
+}
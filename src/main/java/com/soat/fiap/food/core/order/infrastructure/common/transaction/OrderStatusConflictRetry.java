@@ -0,0 +1,100 @@
+package com.soat.fiap.food.core.order.infrastructure.common.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Política de novas tentativas para transições de status que falham por
+ * alteração concorrente do pedido ({@link OrderStatusConflictException}).
+ * <p>
+ * Cada tentativa é executada em uma transação própria, que relê o pedido e
+ * revalida a transição pelas regras do domínio. Em caso de conflito a
+ * transação é desfeita e a conexão devolvida ao pool antes da espera, de modo
+ * que o intervalo entre as tentativas, limitado e exponencial com jitter, não
+ * retenha conexões nem locks. Por isso deve ser chamada fora de transação.
+ */
+@Component @Slf4j
+public class OrderStatusConflictRetry {
+
+	public static final int MAX_ATTEMPTS = 3;
+	private static final long BASE_BACKOFF_MILLIS = 10;
+
+	private final TransactionTemplate transactionTemplate;
+
+	public OrderStatusConflictRetry(TransactionTemplate transactionTemplate) {
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Executa a operação em uma nova transação, repetindo-a enquanto houver
+	 * conflito de concorrência e o limite de tentativas não for atingido.
+	 *
+	 * @param orderId
+	 *            ID do pedido
+	 * @param operation
+	 *            Operação de leitura, validação e gravação da transição
+	 * @return Resultado da operação
+	 * @throws OrderStatusConflictException
+	 *             se o conflito persistir após {@link #MAX_ATTEMPTS} tentativas
+	 * @throws IllegalStateException
+	 *             se chamada dentro de uma transação
+	 */
+	public <T> T execute(Long orderId, Supplier<T> operation) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException("Novas tentativas do pedido " + orderId
+					+ " devem envolver a transação, não ser executadas nela");
+		}
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> operation.get());
+			} catch (OrderStatusConflictException ex) {
+				if (attempt >= MAX_ATTEMPTS) {
+					log.warn("Conflito de concorrência no pedido {} persistiu após {} tentativas", orderId, attempt);
+					throw ex;
+				}
+
+				log.info("Conflito de concorrência no pedido {}. Nova tentativa ({}/{})", orderId, attempt + 1,
+						MAX_ATTEMPTS);
+				backoff(orderId, attempt, ex);
+			}
+		}
+	}
+
+	/**
+	 * Executa a operação sem resultado em uma nova transação, com as mesmas
+	 * novas tentativas de {@link #execute(Long, Supplier)}.
+	 *
+	 * @param orderId
+	 *            ID do pedido
+	 * @param operation
+	 *            Operação de leitura, validação e gravação da transição
+	 */
+	public void run(Long orderId, Runnable operation) {
+		execute(orderId, () -> {
+			operation.run();
+			return null;
+		});
+	}
+
+	private static void backoff(Long orderId, int attempt, OrderStatusConflictException cause) {
+		var maxDelay = BASE_BACKOFF_MILLIS << (attempt - 1);
+		var delay = ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1);
+
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OrderStatusConflictException(
+					String.format("Nova tentativa de atualização do pedido %d interrompida", orderId), cause);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Despacha o processamento de eventos de pedido em faixas (stripes) por
+ * {@code orderId}.
+ * <p>
+ * Cada faixa é uma fila com uma única thread: eventos de um mesmo pedido caem
+ * sempre na mesma faixa e são processados em sequência, na ordem de chegada,
+ * enquanto pedidos de faixas diferentes são processados em paralelo. Assim, o
+ * aumento da concorrência dos processadores do Service Bus não faz os handlers
+ * disputarem o mesmo pedido.
+ * </p>
+ * <p>
+ * A thread do processador aguarda o término do handler, preservando a
+ * confirmação ({@code complete}) ou o abandono da mensagem conforme o
+ * resultado.
+ * </p>
+ * <p>
+ * Com {@code spring.threads.virtual.enabled=true}, cada faixa executa os
+ * handlers em uma virtual thread, que libera a carrier enquanto aguarda o
+ * banco ou as chamadas HTTP.
+ * </p>
+ */
+@Component @Slf4j
+public class OrderEventDispatcher {
+
+	private static final String METRIC_QUEUE_DEPTH = "order.events.dispatcher.queue.depth";
+
+	private final ExecutorService[] stripes;
+	private final AtomicInteger[] depths;
+
+	public OrderEventDispatcher(@Value("${order.events.dispatcher.stripes:16}") int stripeCount,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads, MeterRegistry meterRegistry) {
+		this.stripes = new ExecutorService[stripeCount];
+		this.depths = new AtomicInteger[stripeCount];
+
+		for (int i = 0; i < stripeCount; i++) {
+			var stripe = i;
+			Thread.Builder threads = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+			stripes[i] = Executors.newSingleThreadExecutor(threads.name("order-events-" + i).factory());
+			depths[i] = new AtomicInteger();
+
+			Gauge.builder(METRIC_QUEUE_DEPTH, depths[i], AtomicInteger::get)
+					.description("Eventos de pedido aguardando ou em processamento na faixa")
+					.tag("stripe", String.valueOf(stripe))
+					.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Processa o evento na faixa do pedido e aguarda o término.
+	 *
+	 * @param orderId
+	 *            ID do pedido ao qual o evento se refere; eventos sem pedido são
+	 *            processados na thread chamadora
+	 * @param handler
+	 *            Processamento do evento
+	 * @throws RuntimeException
+	 *             a mesma exceção lançada pelo handler
+	 */
+	public void dispatch(Long orderId, Runnable handler) {
+		if (orderId == null) {
+			handler.run();
+			return;
+		}
+
+		var stripe = stripeOf(orderId);
+		depths[stripe].incrementAndGet();
+		try {
+			stripes[stripe].submit(() -> {
+				try {
+					handler.run();
+				} finally {
+					depths[stripe].decrementAndGet();
+				}
+			}).get();
+		} catch (RejectedExecutionException ex) {
+			depths[stripe].decrementAndGet();
+			throw ex;
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrompido aguardando o evento do pedido " + orderId, ex);
+		}
+	}
+
+	/**
+	 * Faixa responsável pelo pedido.
+	 *
+	 * @param orderId
+	 *            ID do pedido
+	 * @return índice da faixa
+	 */
+	int stripeOf(Long orderId) {
+		return Math.floorMod(Long.hashCode(orderId), stripes.length);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (var stripe : stripes) {
+			stripe.shutdown();
+		}
+		log.debug("Faixas de processamento de eventos de pedido encerradas");
+	}
+}
@@ -0,0 +1,115 @@
+package com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderProcessedMessageRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de mensagens recebidas já processadas (consumidor idempotente).
+ * <p>
+ * O Service Bus entrega cada mensagem ao menos uma vez. Antes de executar o
+ * handler, o {@code messageId} é registrado na tabela
+ * {@code order_processed_message}, na mesma transação do processamento: se o
+ * handler falhar, o registro é desfeito e a redelivery é processada
+ * normalmente; se a mensagem já estiver registrada, ela é confirmada sem
+ * executar o handler.
+ * <p>
+ * As mensagens confirmadas mais recentes ficam também em memória (Caffeine,
+ * limitado por tamanho), evitando a ida ao banco nas redeliveries mais comuns.
+ */
+@Component @Slf4j
+public class ProcessedMessageStore {
+
+	private static final String METRIC_DUPLICATES = "order.events.duplicates";
+
+	private final SpringDataOrderProcessedMessageRepository repository;
+	private final MeterRegistry meterRegistry;
+	private final Duration retention;
+	private final Cache<String, Boolean> recent;
+
+	public ProcessedMessageStore(SpringDataOrderProcessedMessageRepository repository, MeterRegistry meterRegistry,
+			@Value("${order.inbox.maximum-size:10000}") long maximumSize,
+			@Value("${order.inbox.retention:P7D}") Duration retention) {
+		this.repository = repository;
+		this.meterRegistry = meterRegistry;
+		this.retention = retention;
+		this.recent = Caffeine.newBuilder().maximumSize(maximumSize).build();
+	}
+
+	/**
+	 * Executa o handler somente se a mensagem ainda não tiver sido processada pelo
+	 * consumidor.
+	 *
+	 * @param consumer
+	 *            Nome do listener que processa a mensagem
+	 * @param messageId
+	 *            messageId da mensagem no Service Bus; mensagens sem ID são sempre
+	 *            processadas
+	 * @param handler
+	 *            Processamento da mensagem, executado na mesma transação do
+	 *            registro
+	 * @return {@code true} se o handler foi executado, {@code false} se a mensagem
+	 *         é uma redelivery já processada
+	 */
+	@Transactional
+	public boolean processOnce(String consumer, String messageId, Runnable handler) {
+		if (messageId == null) {
+			handler.run();
+			return true;
+		}
+
+		var key = consumer + ":" + messageId;
+		if (recent.getIfPresent(key) != null || repository.claim(consumer, messageId) == 0) {
+			recent.put(key, Boolean.TRUE);
+			meterRegistry.counter(METRIC_DUPLICATES, "consumer", consumer).increment();
+			log.info("Mensagem {} já processada por {}, descartando redelivery", messageId, consumer);
+			return false;
+		}
+
+		handler.run();
+		afterCommit(() -> recent.put(key, Boolean.TRUE));
+		return true;
+	}
+
+	/**
+	 * Remove os registros de mensagens processadas há mais tempo que a retenção
+	 * configurada, período após o qual o Service Bus não faz mais redeliveries.
+	 */
+	@Scheduled(fixedDelayString = "${order.inbox.purge-interval:PT1H}")
+	public void purge() {
+		try {
+			var removed = repository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+			log.debug("Registros de mensagens processadas removidos: {}", removed);
+		} catch (DataAccessException ex) {
+			log.warn("Falha ao remover registros de mensagens processadas: {}", ex.getMessage());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -6,9 +6,13 @@ import org.springframework.context.annotation.Configuration;
 import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
 import com.azure.messaging.servicebus.models.SubQueue;
-import com.google.gson.Gson;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCreatedEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusProcessorProperties;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
 import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.catalog.handlers.StockDebitErrorHandler;
 
 import jakarta.transaction.Transactional;
@@ -25,20 +29,28 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration @Slf4j @RequiredArgsConstructor @Transactional
 public class StockDebitErrorListenerConfig {
 
-	private final Gson gson;
+	private final EventCodec eventCodec;
+	private final ServiceBusProcessorProperties processorProperties;
+	private final OrderEventDispatcher orderEventDispatcher;
+	private final ProcessedMessageStore processedMessageStore;
+	private final OrderStatusConflictRetry orderStatusConflictRetry;
 	private final StockDebitErrorHandler stockDebitErrorHandler;
 
 	@Bean
 	public ServiceBusProcessorClient stockDebitErrorServiceBusProcessorClient(ServiceBusClientBuilder builder) {
 
-		return builder.processor()
+		return processorProperties.apply("stock-debit-error", builder.processor())
 				.topicName(ServiceBusConfig.ORDER_CREATED_TOPIC)
 				.subscriptionName(ServiceBusConfig.CATALOG_ORDER_CREATED_TOPIC_SUBSCRIPTION)
 				.subQueue(SubQueue.DEAD_LETTER_QUEUE)
 				.processMessage(context -> {
-					OrderCreatedEventDto event = gson.fromJson(context.getMessage().getBody().toString(),
+					OrderCreatedEventDto event = eventCodec.decode(context.getMessage().getBody(),
 							OrderCreatedEventDto.class);
-					stockDebitErrorHandler.handle(event);
+					var messageId = context.getMessage().getMessageId();
+					var orderId = event.getId();
+					orderEventDispatcher.dispatch(orderId, () -> orderStatusConflictRetry.run(orderId,
+							() -> processedMessageStore.processOnce("stock-debit-error", messageId,
+									() -> stockDebitErrorHandler.handle(event))));
 				})
 				.processError(context -> log.error("Erro ao processar evento de erro no débito de estoque",
 						context.getException()))
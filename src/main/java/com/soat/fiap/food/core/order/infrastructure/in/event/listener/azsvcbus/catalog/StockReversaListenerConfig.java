@@ -6,9 +6,13 @@ import org.springframework.context.annotation.Configuration;
 import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
 import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
-import com.google.gson.Gson;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.StockReversalEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusProcessorProperties;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
 import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.catalog.handlers.StockReversalHandler;
 
 import jakarta.transaction.Transactional;
@@ -26,19 +30,27 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration @Slf4j @RequiredArgsConstructor @Transactional
 public class StockReversaListenerConfig {
 
-	private final Gson gson;
+	private final EventCodec eventCodec;
+	private final ServiceBusProcessorProperties processorProperties;
+	private final OrderEventDispatcher orderEventDispatcher;
+	private final ProcessedMessageStore processedMessageStore;
+	private final OrderStatusConflictRetry orderStatusConflictRetry;
 	private final StockReversalHandler stockReversalHandler;
 
 	@Bean
 	public ServiceBusProcessorClient stockReversalServiceBusProcessorClient(ServiceBusClientBuilder builder) {
 
-		return builder.processor()
+		return processorProperties.apply("stock-reversal", builder.processor())
 				.queueName(ServiceBusConfig.STOCK_REVERSAL_QUEUE)
 				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
 				.processMessage(context -> {
-					StockReversalEventDto event = gson.fromJson(context.getMessage().getBody().toString(),
+					StockReversalEventDto event = eventCodec.decode(context.getMessage().getBody(),
 							StockReversalEventDto.class);
-					stockReversalHandler.handle(event);
+					var messageId = context.getMessage().getMessageId();
+					var orderId = event.getOrderId();
+					orderEventDispatcher.dispatch(orderId, () -> orderStatusConflictRetry.run(orderId,
+							() -> processedMessageStore.processOnce("stock-reversal", messageId,
+									() -> stockReversalHandler.handle(event))));
 				})
 				.processError(
 						context -> log.error("Erro ao processar evento de estorno de estoque", context.getException()))
@@ -0,0 +1,354 @@
+package com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.deadletter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverClient;
+import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import com.azure.messaging.servicebus.models.SubQueue;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentApprovedEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentExpiredEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.StockReversalEventDto;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.catalog.handlers.StockReversalHandler;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentApprovedHandler;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentExpiredHandler;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.DeadLetterReplayResponse;
+import com.soat.fiap.food.core.shared.core.domain.exceptions.ResourceNotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inspeção e reprocessamento das dead-letter queues dos eventos recebidos.
+ * <p>
+ * As mensagens são lidas da dead-letter da fila e reprocessadas pelos mesmos
+ * handlers dos listeners, passando pelas faixas por pedido
+ * ({@link OrderEventDispatcher}) e pelo consumidor idempotente
+ * ({@link ProcessedMessageStore}): mensagens já processadas antes de irem para
+ * a dead-letter são apenas removidas.
+ * </p>
+ * <p>
+ * O ritmo é limitado a {@code rate} mensagens por segundo, com no máximo
+ * {@code parallelism} mensagens em processamento, evitando que a recuperação de
+ * um incidente sobrecarregue o banco; os valores informados são limitados por
+ * {@code order.dead-letter.max-rate} e {@code order.dead-letter.max-parallelism}.
+ * Mensagens reprocessadas (ou duplicadas) são removidas da dead-letter;
+ * mensagens inválidas ou com falha permanecem nela.
+ * </p>
+ * <p>
+ * Cada mensagem é processada no máximo uma vez por reprocessamento: as
+ * mensagens mantidas na dead-letter voltam a ser recebidas, e são reconhecidas
+ * pelo número de sequência e devolvidas sem novo processamento. O
+ * reprocessamento termina quando só restarem mensagens já vistas.
+ * </p>
+ */
+@Component @Slf4j
+public class DeadLetterReplayer {
+
+	/** Resultado do reprocessamento de uma mensagem. */
+	public enum Outcome {
+		/** Reprocessada com sucesso. */
+		REPLAYED,
+		/** Já processada anteriormente; removida sem reprocessar. */
+		DUPLICATE,
+		/** Corpo inválido para o evento da fila. */
+		MALFORMED,
+		/** Falha no handler. */
+		FAILED,
+		/** Válida para reprocessamento (inspeção). */
+		REPLAYABLE
+	}
+
+	private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(5);
+	private static final int MAX_REPORTED_FAILURES = 20;
+
+	private final ServiceBusClientBuilder serviceBusClientBuilder;
+	private final EventCodec eventCodec;
+	private final OrderEventDispatcher orderEventDispatcher;
+	private final ProcessedMessageStore processedMessageStore;
+	private final OrderStatusConflictRetry orderStatusConflictRetry;
+	private final int defaultRate;
+	private final int defaultParallelism;
+	private final int defaultMaxMessages;
+	private final int maxRate;
+	private final int maxParallelism;
+	private final boolean virtualThreads;
+	private final Map<String, Target<?>> targets;
+
+	public DeadLetterReplayer(ServiceBusClientBuilder serviceBusClientBuilder, EventCodec eventCodec,
+			OrderEventDispatcher orderEventDispatcher, ProcessedMessageStore processedMessageStore,
+			OrderStatusConflictRetry orderStatusConflictRetry, PaymentApprovedHandler paymentApprovedHandler,
+			PaymentExpiredHandler paymentExpiredHandler, StockReversalHandler stockReversalHandler,
+			@Value("${order.dead-letter.rate:20}") int defaultRate,
+			@Value("${order.dead-letter.parallelism:4}") int defaultParallelism,
+			@Value("${order.dead-letter.max-messages:1000}") int defaultMaxMessages,
+			@Value("${order.dead-letter.max-rate:100}") int maxRate,
+			@Value("${order.dead-letter.max-parallelism:16}") int maxParallelism,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.serviceBusClientBuilder = serviceBusClientBuilder;
+		this.eventCodec = eventCodec;
+		this.orderEventDispatcher = orderEventDispatcher;
+		this.processedMessageStore = processedMessageStore;
+		this.orderStatusConflictRetry = orderStatusConflictRetry;
+		this.defaultRate = defaultRate;
+		this.defaultParallelism = defaultParallelism;
+		this.defaultMaxMessages = defaultMaxMessages;
+		this.maxRate = maxRate;
+		this.maxParallelism = maxParallelism;
+		this.virtualThreads = virtualThreads;
+		this.targets = Map.of(ServiceBusConfig.PAYMENT_APPROVED_QUEUE,
+				new Target<>("payment-approved", PaymentApprovedEventDto.class, PaymentApprovedEventDto::getOrderId,
+						paymentApprovedHandler::handle),
+				ServiceBusConfig.PAYMENT_EXPIRED_QUEUE,
+				new Target<>("payment-expired", PaymentExpiredEventDto.class, PaymentExpiredEventDto::getOrderId,
+						paymentExpiredHandler::handle),
+				ServiceBusConfig.STOCK_REVERSAL_QUEUE, new Target<>("stock-reversal", StockReversalEventDto.class,
+						StockReversalEventDto::getOrderId, stockReversalHandler::handle));
+	}
+
+	/**
+	 * Lê as mensagens da dead-letter sem removê-las, classificando-as pelo motivo
+	 * de dead-letter e pela validade do corpo.
+	 *
+	 * @param queue
+	 *            Fila cuja dead-letter será lida
+	 * @param maxMessages
+	 *            Quantidade máxima de mensagens (padrão da configuração se nulo)
+	 * @return Resumo da inspeção
+	 */
+	public DeadLetterReplayResponse inspect(String queue, Integer maxMessages) {
+		var target = target(queue);
+		var max = positiveOrDefault(maxMessages, defaultMaxMessages);
+		var summary = new Summary(queue, true);
+
+		try (var receiver = deadLetterReceiver(queue)) {
+			while (summary.messages() < max) {
+				var peeked = 0;
+				for (var message : receiver.peekMessages(Math.min(100, max - summary.messages()))) {
+					peeked++;
+					summary.received(message);
+					summary.record(decode(target, message) != null ? Outcome.REPLAYABLE : Outcome.MALFORMED);
+				}
+				if (peeked == 0) {
+					break;
+				}
+			}
+		}
+		return summary.toResponse();
+	}
+
+	/**
+	 * Reprocessa as mensagens da dead-letter pelos handlers da fila.
+	 *
+	 * @param queue
+	 *            Fila cuja dead-letter será reprocessada
+	 * @param rate
+	 *            Mensagens por segundo (padrão da configuração se nulo), limitado
+	 *            a {@code order.dead-letter.max-rate}
+	 * @param parallelism
+	 *            Mensagens em processamento simultâneo (padrão da configuração se
+	 *            nulo), limitado a {@code order.dead-letter.max-parallelism}
+	 * @param maxMessages
+	 *            Quantidade máxima de mensagens (padrão da configuração se nulo)
+	 * @return Resumo do reprocessamento
+	 */
+	public DeadLetterReplayResponse replay(String queue, Integer rate, Integer parallelism, Integer maxMessages) {
+		var target = target(queue);
+		var messagesPerSecond = Math.min(positiveOrDefault(rate, defaultRate), maxRate);
+		var interval = TimeUnit.SECONDS.toNanos(1) / messagesPerSecond;
+		var slots = Math.min(positiveOrDefault(parallelism, defaultParallelism), maxParallelism);
+		var max = positiveOrDefault(maxMessages, defaultMaxMessages);
+		var summary = new Summary(queue, false);
+		var inFlight = new Semaphore(slots);
+		var seen = new HashSet<Long>();
+
+		log.info("Reprocessando dead-letter de {}: até {} mensagens, {} por segundo, {} em paralelo", queue, max,
+				messagesPerSecond, slots);
+
+		try (var receiver = deadLetterReceiver(queue); var executor = replayExecutor(slots)) {
+			var next = System.nanoTime();
+			while (summary.messages() < max) {
+				var received = 0;
+				for (var message : receiver.receiveMessages(Math.min(slots, max - summary.messages()),
+						RECEIVE_TIMEOUT)) {
+					if (!seen.add(message.getSequenceNumber())) {
+						receiver.abandon(message);
+						continue;
+					}
+					received++;
+					summary.received(message);
+
+					TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+					next = Math.max(next, System.nanoTime()) + interval;
+					inFlight.acquire();
+					executor.execute(() -> {
+						try {
+							settle(receiver, message, summary, replay(target, message));
+						} catch (RuntimeException ex) {
+							summary.failed(message, ex);
+							settle(receiver, message, summary, Outcome.FAILED);
+						} finally {
+							inFlight.release();
+						}
+					});
+				}
+				if (received == 0) {
+					break;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			log.warn("Reprocessamento da dead-letter de {} interrompido", queue);
+		}
+
+		var response = summary.toResponse();
+		log.info("Reprocessamento da dead-letter de {} concluído: {}", queue, response.getOutcomes());
+		return response;
+	}
+
+	private ExecutorService replayExecutor(int slots) {
+		Thread.Builder threads = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform();
+		var factory = threads.name("dead-letter-replay-", 0).factory();
+		return virtualThreads
+				? Executors.newThreadPerTaskExecutor(factory)
+				: Executors.newFixedThreadPool(slots, factory);
+	}
+
+	private <T> Outcome replay(Target<T> target, ServiceBusReceivedMessage message) {
+		var event = decode(target, message);
+		if (event == null) {
+			return Outcome.MALFORMED;
+		}
+
+		var processed = new AtomicBoolean();
+		var orderId = target.orderId().apply(event);
+		orderEventDispatcher.dispatch(orderId,
+				() -> processed.set(orderStatusConflictRetry.execute(orderId,
+						() -> processedMessageStore.processOnce(target.consumer(), message.getMessageId(),
+								() -> target.handler().accept(event)))));
+		return processed.get() ? Outcome.REPLAYED : Outcome.DUPLICATE;
+	}
+
+	private void settle(ServiceBusReceiverClient receiver, ServiceBusReceivedMessage message, Summary summary,
+			Outcome outcome) {
+		summary.record(outcome);
+		if (outcome == Outcome.REPLAYED || outcome == Outcome.DUPLICATE) {
+			receiver.complete(message);
+		} else {
+			receiver.abandon(message);
+		}
+	}
+
+	private <T> T decode(Target<T> target, ServiceBusReceivedMessage message) {
+		try {
+			return eventCodec.decode(message.getBody(), target.type());
+		} catch (IllegalArgumentException ex) {
+			log.debug("Mensagem {} inválida na dead-letter: {}", message.getMessageId(), ex.getMessage());
+			return null;
+		}
+	}
+
+	private Target<?> target(String queue) {
+		var target = targets.get(queue);
+		if (target == null) {
+			throw new ResourceNotFoundException("Fila sem reprocessamento de dead-letter: " + queue);
+		}
+		return target;
+	}
+
+	private ServiceBusReceiverClient deadLetterReceiver(String queue) {
+		return serviceBusClientBuilder.receiver()
+				.queueName(queue)
+				.subQueue(SubQueue.DEAD_LETTER_QUEUE)
+				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
+				.disableAutoComplete()
+				.buildClient();
+	}
+
+	private static int positiveOrDefault(Integer value, int defaultValue) {
+		return value != null && value > 0 ? value : defaultValue;
+	}
+
+	/**
+	 * Fila reprocessável: consumidor, tipo do evento, pedido e handler.
+	 */
+	private record Target<T>(String consumer, Class<T> type, Function<T, Long> orderId, Consumer<T> handler) {
+	}
+
+	/**
+	 * Contadores da inspeção ou do reprocessamento, atualizados em paralelo.
+	 */
+	private static final class Summary {
+
+		private final String queue;
+		private final boolean dryRun;
+		private final long startedAt = System.nanoTime();
+		private final Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+		private final Map<String, Integer> deadLetterReasons = new ConcurrentHashMap<>();
+		private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+		private int messages;
+
+		Summary(String queue, boolean dryRun) {
+			this.queue = queue;
+			this.dryRun = dryRun;
+		}
+
+		int messages() {
+			return messages;
+		}
+
+		void received(ServiceBusReceivedMessage message) {
+			messages++;
+			var reason = message.getDeadLetterReason() != null ? message.getDeadLetterReason() : "UNKNOWN";
+			deadLetterReasons.merge(reason, 1, Integer::sum);
+		}
+
+		void record(Outcome outcome) {
+			outcomes.merge(outcome.name(), 1, Integer::sum);
+		}
+
+		void failed(ServiceBusReceivedMessage message, RuntimeException ex) {
+			log.warn("Falha ao reprocessar a mensagem {} da dead-letter de {}: {}", message.getMessageId(), queue,
+					ex.getMessage());
+			synchronized (failures) {
+				if (failures.size() < MAX_REPORTED_FAILURES) {
+					failures.add(message.getMessageId() + ": " + ex.getMessage());
+				}
+			}
+		}
+
+		DeadLetterReplayResponse toResponse() {
+			return DeadLetterReplayResponse.builder()
+					.queue(queue)
+					.dryRun(dryRun)
+					.messages(messages)
+					.outcomes(new TreeMap<>(outcomes))
+					.deadLetterReasons(new TreeMap<>(deadLetterReasons))
+					.failures(List.copyOf(failures))
+					.elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+					.build();
+		}
+	}
+}
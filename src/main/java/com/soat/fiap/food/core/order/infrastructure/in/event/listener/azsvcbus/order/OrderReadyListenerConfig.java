@@ -6,9 +6,10 @@ import org.springframework.context.annotation.Configuration;
 import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
 import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
-import com.google.gson.Gson;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderReadyEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusProcessorProperties;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
 import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.order.handlers.OrderReadyHandler;
 
 import jakarta.transaction.Transactional;
@@ -25,17 +26,18 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration @Slf4j @RequiredArgsConstructor @Transactional
 public class OrderReadyListenerConfig {
 
-	private final Gson gson;
+	private final EventCodec eventCodec;
+	private final ServiceBusProcessorProperties processorProperties;
 	private final OrderReadyHandler orderReadyHandler;
 
 	@Bean
 	public ServiceBusProcessorClient orderReadyServiceBusProcessorClient(ServiceBusClientBuilder builder) {
 
-		return builder.processor()
+		return processorProperties.apply("order-ready", builder.processor())
 				.queueName(ServiceBusConfig.ORDER_READY_QUEUE)
 				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
 				.processMessage(context -> {
-					OrderReadyEventDto event = gson.fromJson(context.getMessage().getBody().toString(),
+					OrderReadyEventDto event = eventCodec.decode(context.getMessage().getBody(),
 							OrderReadyEventDto.class);
 					orderReadyHandler.handle(event);
 				})
@@ -6,9 +6,13 @@ import org.springframework.context.annotation.Configuration;
 import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
 import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
-import com.google.gson.Gson;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentExpiredEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusProcessorProperties;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
 import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentExpiredHandler;
 
 import jakarta.transaction.Transactional;
@@ -26,19 +30,27 @@ import lombok.extern.slf4j.Slf4j;
 @Configuration @Slf4j @RequiredArgsConstructor @Transactional
 public class PaymentExpiredListenerConfig {
 
-	private final Gson gson;
+	private final EventCodec eventCodec;
+	private final ServiceBusProcessorProperties processorProperties;
+	private final OrderEventDispatcher orderEventDispatcher;
+	private final ProcessedMessageStore processedMessageStore;
+	private final OrderStatusConflictRetry orderStatusConflictRetry;
 	private final PaymentExpiredHandler paymentExpiredHandler;
 
 	@Bean
 	public ServiceBusProcessorClient paymentExpiredServiceBusProcessorClient(ServiceBusClientBuilder builder) {
 
-		return builder.processor()
+		return processorProperties.apply("payment-expired", builder.processor())
 				.queueName(ServiceBusConfig.PAYMENT_EXPIRED_QUEUE)
 				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
 				.processMessage(context -> {
-					PaymentExpiredEventDto event = gson.fromJson(context.getMessage().getBody().toString(),
+					PaymentExpiredEventDto event = eventCodec.decode(context.getMessage().getBody(),
 							PaymentExpiredEventDto.class);
-					paymentExpiredHandler.handle(event);
+					var messageId = context.getMessage().getMessageId();
+					var orderId = event.getOrderId();
+					orderEventDispatcher.dispatch(orderId, () -> orderStatusConflictRetry.run(orderId,
+							() -> processedMessageStore.processOnce("payment-expired", messageId,
+									() -> paymentExpiredHandler.handle(event))));
 				})
 				.processError(context -> log.error("Erro ao processar pagamento expirado", context.getException()))
 				.buildProcessorClient();
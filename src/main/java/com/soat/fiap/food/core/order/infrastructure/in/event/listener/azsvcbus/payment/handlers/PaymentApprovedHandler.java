@@ -4,12 +4,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
-import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusFromEventController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentApprovedEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
-import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
-import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.OrderStatusRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +20,15 @@ import lombok.extern.slf4j.Slf4j;
  * atualiza o status do pedido para {@code PREPARING} e publica eventos de
  * domínio relacionados à atualização de status.
  * </p>
+ * <p>
+ * O evento já informa a situação do pagamento, portanto o microsserviço de
+ * pagamento não é consultado.
+ * </p>
  */
 @Slf4j @Service @RequiredArgsConstructor
 public class PaymentApprovedHandler {
 
 	private final OrderDataSource orderDataSource;
-	private final PaymentDataSource paymentDataSource;
 	private final EventPublisherSource eventPublisherSource;
 
 	/**
@@ -40,9 +41,8 @@ public class PaymentApprovedHandler {
 	public void handle(PaymentApprovedEventDto event) {
 		log.info("Evento de pagamento aprovado recebido: {}", event.getOrderId());
 
-		var orderUpdateStatusRequest = new OrderStatusRequest(OrderStatus.PREPARING);
-		UpdateOrderStatusController.updateOrderStatus(event.getOrderId(), orderUpdateStatusRequest, orderDataSource,
-				paymentDataSource, eventPublisherSource);
+		UpdateOrderStatusFromEventController.updateOrderStatus(event.getOrderId(), OrderStatus.PREPARING,
+				orderDataSource, eventPublisherSource);
 
 		log.info("Status do pedido atualizado após pagamento aprovado: {}", event.getOrderId());
 	}
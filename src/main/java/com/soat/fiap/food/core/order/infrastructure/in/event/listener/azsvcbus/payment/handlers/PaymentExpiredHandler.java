@@ -4,12 +4,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
-import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusFromEventController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentExpiredEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
-import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
-import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.OrderStatusRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +20,15 @@ import lombok.extern.slf4j.Slf4j;
  * atualiza o status do pedido para {@code CANCELLED} e executa as ações
  * necessárias relacionadas ao cancelamento do pedido.
  * </p>
+ * <p>
+ * O evento já informa a situação do pagamento, portanto o microsserviço de
+ * pagamento não é consultado.
+ * </p>
  */
 @Slf4j @Service @RequiredArgsConstructor
 public class PaymentExpiredHandler {
 
 	private final OrderDataSource orderDataSource;
-	private final PaymentDataSource paymentDataSource;
 	private final EventPublisherSource eventPublisherSource;
 
 	/**
@@ -40,9 +41,8 @@ public class PaymentExpiredHandler {
 	public void handle(PaymentExpiredEventDto event) {
 		log.info("Evento de pagamento expirado recebido: {}", event.getOrderId());
 
-		var orderUpdateStatusRequest = new OrderStatusRequest(OrderStatus.CANCELLED);
-		UpdateOrderStatusController.updateOrderStatus(event.getOrderId(), orderUpdateStatusRequest, orderDataSource,
-				paymentDataSource, eventPublisherSource);
+		UpdateOrderStatusFromEventController.updateOrderStatus(event.getOrderId(), OrderStatus.CANCELLED,
+				orderDataSource, eventPublisherSource);
 
 		log.info("Status do pedido atualizado após pagamento expirado: {}", event.getOrderId());
 	}
@@ -0,0 +1,10 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.board;
+
+/**
+ * Evento interno publicado a cada nova versão do painel da cozinha.
+ *
+ * @param snapshot
+ *            Nova fotografia do painel
+ */
+public record KitchenBoardChangedEvent(KitchenBoardSnapshot snapshot) {
+}
@@ -0,0 +1,375 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.board;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.GetActiveOrdersSortedController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
+import com.soat.fiap.food.core.order.core.interfaceadapters.presenter.OrderPresenter;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderDeletedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderSavedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderStatusUpdatedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Projeção em memória do painel da cozinha (pedidos ativos).
+ * <p>
+ * É carregada uma vez na inicialização a partir de
+ * {@link GetActiveOrdersSortedController} e mantida incrementalmente pelos
+ * eventos de gravação de pedidos, aplicados após o commit, e pelas
+ * {@link OrderChangeNotification} das gravações feitas por outras instâncias
+ * do serviço. A cada alteração é gerada uma nova {@link KitchenBoardSnapshot}
+ * já serializada e com o seu ETag, de modo que a leitura do painel não consulta
+ * o banco nem serializa os pedidos. Cada nova versão é anunciada por um
+ * {@link KitchenBoardChangedEvent}.
+ * <p>
+ * Uma reconciliação periódica recarrega o painel do banco, corrigindo
+ * divergências (por exemplo, notificações perdidas durante uma reconexão).
+ * Eventos recebidos durante a consulta são reaplicados sobre a recarga, e
+ * alterações com versão anterior à do pedido no painel são ignoradas.
+ */
+@Component @Slf4j
+public class KitchenBoardProjection {
+
+	private static final Comparator<BoardKey> BOARD_ORDER = Comparator.comparingInt(BoardKey::priority)
+			.thenComparing(BoardKey::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(BoardKey::id);
+
+	private final OrderDataSource orderDataSource;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	private TreeMap<BoardKey, OrderResponse> board = new TreeMap<>(BOARD_ORDER);
+	private Map<Long, BoardKey> keys = new HashMap<>();
+
+	/**
+	 * Alterações aplicadas enquanto uma reconciliação consulta o banco, ou
+	 * {@code null} fora da reconciliação.
+	 */
+	private List<BooleanSupplier> replay;
+
+	private volatile KitchenBoardSnapshot snapshot;
+
+	public KitchenBoardProjection(OrderDataSource orderDataSource, ObjectMapper objectMapper,
+			ApplicationEventPublisher applicationEventPublisher) {
+		this.orderDataSource = orderDataSource;
+		this.objectMapper = objectMapper;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.snapshot = KitchenBoardSnapshot.of(0, List.of(), serialize(List.of()));
+	}
+
+	/**
+	 * Retorna a fotografia atual do painel.
+	 *
+	 * @return Painel da cozinha
+	 */
+	public KitchenBoardSnapshot snapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Carrega o painel na inicialização da aplicação. Uma falha na carga não
+	 * impede a inicialização; o painel é carregado na próxima reconciliação.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seed() {
+		try {
+			reconcile();
+		} catch (DataAccessException ex) {
+			log.warn("Não foi possível carregar o painel da cozinha na inicialização: {}", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Recarrega o painel a partir do banco de dados.
+	 * <p>
+	 * As alterações recebidas por eventos durante a consulta continuam sendo
+	 * aplicadas ao painel atual e são registradas; a recarga é montada a partir
+	 * do resultado da consulta e dessas alterações, reaplicadas na ordem de
+	 * chegada, de modo que nenhuma alteração mais recente que a consulta seja
+	 * perdida, mesmo sob fluxo contínuo de eventos. O painel só é substituído,
+	 * com nova versão, quando o resultado diferir do atual.
+	 */
+	@Scheduled(initialDelayString = "${order.board.reconcile-interval:PT1M}", fixedDelayString = "${order.board.reconcile-interval:PT1M}")
+	public void reconcile() {
+		var arrived = new ArrayList<BooleanSupplier>();
+		synchronized (this) {
+			if (replay != null) {
+				log.debug("Reconciliação do painel da cozinha já em andamento");
+				return;
+			}
+			replay = arrived;
+		}
+
+		List<OrderResponse> activeOrders;
+		try {
+			activeOrders = GetActiveOrdersSortedController.getActiveOrdersSorted(orderDataSource);
+		} catch (RuntimeException ex) {
+			synchronized (this) {
+				replay = null;
+			}
+			throw ex;
+		}
+
+		synchronized (this) {
+			replay = null;
+
+			var previousBoard = board;
+			var previousKeys = keys;
+			board = new TreeMap<>(BOARD_ORDER);
+			keys = new HashMap<>();
+			activeOrders.forEach(this::put);
+			arrived.forEach(BooleanSupplier::getAsBoolean);
+
+			if (!arrived.isEmpty()) {
+				log.debug("{} alterações do painel da cozinha reaplicadas sobre a reconciliação", arrived.size());
+			}
+
+			if (sameOrders(previousBoard.values())) {
+				board = previousBoard;
+				keys = previousKeys;
+				return;
+			}
+
+			if (snapshot.version() > 0) {
+				log.warn("Painel da cozinha divergente do banco de dados. Painel recarregado com {} pedidos",
+						board.size());
+			}
+
+			publish();
+		}
+	}
+
+	/**
+	 * Inclui ou atualiza o pedido gravado.
+	 *
+	 * @param event
+	 *            Evento de gravação do pedido
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderSavedEvent event) {
+		var order = event.order();
+		var response = order.status().isActive() ? toResponse(order) : null;
+
+		apply(() -> {
+			remove(order.id());
+			if (response != null) {
+				put(response);
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * Reposiciona o pedido após a transição de status, removendo-o do painel
+	 * quando deixa de estar ativo. Um pedido ativo ausente do painel é incluído
+	 * pela próxima reconciliação; uma transição com versão não posterior à do
+	 * pedido no painel é ignorada.
+	 *
+	 * @param event
+	 *            Evento de transição de status
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderStatusUpdatedEvent event) {
+		apply(() -> applyStatus(event.orderId(), event.status(), event.updatedAt(), event.version()));
+	}
+
+	/**
+	 * Remove o pedido excluído.
+	 *
+	 * @param event
+	 *            Evento de remoção do pedido
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderDeletedEvent event) {
+		apply(() -> {
+			remove(event.orderId());
+			return true;
+		});
+	}
+
+	/**
+	 * Aplica ao painel a alteração gravada por outra instância.
+	 * <p>
+	 * Transições de status de pedidos presentes no painel, ou que o deixam, são
+	 * aplicadas com a versão informada na notificação. Nos demais casos
+	 * (inclusão, alteração ou remoção do pedido) o pedido é relido do banco,
+	 * fora do bloqueio do painel.
+	 *
+	 * @param notification
+	 *            Alteração recebida de outra instância
+	 */
+	@EventListener
+	public void on(OrderChangeNotification notification) {
+		var orderId = notification.orderId();
+		if (notification.isStatusUpdate() && (!notification.status().isActive() || contains(orderId))) {
+			apply(() -> applyStatus(orderId, notification.status(), notification.updatedAt(),
+					notification.version()));
+			return;
+		}
+
+		OrderResponse reloaded;
+		try {
+			reloaded = orderDataSource.findById(orderId)
+					.filter(order -> order.status().isActive())
+					.map(this::toResponse)
+					.orElse(null);
+		} catch (DataAccessException ex) {
+			log.warn("Não foi possível reler o pedido {} para o painel da cozinha: {}", orderId, ex.getMessage());
+			return;
+		}
+
+		apply(() -> applyReloaded(orderId, reloaded));
+	}
+
+	/**
+	 * Aplica a alteração ao painel e a registra para a reconciliação em
+	 * andamento, se houver.
+	 *
+	 * @param change
+	 *            Alteração; retorna {@code false} se o painel não foi alterado
+	 */
+	private synchronized void apply(BooleanSupplier change) {
+		if (replay != null) {
+			replay.add(change);
+		}
+		if (change.getAsBoolean()) {
+			publish();
+		}
+	}
+
+	private boolean applyStatus(Long orderId, OrderStatus status, LocalDateTime updatedAt, Long version) {
+		var current = current(orderId);
+
+		if (current == null && status.isActive()) {
+			log.debug("Pedido {} ausente do painel da cozinha. Será incluído na reconciliação", orderId);
+			return false;
+		}
+
+		if (current != null && !isNewer(version, current.getVersion())) {
+			log.debug("Transição do pedido {} anterior à versão do painel ignorada", orderId);
+			return false;
+		}
+
+		remove(orderId);
+		if (status.isActive()) {
+			put(current.toBuilder()
+					.status(status)
+					.statusDescription(status.getDescription())
+					.updatedAt(updatedAt)
+					.version(version)
+					.build());
+		}
+		return true;
+	}
+
+	private boolean applyReloaded(Long orderId, OrderResponse reloaded) {
+		var current = current(orderId);
+
+		if (current == null && reloaded == null) {
+			return false;
+		}
+
+		if (current != null && reloaded != null && !isNewer(reloaded.getVersion(), current.getVersion())) {
+			log.debug("Pedido {} relido com versão anterior à do painel ignorado", orderId);
+			return false;
+		}
+
+		remove(orderId);
+		if (reloaded != null) {
+			put(reloaded);
+		}
+		return true;
+	}
+
+	private synchronized boolean contains(Long orderId) {
+		return keys.containsKey(orderId);
+	}
+
+	private OrderResponse current(Long orderId) {
+		var key = keys.get(orderId);
+		return key == null ? null : board.get(key);
+	}
+
+	/**
+	 * Versões desconhecidas são tratadas como posteriores.
+	 */
+	private static boolean isNewer(Long version, Long currentVersion) {
+		return version == null || currentVersion == null || version > currentVersion;
+	}
+
+	private OrderResponse toResponse(OrderDTO order) {
+		return OrderPresenter.toOrderResponse(OrderDTOMapper.toDomain(order));
+	}
+
+	private boolean sameOrders(Collection<OrderResponse> orders) {
+		if (orders.size() != board.size()) {
+			return false;
+		}
+
+		var current = board.values().iterator();
+		for (var order : orders) {
+			var boardOrder = current.next();
+			if (!order.getId().equals(boardOrder.getId()) || order.getStatus() != boardOrder.getStatus()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void put(OrderResponse order) {
+		var key = new BoardKey(order.getStatus().getActivePriority(), order.getCreatedAt(), order.getId());
+		keys.put(order.getId(), key);
+		board.put(key, order);
+	}
+
+	private void remove(Long orderId) {
+		var key = keys.remove(orderId);
+		if (key != null) {
+			board.remove(key);
+		}
+	}
+
+	private void publish() {
+		var orders = List.copyOf(board.values());
+		snapshot = KitchenBoardSnapshot.of(snapshot.version() + 1, orders, serialize(orders));
+		applicationEventPublisher.publishEvent(new KitchenBoardChangedEvent(snapshot));
+	}
+
+	private byte[] serialize(List<OrderResponse> orders) {
+		try {
+			return objectMapper.writeValueAsBytes(orders);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Falha ao serializar o painel da cozinha", ex);
+		}
+	}
+
+	/**
+	 * Chave de ordenação do painel: prioridade do status, data de criação e ID.
+	 */
+	private record BoardKey(int priority, LocalDateTime createdAt, Long id) {
+	}
+}
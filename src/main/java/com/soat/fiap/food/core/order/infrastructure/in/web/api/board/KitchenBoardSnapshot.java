@@ -0,0 +1,42 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.board;
+
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
+
+/**
+ * Fotografia imutável do painel da cozinha.
+ *
+ * @param version
+ *            Versão do painel, incrementada a cada alteração
+ * @param orders
+ *            Pedidos ativos, ordenados por prioridade de status e data de
+ *            criação
+ * @param json
+ *            Pedidos já serializados em JSON
+ * @param etag
+ *            ETag forte do painel, derivado do conteúdo serializado
+ */
+public record KitchenBoardSnapshot(long version, List<OrderResponse> orders, byte[] json, String etag) {
+
+	/**
+	 * Cria uma fotografia do painel, calculando o seu ETag uma única vez.
+	 * <p>
+	 * O ETag é derivado do JSON, e não da versão, pois a versão é local a cada
+	 * instância do serviço: duas instâncias com o mesmo conteúdo produzem o mesmo
+	 * ETag, e versões iguais com conteúdos diferentes nunca colidem.
+	 *
+	 * @param version
+	 *            Versão do painel
+	 * @param orders
+	 *            Pedidos ativos ordenados
+	 * @param json
+	 *            Pedidos serializados em JSON
+	 * @return Fotografia do painel
+	 */
+	public static KitchenBoardSnapshot of(long version, List<OrderResponse> orders, byte[] json) {
+		return new KitchenBoardSnapshot(version, orders, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+	}
+}
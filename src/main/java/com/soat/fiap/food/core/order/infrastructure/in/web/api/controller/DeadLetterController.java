@@ -0,0 +1,62 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.deadletter.DeadLetterReplayer;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.DeadLetterReplayResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controlador REST administrativo para inspeção e reprocessamento das
+ * dead-letter queues de eventos recebidos.
+ * <p>
+ * Disponível somente com {@code order.dead-letter.admin-enabled=true}.
+ * </p>
+ */
+@RestController @RequestMapping("/admin/dead-letters") @RequiredArgsConstructor @Slf4j
+@ConditionalOnProperty(name = "order.dead-letter.admin-enabled", havingValue = "true")
+@Tag(name = "Dead-letter", description = "API administrativa para reprocessamento de eventos em dead-letter")
+public class DeadLetterController {
+
+	private final DeadLetterReplayer deadLetterReplayer;
+
+	@GetMapping(value = "/{queue}", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Inspecionar dead-letter", description = "Lê as mensagens da dead-letter da fila sem removê-las, agrupando-as pelo motivo de dead-letter e pela validade do corpo")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Mensagens inspecionadas com sucesso", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DeadLetterReplayResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Fila sem reprocessamento de dead-letter", content = @Content)})
+	public ResponseEntity<DeadLetterReplayResponse> inspect(
+			@Parameter(description = "Fila de origem", example = "payment.approved.queue") @PathVariable String queue,
+			@Parameter(description = "Quantidade máxima de mensagens", example = "1000") @RequestParam(required = false) Integer maxMessages) {
+		log.debug("Requisição para inspecionar dead-letter de {} recebida", queue);
+
+		return ResponseEntity.ok(deadLetterReplayer.inspect(queue, maxMessages));
+	}
+
+	@PostMapping(value = "/{queue}/replay", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Reprocessar dead-letter", description = "Reprocessa as mensagens da dead-letter da fila pelos handlers do serviço, com vazão e paralelismo limitados. Mensagens reprocessadas ou já processadas são removidas da dead-letter")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Reprocessamento concluído", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DeadLetterReplayResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Fila sem reprocessamento de dead-letter", content = @Content)})
+	public ResponseEntity<DeadLetterReplayResponse> replay(
+			@Parameter(description = "Fila de origem", example = "payment.approved.queue") @PathVariable String queue,
+			@Parameter(description = "Mensagens por segundo, limitado a order.dead-letter.max-rate", example = "20") @RequestParam(required = false) Integer rate,
+			@Parameter(description = "Mensagens em processamento simultâneo, limitado a order.dead-letter.max-parallelism", example = "4") @RequestParam(required = false) Integer parallelism,
+			@Parameter(description = "Quantidade máxima de mensagens", example = "1000") @RequestParam(required = false) Integer maxMessages) {
+		log.info("Requisição para reprocessar dead-letter de {} recebida", queue);
+
+		return ResponseEntity.ok(deadLetterReplayer.replay(queue, rate, parallelism, maxMessages));
+	}
+}
@@ -1,28 +1,35 @@
 package com.soat.fiap.food.core.order.infrastructure.in.web.api.controller;
 
-import java.util.List;
-
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.soat.fiap.food.core.order.core.interfaceadapters.controller.GetActiveOrdersSortedController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.GetActiveOrdersSortedPageController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.controller.GetOrderByIdController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.GetOrderVersionController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.controller.SaveOrderController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
 import com.soat.fiap.food.core.order.infrastructure.common.source.CatalogDataSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardProjection;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.CreateOrderRequest;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.OrderStatusRequest;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.ActiveOrdersPageResponse;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderStatusResponse;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.stream.OrderStreamPublisher;
 import com.soat.fiap.food.core.shared.infrastructure.common.source.AuthenticatedUserSource;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -42,15 +49,22 @@ public class OrderController {
 	private final PaymentDataSource paymentDataSource;
 	private final AuthenticatedUserSource authenticatedUserSource;
 	private final EventPublisherSource eventPublisherSource;
+	private final KitchenBoardProjection kitchenBoardProjection;
+	private final OrderStreamPublisher orderStreamPublisher;
+	private final OrderStatusConflictRetry orderStatusConflictRetry;
 
 	public OrderController(OrderDataSource orderDataSource, CatalogDataSource catalogDatasource,
 			PaymentDataSource paymentDataSource, AuthenticatedUserSource authenticatedUserSource,
-			EventPublisherSource eventPublisherSource) {
+			EventPublisherSource eventPublisherSource, KitchenBoardProjection kitchenBoardProjection,
+			OrderStreamPublisher orderStreamPublisher, OrderStatusConflictRetry orderStatusConflictRetry) {
 		this.orderDataSource = orderDataSource;
 		this.catalogDatasource = catalogDatasource;
 		this.eventPublisherSource = eventPublisherSource;
 		this.authenticatedUserSource = authenticatedUserSource;
 		this.paymentDataSource = paymentDataSource;
+		this.kitchenBoardProjection = kitchenBoardProjection;
+		this.orderStreamPublisher = orderStreamPublisher;
+		this.orderStatusConflictRetry = orderStatusConflictRetry;
 	}
 
 	@PostMapping
@@ -70,30 +84,83 @@ public class OrderController {
 	}
 
 	@GetMapping("/{id}")
-	@Operation(summary = "Buscar pedido por ID", description = "Retorna um pedido específico pelo seu ID", tags = {
+	@Operation(summary = "Buscar pedido por ID", description = "Retorna um pedido específico pelo seu ID. Suporta requisições condicionais (If-None-Match)", tags = {
 			"Pedidos"})
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Pedido encontrado", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = OrderResponse.class))),
+			@ApiResponse(responseCode = "304", description = "Pedido não modificado", content = @Content),
 			@ApiResponse(responseCode = "404", description = "Pedido não encontrado", content = @Content)})
-	@Transactional(readOnly = true)
 	public ResponseEntity<OrderResponse> getOrderById(
-			@Parameter(description = "ID do pedido", example = "1", required = true) @PathVariable Long id) {
+			@Parameter(description = "ID do pedido", example = "1", required = true) @PathVariable Long id,
+			WebRequest request) {
 		log.debug("Requisição para buscar pedido por ID: {}", id);
+
+		// Requisições condicionais são validadas somente pela versão (ETag), sem
+		// carregar o pedido. Last-Modified não é enviado nem If-Modified-Since
+		// honrado: com resolução de segundos, duas gravações no mesmo segundo
+		// resultariam em um 304 com o pedido desatualizado
+		if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+			var current = GetOrderVersionController.getOrderVersion(id, orderDataSource);
+			if (request.checkNotModified(orderETag(current.version()))) {
+				return null;
+			}
+		}
+
 		OrderResponse orderResponse = GetOrderByIdController.getOrderById(id, orderDataSource);
-		return ResponseEntity.ok(orderResponse);
+		return ResponseEntity.ok().eTag(orderETag(orderResponse.getVersion())).body(orderResponse);
 	}
 
-	@GetMapping("/active")
+	@GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "Listar pedidos ativos ordenados", description = "Retorna todos os pedidos com status RECEBIDO, EM_PREPARACAO ou PRONTO, ordenados por prioridade e data de criação")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Lista de pedidos ativos retornada com sucesso", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = OrderResponse.class)))})
-	@Transactional(readOnly = true)
-	public ResponseEntity<List<OrderResponse>> getActiveOrders() {
+			@ApiResponse(responseCode = "200", description = "Lista de pedidos ativos retornada com sucesso", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = OrderResponse.class)))),
+			@ApiResponse(responseCode = "304", description = "Painel não modificado", content = @Content)})
+	public ResponseEntity<byte[]> getActiveOrders() {
 		log.debug("Requisição para listar pedidos ativos recebida");
 
-		List<OrderResponse> activeOrders = GetActiveOrdersSortedController.getActiveOrdersSorted(orderDataSource);
+		var board = kitchenBoardProjection.snapshot();
+
+		// Com o ETag no cabeçalho, o Spring responde 304 quando o If-None-Match coincide
+		return ResponseEntity.ok().eTag(board.etag()).contentType(MediaType.APPLICATION_JSON).body(board.json());
+	}
+
+	@GetMapping(value = "/active/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Acompanhar pedidos ativos (SSE)", description = "Abre um canal Server-Sent Events que envia o painel de pedidos ativos (evento board) na conexão e a cada alteração confirmada")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Canal de eventos aberto", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, array = @ArraySchema(schema = @Schema(implementation = OrderResponse.class))))})
+	public SseEmitter streamActiveOrders() {
+		log.debug("Requisição para acompanhar pedidos ativos recebida");
+
+		return orderStreamPublisher.subscribeBoard(kitchenBoardProjection.snapshot());
+	}
+
+	@GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Acompanhar status do pedido (SSE)", description = "Abre um canal Server-Sent Events que envia o status do pedido (evento order-status) na conexão e a cada transição confirmada")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Canal de eventos aberto", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = OrderStatusResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Pedido não encontrado", content = @Content)})
+	public SseEmitter streamOrderStatus(
+			@Parameter(description = "ID do pedido", example = "1", required = true) @PathVariable Long id) {
+		log.debug("Requisição para acompanhar status do pedido {} recebida", id);
 
-		return ResponseEntity.ok(activeOrders);
+		return orderStreamPublisher.subscribeOrder(id, () -> GetOrderByIdController.getOrderById(id, orderDataSource));
+	}
+
+	@GetMapping("/active/page")
+	@Operation(summary = "Listar pedidos ativos ordenados (paginado)", description = "Retorna uma página de pedidos com status RECEBIDO, EM_PREPARACAO ou PRONTO, ordenados por prioridade e data de criação. Utilize o cursor retornado para buscar a próxima página")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Página de pedidos ativos retornada com sucesso", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ActiveOrdersPageResponse.class))),
+			@ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content)})
+	@Transactional(readOnly = true)
+	public ResponseEntity<ActiveOrdersPageResponse> getActiveOrdersPage(
+			@Parameter(description = "Cursor retornado pela página anterior (omitir para a primeira página)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "Tamanho da página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+		log.debug("Requisição para listar página de pedidos ativos recebida");
+
+		ActiveOrdersPageResponse page = GetActiveOrdersSortedPageController.getActiveOrdersSortedPage(cursor, size,
+				orderDataSource);
+
+		return ResponseEntity.ok(page);
 	}
 
 	@PatchMapping("/{orderId}/status")
@@ -102,15 +169,22 @@ public class OrderController {
 			@ApiResponse(responseCode = "200", description = "Status do pedido atualizado com sucesso", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = OrderStatusResponse.class))),
 			@ApiResponse(responseCode = "400", description = "Status inválido ou dados malformados", content = @Content),
 			@ApiResponse(responseCode = "404", description = "Pedido não encontrado", content = @Content)})
-	@Transactional
 	public ResponseEntity<OrderStatusResponse> updateOrderStatus(@PathVariable Long orderId,
 			@Valid @RequestBody OrderStatusRequest orderStatusRequest) {
 
 		log.debug("Requisição para atualizar status do pedido {} recebida", orderId);
 
-		OrderStatusResponse response = UpdateOrderStatusController.updateOrderStatus(orderId, orderStatusRequest,
-				orderDataSource, paymentDataSource, eventPublisherSource);
+		// Pagamento consultado uma única vez: só a releitura, validação e gravação são repetidas
+		var payment = UpdateOrderStatusController.getOrderPayment(orderId, paymentDataSource);
+
+		OrderStatusResponse response = orderStatusConflictRetry.execute(orderId,
+				() -> UpdateOrderStatusController.updateOrderStatus(orderId, orderStatusRequest, payment,
+						orderDataSource, eventPublisherSource));
 
 		return ResponseEntity.ok(response);
 	}
+
+	private static String orderETag(Long version) {
+		return "\"" + version + "\"";
+	}
 }
@@ -0,0 +1,26 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta para uma página de pedidos ativos
+ */
+@Data @Builder @NoArgsConstructor @AllArgsConstructor
+@Schema(description = "Resposta com uma página de pedidos ativos")
+public class ActiveOrdersPageResponse {
+
+	@Schema(description = "Pedidos ativos da página, ordenados por prioridade e data de criação")
+	private List<OrderResponse> orders;
+
+	@Schema(description = "Cursor da próxima página (ausente quando não há próxima página)", example = "M3wyMDI1LTA2LTE1VDE0OjMwOjE1fDQy")
+	private String nextCursor;
+
+	@Schema(description = "Indica se existe uma próxima página", example = "true")
+	private boolean hasNext;
+}
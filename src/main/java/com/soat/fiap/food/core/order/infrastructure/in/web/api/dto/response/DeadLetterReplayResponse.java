@@ -0,0 +1,40 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta com o resumo da inspeção ou do reprocessamento de uma
+ * dead-letter queue
+ */
+@Data @Builder @NoArgsConstructor @AllArgsConstructor
+@Schema(description = "Resumo da inspeção ou do reprocessamento de mensagens em dead-letter")
+public class DeadLetterReplayResponse {
+
+	@Schema(description = "Fila cuja dead-letter foi lida", example = "payment.approved.queue")
+	private String queue;
+
+	@Schema(description = "Indica se as mensagens foram apenas inspecionadas, sem reprocessamento", example = "false")
+	private boolean dryRun;
+
+	@Schema(description = "Quantidade de mensagens lidas", example = "120")
+	private int messages;
+
+	@Schema(description = "Quantidade de mensagens por resultado (REPLAYED, DUPLICATE, MALFORMED, FAILED ou REPLAYABLE)")
+	private Map<String, Integer> outcomes;
+
+	@Schema(description = "Quantidade de mensagens por motivo de dead-letter informado pelo Service Bus")
+	private Map<String, Integer> deadLetterReasons;
+
+	@Schema(description = "Primeiras falhas de reprocessamento (messageId e mensagem de erro)")
+	private List<String> failures;
+
+	@Schema(description = "Duração da operação em milissegundos", example = "6000")
+	private long elapsedMillis;
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,7 +16,7 @@ import lombok.NoArgsConstructor;
 /**
  * DTO de resposta para pedidos
  */
-@Data @Builder @NoArgsConstructor @AllArgsConstructor @Schema(description = "Resposta com dados de um pedido")
+@Data @Builder(toBuilder = true) @NoArgsConstructor @AllArgsConstructor @Schema(description = "Resposta com dados de um pedido")
 public class OrderResponse {
 
 	@Schema(description = "ID do pedido", example = "1")
@@ -44,4 +45,8 @@ public class OrderResponse {
 
 	@Schema(description = "Data de atualização", example = "2023-06-15T14:45:22")
 	private LocalDateTime updatedAt;
+
+	// Usada somente para o cabeçalho ETag, não faz parte do corpo da resposta
+	@JsonIgnore @Schema(hidden = true)
+	private Long version;
 }
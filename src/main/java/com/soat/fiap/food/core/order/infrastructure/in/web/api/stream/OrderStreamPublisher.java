@@ -0,0 +1,248 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.stream;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardChangedEvent;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardSnapshot;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderStatusResponse;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderStatusUpdatedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Canais Server-Sent Events de pedidos.
+ * <p>
+ * Mantém dois tipos de assinantes: o painel da cozinha, que recebe o painel
+ * completo a cada nova versão, e o acompanhamento de um pedido, que recebe as
+ * transições de status do pedido. As alterações são enviadas somente após o
+ * commit, tanto as gravadas nesta instância quanto as recebidas das demais
+ * por {@link OrderChangeNotification}.
+ * <p>
+ * As conexões são assíncronas (não ocupam threads do Tomcat enquanto ociosas)
+ * e o envio é feito por {@link SseSubscriber}, sem bloquear a thread que
+ * publica a alteração.
+ */
+@Component @Slf4j
+public class OrderStreamPublisher {
+
+	static final String BOARD_EVENT = "board";
+	static final String ORDER_STATUS_EVENT = "order-status";
+
+	private final Executor executor;
+	private final Duration timeout;
+
+	private final Set<SseSubscriber> boardSubscribers = ConcurrentHashMap.newKeySet();
+	private final Map<Long, OrderFeed> orderFeeds = new ConcurrentHashMap<>();
+
+	public OrderStreamPublisher(
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+			@Value("${order.stream.timeout:PT30M}") Duration timeout) {
+		this.executor = executor;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Inscreve um cliente no painel da cozinha, enviando a versão atual.
+	 *
+	 * @param current
+	 *            Painel atual
+	 * @return Emissor SSE do cliente
+	 */
+	public SseEmitter subscribeBoard(KitchenBoardSnapshot current) {
+		var subscriber = new SseSubscriber(newEmitter(), executor, boardSubscribers::remove);
+
+		boardSubscribers.add(subscriber);
+		subscriber.push(boardEvent(current));
+
+		log.debug("Cliente inscrito no painel da cozinha. Assinantes: {}", boardSubscribers.size());
+		return subscriber.emitter();
+	}
+
+	/**
+	 * Inscreve um cliente no acompanhamento de um pedido, enviando o status
+	 * atual.
+	 * <p>
+	 * O cliente é registrado antes da leitura do pedido, para que uma transição
+	 * gravada durante a leitura não seja perdida.
+	 *
+	 * @param orderId
+	 *            ID do pedido
+	 * @param loader
+	 *            Consulta do estado atual do pedido
+	 * @return Emissor SSE do cliente
+	 */
+	public SseEmitter subscribeOrder(Long orderId, Supplier<OrderResponse> loader) {
+		var subscriber = new SseSubscriber(newEmitter(), executor, closed -> unsubscribe(orderId, closed));
+
+		var feed = orderFeeds.compute(orderId, (id, existing) -> {
+			var current = existing == null ? new OrderFeed() : existing;
+			current.subscribers.add(subscriber);
+			return current;
+		});
+
+		try {
+			var order = loader.get();
+			var status = feed.offer(OrderStatusResponse.builder()
+					.orderId(order.getId())
+					.orderStatus(order.getStatus())
+					.createdAt(order.getCreatedAt())
+					.updatedAt(order.getUpdatedAt())
+					.build(), order.getVersion());
+			subscriber.push(orderStatusEvent(status));
+		} catch (RuntimeException ex) {
+			unsubscribe(orderId, subscriber);
+			throw ex;
+		}
+
+		return subscriber.emitter();
+	}
+
+	/**
+	 * Envia a nova versão do painel aos assinantes do painel da cozinha.
+	 *
+	 * @param event
+	 *            Evento de alteração do painel
+	 */
+	@EventListener
+	public void on(KitchenBoardChangedEvent event) {
+		var boardEvent = boardEvent(event.snapshot());
+		boardSubscribers.forEach(subscriber -> subscriber.push(boardEvent));
+	}
+
+	/**
+	 * Envia a transição de status aos assinantes do pedido.
+	 *
+	 * @param event
+	 *            Evento de transição de status
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(OrderStatusUpdatedEvent event) {
+		pushStatus(event.orderId(), event.status(), event.updatedAt(), event.version());
+	}
+
+	/**
+	 * Envia aos assinantes do pedido a transição de status gravada em outra
+	 * instância.
+	 *
+	 * @param notification
+	 *            Alteração recebida de outra instância
+	 */
+	@EventListener
+	public void on(OrderChangeNotification notification) {
+		if (notification.isStatusUpdate()) {
+			pushStatus(notification.orderId(), notification.status(), notification.updatedAt(),
+					notification.version());
+		}
+	}
+
+	/**
+	 * Envia um comentário periódico aos assinantes ociosos, mantendo a conexão
+	 * aberta em proxies e detectando clientes desconectados.
+	 */
+	@Scheduled(fixedDelayString = "${order.stream.heartbeat-interval:PT15S}")
+	public void heartbeat() {
+		Supplier<SseEventBuilder> heartbeat = () -> SseEmitter.event().comment("heartbeat");
+
+		boardSubscribers.forEach(subscriber -> subscriber.pushIfIdle(heartbeat));
+		orderFeeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> subscriber.pushIfIdle(heartbeat)));
+	}
+
+	/**
+	 * Cria o emissor SSE de um novo assinante.
+	 *
+	 * @return Emissor SSE com o tempo limite configurado
+	 */
+	protected SseEmitter newEmitter() {
+		return new SseEmitter(timeout.toMillis());
+	}
+
+	private void pushStatus(Long orderId, OrderStatus orderStatus, LocalDateTime updatedAt, Long version) {
+		var feed = orderFeeds.get(orderId);
+		if (feed == null) {
+			return;
+		}
+
+		var status = feed.offer(
+				OrderStatusResponse.builder().orderId(orderId).orderStatus(orderStatus).updatedAt(updatedAt).build(),
+				version);
+		var statusEvent = orderStatusEvent(status);
+		feed.subscribers.forEach(subscriber -> subscriber.push(statusEvent));
+	}
+
+	private void unsubscribe(Long orderId, SseSubscriber subscriber) {
+		orderFeeds.computeIfPresent(orderId, (id, feed) -> {
+			feed.subscribers.remove(subscriber);
+			return feed.subscribers.isEmpty() ? null : feed;
+		});
+	}
+
+	private static Supplier<SseEventBuilder> boardEvent(KitchenBoardSnapshot snapshot) {
+		return () -> SseEmitter.event()
+				.id(String.valueOf(snapshot.version()))
+				.name(BOARD_EVENT)
+				.data(snapshot.json(), MediaType.APPLICATION_JSON);
+	}
+
+	private static Supplier<SseEventBuilder> orderStatusEvent(OrderStatusResponse status) {
+		return () -> SseEmitter.event().name(ORDER_STATUS_EVENT).data(status, MediaType.APPLICATION_JSON);
+	}
+
+	/**
+	 * Assinantes de um pedido e o último status conhecido.
+	 * <p>
+	 * Os estados são ordenados pela versão do pedido, e não pela data de
+	 * atualização, que vem do relógio de instâncias diferentes.
+	 */
+	private static final class OrderFeed {
+
+		private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+		private OrderStatusResponse last;
+		private Long lastVersion;
+
+		/**
+		 * Registra o status, ignorando um estado com versão anterior à do último
+		 * conhecido. Versões desconhecidas são tratadas como posteriores.
+		 *
+		 * @param status
+		 *            Status do pedido
+		 * @param version
+		 *            Versão do pedido no status informado
+		 * @return Status mais recente do pedido
+		 */
+		synchronized OrderStatusResponse offer(OrderStatusResponse status, Long version) {
+			if (last != null && version != null && lastVersion != null && version < lastVersion) {
+				return last;
+			}
+
+			if (status.getCreatedAt() == null && last != null) {
+				status.setCreatedAt(last.getCreatedAt());
+			}
+
+			last = status;
+			if (version != null) {
+				lastVersion = version;
+			}
+			return last;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.soat.fiap.food.core.order.infrastructure.in.web.api.stream;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Assinante de um canal SSE com envio assíncrono e conflação.
+ * <p>
+ * Os envios são feitos por um {@link Executor}, fora da thread que publica a
+ * alteração. Enquanto um envio está em andamento, apenas o evento mais recente
+ * é mantido pendente: um cliente lento recebe o estado atual, sem acumular
+ * eventos intermediários nem atrasar os demais assinantes.
+ */
+final class SseSubscriber {
+
+	private final SseEmitter emitter;
+	private final Executor executor;
+	private final AtomicReference<Supplier<SseEventBuilder>> pending = new AtomicReference<>();
+	private final AtomicBoolean sending = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private final Consumer<SseSubscriber> onClose;
+
+	SseSubscriber(SseEmitter emitter, Executor executor, Consumer<SseSubscriber> onClose) {
+		this.emitter = emitter;
+		this.executor = executor;
+		this.onClose = onClose;
+
+		emitter.onCompletion(this::close);
+		emitter.onTimeout(this::close);
+		emitter.onError(ex -> close());
+	}
+
+	SseEmitter emitter() {
+		return emitter;
+	}
+
+	/**
+	 * Agenda o envio do evento, substituindo um evento ainda não enviado.
+	 *
+	 * @param event
+	 *            Fábrica do evento (um {@link SseEventBuilder} não pode ser
+	 *            compartilhado entre emissores)
+	 */
+	void push(Supplier<SseEventBuilder> event) {
+		pending.set(event);
+		schedule();
+	}
+
+	/**
+	 * Agenda o envio do evento somente se não houver outro pendente. Usado para
+	 * heartbeats, que não devem substituir uma alteração.
+	 *
+	 * @param event
+	 *            Fábrica do evento
+	 */
+	void pushIfIdle(Supplier<SseEventBuilder> event) {
+		if (pending.compareAndSet(null, event)) {
+			schedule();
+		}
+	}
+
+	private void schedule() {
+		if (!closed.get() && sending.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	private void drain() {
+		try {
+			Supplier<SseEventBuilder> event;
+			while (!closed.get() && (event = pending.getAndSet(null)) != null) {
+				emitter.send(event.get());
+			}
+		} catch (IOException | IllegalStateException ex) {
+			// Cliente desconectado ou emissor já encerrado: o container conclui a requisição
+			close();
+		} finally {
+			sending.set(false);
+		}
+
+		if (pending.get() != null) {
+			schedule();
+		}
+	}
+
+	private void close() {
+		if (closed.compareAndSet(false, true)) {
+			pending.set(null);
+			onClose.accept(this);
+		}
+	}
+}
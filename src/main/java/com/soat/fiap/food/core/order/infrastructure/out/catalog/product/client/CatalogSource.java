@@ -1,39 +1,124 @@
 package com.soat.fiap.food.core.order.infrastructure.out.catalog.product.client;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.ProductDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.resilience.RemoteCallGuard;
 import com.soat.fiap.food.core.order.infrastructure.common.source.CatalogDataSource;
 import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.exceptions.ProductException;
 import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.mapper.response.ProductDTOMapper;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementação concreta: DataSource para comunicação com o microsserviço de
  * Catalog (Product)
+ * <p>
+ * Os produtos ficam em cache por um curto período ({@code order.catalog.ttl}),
+ * e as buscas concorrentes com produtos fora do cache são agrupadas em uma
+ * única chamada ao catálogo ({@link ProductRequestCoalescer}). O estoque em
+ * cache pode estar defasado pelo período do TTL; a baixa efetiva continua
+ * sendo validada pelo catálogo.
+ * <p>
+ * As chamadas economizadas são publicadas na métrica
+ * {@code order.catalog.calls.saved}, por motivo ({@code cache} ou
+ * {@code coalesced}), e as chamadas feitas em {@code order.catalog.calls}.
+ * <p>
+ * As chamadas feitas passam pelo {@link RemoteCallGuard} (instâncias
+ * {@code catalog}): um catálogo lento ou fora do ar é rejeitado com status 503
+ * ou 504 em vez de ocupar as threads da aplicação.
  */
 @Component @Slf4j
 public class CatalogSource implements CatalogDataSource {
 
+	private static final String METRIC_CALLS = "order.catalog.calls";
+	private static final String METRIC_CALLS_SAVED = "order.catalog.calls.saved";
+	private static final String SERVICE = "catalog";
+
 	private final ProductClient client;
 	private final ProductDTOMapper productDTOMapper;
+	private final RemoteCallGuard remoteCallGuard;
+	private final Cache<Long, ProductDTO> products;
+	private final ProductRequestCoalescer coalescer;
+	private final Counter remoteCalls;
+	private final Counter savedByCache;
+	private final Counter savedByCoalescing;
 
-	public CatalogSource(ProductClient client, ProductDTOMapper productDTOMapper) {
+	public CatalogSource(ProductClient client, ProductDTOMapper productDTOMapper, RemoteCallGuard remoteCallGuard,
+			MeterRegistry meterRegistry,
+			@Value("${order.catalog.maximum-size:5000}") long maximumSize,
+			@Value("${order.catalog.ttl:PT5S}") Duration ttl,
+			@Value("${order.catalog.coalescing-window:PT0.005S}") Duration coalescingWindow,
+			@Value("${order.catalog.max-batch-size:200}") int maxBatchSize) {
 		this.client = client;
 		this.productDTOMapper = productDTOMapper;
+		this.remoteCallGuard = remoteCallGuard;
+		this.products = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+		this.coalescer = new ProductRequestCoalescer(this::fetch, coalescingWindow, maxBatchSize);
+
+		this.remoteCalls = Counter.builder(METRIC_CALLS)
+				.description("Chamadas ao microsserviço de catálogo")
+				.register(meterRegistry);
+		this.savedByCache = Counter.builder(METRIC_CALLS_SAVED)
+				.description("Chamadas ao microsserviço de catálogo evitadas")
+				.tag("reason", "cache")
+				.register(meterRegistry);
+		this.savedByCoalescing = Counter.builder(METRIC_CALLS_SAVED)
+				.description("Chamadas ao microsserviço de catálogo evitadas")
+				.tag("reason", "coalesced")
+				.register(meterRegistry);
 	}
 
 	@Override
 	public List<ProductDTO> findByProductIds(List<Long> productIds) {
+		var requested = new LinkedHashSet<>(productIds);
+		Map<Long, ProductDTO> cached = products.getAllPresent(requested);
+
+		var missing = new ArrayList<Long>();
+		for (var productId : requested) {
+			if (!cached.containsKey(productId)) {
+				missing.add(productId);
+			}
+		}
+
+		if (missing.isEmpty()) {
+			savedByCache.increment();
+			return toList(requested, cached, Map.of());
+		}
+
+		var result = coalescer.load(missing);
+		if (!result.remoteCall()) {
+			savedByCoalescing.increment();
+		}
+		return toList(requested, cached, result.products());
+	}
+
+	private List<ProductDTO> fetch(List<Long> productIds) {
+		remoteCalls.increment();
 		try {
-			var response = client.getProductsByIds(productIds);
+			var response = remoteCallGuard.call(SERVICE, () -> client.getProductsByIds(productIds));
 
 			if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
 				var productEntities = response.getBody();
-				return productDTOMapper.toDtoList(productEntities);
+				var productDTOs = productDTOMapper.toDtoList(productEntities);
+				productDTOs.stream()
+						.filter(product -> product.id() != null)
+						.forEach(product -> products.put(product.id(), product));
+				return productDTOs;
 			} else {
 				String errorMsg = "Erro do microsserviço de catálogo (Product) | Status code: "
 						+ response.getStatusCode().value();
@@ -42,9 +127,28 @@ public class CatalogSource implements CatalogDataSource {
 			}
 		} catch (ProductException e) {
 			throw e;
+		} catch (CallNotPermittedException | BulkheadFullException e) {
+			log.warn("Chamada ao microsserviço de catálogo (Product) rejeitada: {}", e.getMessage());
+			throw new ProductException("Microsserviço de catálogo (Product) indisponível no momento", e, 503);
+		} catch (TimeoutException e) {
+			log.warn("Tempo limite excedido ao contatar a API do microsserviço de catálogo (Product)");
+			throw new ProductException("Tempo limite excedido ao chamar API do microsserviço de catálogo (Product)",
+					e, 504);
 		} catch (Exception e) {
 			log.error("Erro inesperado ao contatar a API do microsserviço de catálogo (Product)", e);
 			throw new ProductException("Erro inesperado ao chamar API do microsserviço de catálogo (Product)", e, 500);
 		}
 	}
+
+	private static List<ProductDTO> toList(Iterable<Long> productIds, Map<Long, ProductDTO> cached,
+			Map<Long, ProductDTO> fetched) {
+		var result = new ArrayList<ProductDTO>();
+		for (var productId : productIds) {
+			var product = cached.containsKey(productId) ? cached.get(productId) : fetched.get(productId);
+			if (product != null) {
+				result.add(product);
+			}
+		}
+		return result;
+	}
 }
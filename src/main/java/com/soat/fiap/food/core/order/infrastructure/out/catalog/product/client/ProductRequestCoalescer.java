@@ -0,0 +1,117 @@
+package com.soat.fiap.food.core.order.infrastructure.out.catalog.product.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.ProductDTO;
+
+/**
+ * Agrupa buscas concorrentes de produtos em uma única chamada ao catálogo.
+ * <p>
+ * A primeira busca abre um lote e aguarda até {@code window} (ou até o lote
+ * atingir {@code maxBatchSize} IDs); as buscas que chegam nesse intervalo
+ * adicionam seus IDs ao mesmo lote e aguardam o resultado. Ao fim da janela, a
+ * primeira busca faz a chamada com todos os IDs, na própria thread, e
+ * compartilha o resultado com as demais.
+ */
+final class ProductRequestCoalescer {
+
+	private final Function<List<Long>, List<ProductDTO>> loader;
+	private final Duration window;
+	private final int maxBatchSize;
+
+	private Batch open;
+
+	ProductRequestCoalescer(Function<List<Long>, List<ProductDTO>> loader, Duration window, int maxBatchSize) {
+		this.loader = loader;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Busca os produtos, juntando-se ao lote aberto ou abrindo um novo.
+	 *
+	 * @param productIds
+	 *            IDs dos produtos
+	 * @return resultado da busca, indicando se a chamada ao catálogo foi feita por
+	 *         esta busca ou compartilhada com outra
+	 */
+	Result load(Collection<Long> productIds) {
+		Batch batch;
+		boolean leader;
+		synchronized (this) {
+			leader = open == null;
+			if (leader) {
+				open = new Batch();
+			}
+			batch = open;
+			batch.productIds.addAll(productIds);
+			if (batch.productIds.size() >= maxBatchSize) {
+				open = null;
+				batch.closed.countDown();
+			}
+		}
+
+		if (leader) {
+			execute(batch);
+		}
+
+		try {
+			return new Result(batch.products.join(), leader);
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	private void execute(Batch batch) {
+		try {
+			batch.closed.await(window.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		List<Long> productIds;
+		synchronized (this) {
+			if (open == batch) {
+				open = null;
+			}
+			productIds = new ArrayList<>(batch.productIds);
+		}
+
+		try {
+			var products = loader.apply(productIds)
+					.stream()
+					.filter(product -> product.id() != null)
+					.collect(Collectors.toMap(ProductDTO::id, Function.identity(), (first, second) -> first));
+			batch.products.complete(products);
+		} catch (RuntimeException ex) {
+			batch.products.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Produtos encontrados por ID e se esta busca fez a chamada ao catálogo.
+	 */
+	record Result(Map<Long, ProductDTO> products, boolean remoteCall) {
+	}
+
+	private static final class Batch {
+		private final Set<Long> productIds = new LinkedHashSet<>();
+		private final CountDownLatch closed = new CountDownLatch(1);
+		private final CompletableFuture<Map<Long, ProductDTO>> products = new CompletableFuture<>();
+	}
+}
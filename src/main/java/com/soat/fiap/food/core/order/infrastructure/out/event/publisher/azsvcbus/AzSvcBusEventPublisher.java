@@ -1,80 +1,95 @@
 package com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 import com.azure.messaging.servicebus.ServiceBusMessage;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
-import com.google.gson.Gson;
-import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCanceledEventDto;
-import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCreatedEventDto;
-import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderReadyEventDto;
-import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Implementação do {@link EventPublisherSource} usando Azure Service Bus.
+ * Publicador de eventos de pedido no Azure Service Bus.
  * <p>
- * Esta classe envia eventos de domínio para tópicos e filas do Azure Service
- * Bus correspondentes. Cada método publica um tipo de evento específico.
+ * Esta classe envia eventos já serializados para os tópicos e filas do Azure
+ * Service Bus correspondentes, agrupando as mensagens de cada destino em lotes
+ * enviados pelo cliente assíncrono ({@link ServiceBusBatchingSender}). É
+ * utilizada pelo relay da outbox, que acompanha o resultado de cada envio pelo
+ * futuro retornado.
  * </p>
  */
-@Slf4j @Component @AllArgsConstructor
-public class AzSvcBusEventPublisher implements EventPublisherSource {
+@Slf4j @Component
+public class AzSvcBusEventPublisher {
 
-	private final ServiceBusSenderClient orderCreatedSender;
-	private final ServiceBusSenderClient orderCanceledSender;
-	private final ServiceBusSenderClient orderReadySender;
-	private final Gson gson;
+	private final Map<String, ServiceBusBatchingSender> senders;
 
-	/**
-	 * Publica um evento de pedido criado no tópico correspondente do Azure Service
-	 * Bus.
-	 *
-	 * @param event
-	 *            Evento de pedido criado
-	 */
-	@Override
-	public void publishOrderCreatedEvent(OrderCreatedEventDto event) {
-		try {
-			orderCreatedSender.sendMessage(new ServiceBusMessage(gson.toJson(event)));
-			log.info("Evento de pedido criado publicado com sucesso: {}", event);
-		} catch (Exception ex) {
-			log.error("Erro ao publicar evento de pedido criado", ex);
-		}
+	public AzSvcBusEventPublisher(ServiceBusSenderAsyncClient orderCreatedSender,
+			ServiceBusSenderAsyncClient orderCanceledSender, ServiceBusSenderAsyncClient orderReadySender,
+			TaskScheduler taskScheduler, MeterRegistry meterRegistry,
+			@Value("${azsvcbus.publisher.max-batch-size:100}") int maxBatchSize,
+			@Value("${azsvcbus.publisher.max-batch-delay:PT0.02S}") Duration maxBatchDelay,
+			@Value("${azsvcbus.publisher.max-pending-messages:1000}") int maxPendingMessages,
+			@Value("${azsvcbus.publisher.backpressure-timeout:PT5S}") Duration backpressureTimeout) {
+		this.senders = Map.of(ServiceBusConfig.ORDER_CREATED_TOPIC,
+				new ServiceBusBatchingSender(ServiceBusConfig.ORDER_CREATED_TOPIC, orderCreatedSender, taskScheduler,
+						maxBatchSize, maxBatchDelay, maxPendingMessages, backpressureTimeout, meterRegistry),
+				ServiceBusConfig.ORDER_CANCELED_TOPIC,
+				new ServiceBusBatchingSender(ServiceBusConfig.ORDER_CANCELED_TOPIC, orderCanceledSender,
+						taskScheduler, maxBatchSize, maxBatchDelay, maxPendingMessages, backpressureTimeout,
+						meterRegistry),
+				ServiceBusConfig.ORDER_READY_QUEUE,
+				new ServiceBusBatchingSender(ServiceBusConfig.ORDER_READY_QUEUE, orderReadySender, taskScheduler,
+						maxBatchSize, maxBatchDelay, maxPendingMessages, backpressureTimeout, meterRegistry));
 	}
 
 	/**
-	 * Publica um evento de pedido cancelado na fila correspondente do Azure Service
-	 * Bus.
+	 * Publica um evento no tópico ou fila informado.
+	 * <p>
+	 * O {@code messageId} permite que o Service Bus e os consumidores descartem
+	 * reenvios do mesmo evento (entrega at-least-once).
+	 * </p>
 	 *
-	 * @param event
-	 *            Evento de pedido cancelado
+	 * @param destination
+	 *            Tópico ou fila de destino
+	 * @param messageId
+	 *            Identificador único do evento
+	 * @param orderId
+	 *            ID do pedido, enviado como correlation ID
+	 * @param payload
+	 *            Evento serializado em JSON
+	 * @return futuro concluído quando o Service Bus aceitar o evento, ou com erro
+	 *         se o envio falhar, o destino for desconhecido
+	 *         ({@link IllegalArgumentException}) ou houver mensagens pendentes
+	 *         demais ({@link java.util.concurrent.RejectedExecutionException})
 	 */
-	@Override
-	public void publishOrderCanceledEvent(OrderCanceledEventDto event) {
-		try {
-			orderCanceledSender.sendMessage(new ServiceBusMessage(gson.toJson(event)));
-			log.info("Evento de pedido cancelado publicado com sucesso: {}", event);
-		} catch (Exception ex) {
-			log.error("Erro ao publicar evento de pedido cancelado", ex);
+	public CompletableFuture<Void> publish(String destination, String messageId, Long orderId, String payload) {
+		var sender = senders.get(destination);
+		if (sender == null) {
+			return CompletableFuture
+					.failedFuture(new IllegalArgumentException("Destino de evento desconhecido: " + destination));
 		}
+
+		var message = new ServiceBusMessage(payload).setMessageId(messageId)
+				.setCorrelationId(String.valueOf(orderId))
+				.setContentType("application/json");
+
+		log.debug("Evento {} do pedido {} enfileirado para {}", messageId, orderId, destination);
+		return sender.send(message);
 	}
 
 	/**
-	 * Publica um evento de pedido pronto na fila correspondente do Azure Service
-	 * Bus.
-	 *
-	 * @param event
-	 *            Evento de pedido pronto
+	 * Envia imediatamente os eventos acumulados de todos os destinos.
 	 */
-	@Override
-	public void publishOrderReadyEvent(OrderReadyEventDto event) {
-		try {
-			orderReadySender.sendMessage(new ServiceBusMessage(gson.toJson(event)));
-			log.info("Evento de pedido pronto publicado com sucesso: {}", event);
-		} catch (Exception ex) {
-			log.error("Erro ao publicar evento de pedido pronto", ex);
-		}
+	@PreDestroy
+	public void flush() {
+		senders.values().forEach(ServiceBusBatchingSender::flush);
 	}
 }
@@ -0,0 +1,177 @@
+package com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Envio agrupado de mensagens para um único tópico ou fila do Service Bus.
+ * <p>
+ * As mensagens são acumuladas até {@code maxBatchSize} mensagens ou
+ * {@code maxBatchDelay}, o que ocorrer primeiro, e enviadas em
+ * {@code ServiceBusMessageBatch} pelo cliente assíncrono. Os lotes de um mesmo
+ * destino são enviados em sequência, preservando a ordem de chegada.
+ * <p>
+ * No máximo {@code maxPendingMessages} mensagens aguardam envio; acima disso o
+ * chamador espera até {@code backpressureTimeout} por espaço, e a mensagem é
+ * rejeitada se não houver.
+ */
+final class ServiceBusBatchingSender {
+
+	private static final String METRIC_PENDING = "order.events.publisher.pending";
+	private static final String METRIC_BATCH_SIZE = "order.events.publisher.batch.size";
+
+	private final String destination;
+	private final ServiceBusSenderAsyncClient client;
+	private final TaskScheduler taskScheduler;
+	private final int maxBatchSize;
+	private final Duration maxBatchDelay;
+	private final int maxPendingMessages;
+	private final Duration backpressureTimeout;
+	private final Semaphore permits;
+	private final DistributionSummary batchSizes;
+
+	private final List<PendingMessage> buffer = new ArrayList<>();
+	private ScheduledFuture<?> scheduledFlush;
+	private CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+
+	ServiceBusBatchingSender(String destination, ServiceBusSenderAsyncClient client, TaskScheduler taskScheduler,
+			int maxBatchSize, Duration maxBatchDelay, int maxPendingMessages, Duration backpressureTimeout,
+			MeterRegistry meterRegistry) {
+		this.destination = destination;
+		this.client = client;
+		this.taskScheduler = taskScheduler;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchDelay = maxBatchDelay;
+		this.maxPendingMessages = maxPendingMessages;
+		this.backpressureTimeout = backpressureTimeout;
+		this.permits = new Semaphore(maxPendingMessages);
+
+		Gauge.builder(METRIC_PENDING, this, ServiceBusBatchingSender::pendingMessages)
+				.description("Mensagens aguardando envio ao Service Bus")
+				.tag("destination", destination)
+				.register(meterRegistry);
+		this.batchSizes = DistributionSummary.builder(METRIC_BATCH_SIZE)
+				.description("Mensagens por lote enviado ao Service Bus")
+				.tag("destination", destination)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Adiciona uma mensagem ao próximo lote.
+	 *
+	 * @param message
+	 *            Mensagem a ser enviada
+	 * @return futuro concluído quando o lote da mensagem for aceito pelo Service
+	 *         Bus, ou com erro se o envio falhar ou a mensagem for rejeitada por
+	 *         excesso de mensagens pendentes
+	 */
+	CompletableFuture<Void> send(ServiceBusMessage message) {
+		try {
+			if (!permits.tryAcquire(backpressureTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				return CompletableFuture.failedFuture(new RejectedExecutionException(
+						"Limite de " + maxPendingMessages + " mensagens pendentes atingido para " + destination));
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return CompletableFuture.failedFuture(ex);
+		}
+
+		var pending = new PendingMessage(message, new CompletableFuture<>());
+		synchronized (this) {
+			buffer.add(pending);
+			if (buffer.size() >= maxBatchSize) {
+				flushBuffer();
+			} else if (scheduledFlush == null) {
+				scheduledFlush = taskScheduler.schedule(this::flush, Instant.now().plus(maxBatchDelay));
+			}
+		}
+		return pending.future();
+	}
+
+	/**
+	 * Envia imediatamente as mensagens acumuladas, sem aguardar o lote completar.
+	 */
+	synchronized void flush() {
+		flushBuffer();
+	}
+
+	private void flushBuffer() {
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+		if (buffer.isEmpty()) {
+			return;
+		}
+
+		var messages = List.copyOf(buffer);
+		buffer.clear();
+		inFlight = inFlight.thenCompose(ignored -> sendBatches(messages));
+	}
+
+	private CompletableFuture<Void> sendBatches(List<PendingMessage> messages) {
+		if (messages.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return client.createMessageBatch().toFuture().thenCompose(batch -> {
+			var count = 0;
+			while (count < messages.size() && batch.tryAddMessage(messages.get(count).message())) {
+				count++;
+			}
+
+			if (count == 0) {
+				complete(messages.subList(0, 1), new IllegalArgumentException(
+						"Mensagem excede o tamanho máximo de um lote do Service Bus em " + destination));
+				return sendBatches(messages.subList(1, messages.size()));
+			}
+
+			var sent = messages.subList(0, count);
+			var remaining = messages.subList(count, messages.size());
+			batchSizes.record(count);
+			return client.sendMessages(batch).toFuture().handle((ignored, ex) -> {
+				complete(sent, ex);
+				return null;
+			}).thenCompose(ignored -> sendBatches(remaining));
+		}).exceptionally(ex -> {
+			complete(messages, ex);
+			return null;
+		});
+	}
+
+	private void complete(List<PendingMessage> messages, Throwable error) {
+		var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		for (var pending : messages) {
+			var completed = cause == null
+					? pending.future().complete(null)
+					: pending.future().completeExceptionally(cause);
+			if (completed) {
+				permits.release();
+			}
+		}
+	}
+
+	private int pendingMessages() {
+		return maxPendingMessages - permits.availablePermits();
+	}
+
+	private record PendingMessage(ServiceBusMessage message, CompletableFuture<Void> future) {
+	}
+}
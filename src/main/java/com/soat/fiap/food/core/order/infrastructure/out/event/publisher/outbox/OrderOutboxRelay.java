@@ -0,0 +1,292 @@
+package com.soat.fiap.food.core.order.infrastructure.out.event.publisher.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus.AzSvcBusEventPublisher;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderOutboxEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relay da outbox de eventos de pedido.
+ * <p>
+ * Drena periodicamente a tabela {@code order_outbox} em lotes, publicando cada
+ * evento no Service Bus ({@link AzSvcBusEventPublisher}, que agrupa os envios em
+ * lotes) e removendo-o somente após a confirmação do envio (entrega
+ * at-least-once; o ID da outbox é enviado como {@code messageId}).
+ * <p>
+ * Cada lote passa por três etapas: uma transação curta, sob advisory lock,
+ * lê os eventos publicáveis e os reserva ({@code claimed_until}); o envio é
+ * feito fora da transação, aguardando a confirmação por no máximo
+ * {@code order.outbox.send-timeout}; e outra transação curta remove os eventos
+ * publicados e registra as falhas. Assim, um Service Bus lento não mantém
+ * conexões do pool nem o lock do relay.
+ * <p>
+ * A ordem por pedido é preservada: os eventos são lidos na ordem de gravação, e
+ * uma falha ao publicar um evento adia a próxima tentativa com backoff
+ * exponencial, junto com os eventos seguintes do mesmo pedido, sem bloquear os
+ * demais pedidos. Após {@code order.outbox.max-attempts} falhas o evento é
+ * estacionado ({@link OrderOutboxEntity.Status#PARKED}) e os eventos seguintes
+ * do pedido voltam a ser publicados.
+ */
+@Component @Slf4j
+public class OrderOutboxRelay {
+
+	/**
+	 * Chave do advisory lock do relay no Postgres.
+	 */
+	static final long RELAY_LOCK_KEY = "order_outbox_relay".hashCode();
+
+	private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(5);
+
+	private static final String METRIC_RELAYED = "order.outbox.relayed";
+	private static final String METRIC_FAILURES = "order.outbox.failures";
+	private static final String METRIC_PARKED = "order.outbox.parked";
+	private static final String METRIC_DELIVERY = "order.outbox.delivery";
+	private static final String METRIC_PENDING = "order.outbox.pending";
+	private static final String METRIC_LAG = "order.outbox.lag";
+
+	private final SpringDataOrderOutboxRepository outboxRepository;
+	private final AzSvcBusEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final int batchSize;
+	private final Duration sendTimeout;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+
+	private volatile long pending;
+	private volatile LocalDateTime oldestPending;
+
+	public OrderOutboxRelay(SpringDataOrderOutboxRepository outboxRepository,
+			AzSvcBusEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry, @Value("${order.outbox.batch-size:100}") int batchSize,
+			@Value("${order.outbox.send-timeout:PT10S}") Duration sendTimeout,
+			@Value("${order.outbox.max-attempts:10}") int maxAttempts,
+			@Value("${order.outbox.retry-backoff:PT1S}") Duration retryBackoff) {
+		this.outboxRepository = outboxRepository;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = transactionTemplate;
+		this.meterRegistry = meterRegistry;
+		this.batchSize = batchSize;
+		this.sendTimeout = sendTimeout;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+
+		Gauge.builder(METRIC_PENDING, this, relay -> relay.pending)
+				.description("Eventos pendentes na outbox")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_LAG, this, OrderOutboxRelay::lagSeconds)
+				.description("Idade do evento pendente mais antigo na outbox")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Drena a outbox enquanto houver lotes completos e atualiza as métricas de
+	 * pendência.
+	 */
+	@Scheduled(fixedDelayString = "${order.outbox.relay-interval:PT0.5S}")
+	public void relay() {
+		try {
+			List<OrderOutboxEntity> batch;
+			do {
+				batch = transactionTemplate.execute(status -> claimBatch());
+				if (!batch.isEmpty()) {
+					var result = publish(batch);
+					transactionTemplate.execute(status -> settle(result));
+				}
+			} while (batch.size() == batchSize);
+
+			pending = outboxRepository.countByStatus(OrderOutboxEntity.Status.PENDING);
+			oldestPending = outboxRepository.findOldestCreatedAt(OrderOutboxEntity.Status.PENDING);
+		} catch (DataAccessException ex) {
+			log.warn("Falha ao drenar a outbox de eventos de pedido: {}", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Lê e reserva um lote de eventos publicáveis. Executado em transação, sob o
+	 * advisory lock do relay.
+	 *
+	 * @return eventos reservados, ou lista vazia se outra instância estiver
+	 *         drenando a outbox
+	 */
+	List<OrderOutboxEntity> claimBatch() {
+		if (!outboxRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+			log.debug("Outbox sendo drenada por outra instância");
+			return List.of();
+		}
+
+		var now = LocalDateTime.now();
+		var batch = outboxRepository.findRelayable(now, batchSize);
+		if (!batch.isEmpty()) {
+			outboxRepository.claim(batch.stream().map(OrderOutboxEntity::getId).toList(),
+					now.plus(sendTimeout.multipliedBy(2)));
+		}
+		return batch;
+	}
+
+	/**
+	 * Publica um lote de eventos reservados, fora de transação.
+	 *
+	 * @param batch
+	 *            Eventos reservados, na ordem de gravação
+	 * @return eventos publicados, com falha e não enviados
+	 */
+	BatchResult publish(List<OrderOutboxEntity> batch) {
+		var deadline = System.nanoTime() + sendTimeout.toNanos();
+		var remaining = batch;
+		var blockedOrders = new HashSet<Long>();
+		var result = new BatchResult(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+		// Cada rodada envia, em paralelo, somente o evento mais antigo de cada pedido;
+		// o próximo evento do pedido só é enviado após a confirmação do anterior
+		while (!remaining.isEmpty()) {
+			var round = new LinkedHashMap<Long, OrderOutboxEntity>();
+			var next = new ArrayList<OrderOutboxEntity>();
+			for (var entry : remaining) {
+				if (blockedOrders.contains(entry.getAggregateId())) {
+					result.held().add(entry);
+				} else if (round.putIfAbsent(entry.getAggregateId(), entry) != null) {
+					next.add(entry);
+				}
+			}
+
+			var sends = new LinkedHashMap<OrderOutboxEntity, CompletableFuture<Void>>();
+			round.values()
+					.forEach(entry -> sends.put(entry, eventPublisher.publish(entry.getDestination(),
+							String.valueOf(entry.getId()), entry.getAggregateId(), entry.getPayload())));
+			eventPublisher.flush();
+
+			for (var send : sends.entrySet()) {
+				var entry = send.getKey();
+				var error = await(send.getValue(), deadline);
+				if (error == null) {
+					result.published().add(entry);
+					relayed(entry);
+				} else {
+					blockedOrders.add(entry.getAggregateId());
+					result.failed().add(entry);
+					failed(entry, error);
+				}
+			}
+			remaining = next;
+		}
+		return result;
+	}
+
+	/**
+	 * Remove os eventos publicados, registra as falhas e libera a reserva dos
+	 * eventos não enviados. Executado em transação.
+	 *
+	 * @param result
+	 *            Resultado da publicação do lote
+	 * @return quantidade de eventos publicados
+	 */
+	int settle(BatchResult result) {
+		if (!result.published().isEmpty()) {
+			outboxRepository.deleteAllInBatch(result.published());
+		}
+		if (!result.failed().isEmpty()) {
+			outboxRepository.saveAll(result.failed());
+		}
+		if (!result.held().isEmpty()) {
+			outboxRepository.release(result.held().stream().map(OrderOutboxEntity::getId).toList());
+		}
+		return result.published().size();
+	}
+
+	private Throwable await(CompletableFuture<Void> send, long deadline) {
+		try {
+			send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return null;
+		} catch (ExecutionException ex) {
+			return ex.getCause() != null ? ex.getCause() : ex;
+		} catch (TimeoutException ex) {
+			return new TimeoutException("Confirmação do Service Bus não recebida em " + sendTimeout);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return ex;
+		}
+	}
+
+	private void failed(OrderOutboxEntity entry, Throwable error) {
+		entry.setAttempts(entry.getAttempts() + 1);
+		entry.setLastError(error.getMessage());
+		entry.setClaimedUntil(null);
+		Counter.builder(METRIC_FAILURES)
+				.description("Falhas ao publicar eventos da outbox")
+				.tag("destination", entry.getDestination())
+				.register(meterRegistry)
+				.increment();
+
+		if (entry.getAttempts() >= maxAttempts) {
+			entry.setStatus(OrderOutboxEntity.Status.PARKED);
+			entry.setNextAttemptAt(null);
+			Counter.builder(METRIC_PARKED)
+					.description("Eventos da outbox estacionados após o limite de tentativas")
+					.tag("destination", entry.getDestination())
+					.register(meterRegistry)
+					.increment();
+			log.error("Evento {} do pedido {} em {} estacionado após {} tentativas", entry.getId(),
+					entry.getAggregateId(), entry.getDestination(), entry.getAttempts(), error);
+			return;
+		}
+
+		entry.setNextAttemptAt(LocalDateTime.now().plus(backoff(entry.getAttempts())));
+		log.error("Erro ao publicar evento {} do pedido {} em {} (tentativa {})", entry.getId(),
+				entry.getAggregateId(), entry.getDestination(), entry.getAttempts(), error);
+	}
+
+	private Duration backoff(int attempts) {
+		var backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+		return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+	}
+
+	private void relayed(OrderOutboxEntity entry) {
+		Counter.builder(METRIC_RELAYED)
+				.description("Eventos da outbox publicados")
+				.tag("destination", entry.getDestination())
+				.register(meterRegistry)
+				.increment();
+		Timer.builder(METRIC_DELIVERY)
+				.description("Tempo entre a gravação do evento na outbox e a sua publicação")
+				.tag("destination", entry.getDestination())
+				.register(meterRegistry)
+				.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+	}
+
+	private double lagSeconds() {
+		var oldest = oldestPending;
+		return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+	}
+
+	/**
+	 * Resultado da publicação de um lote: eventos publicados, com falha e não
+	 * enviados por falha de um evento anterior do mesmo pedido.
+	 */
+	record BatchResult(List<OrderOutboxEntity> published, List<OrderOutboxEntity> failed,
+			List<OrderOutboxEntity> held) {
+	}
+}
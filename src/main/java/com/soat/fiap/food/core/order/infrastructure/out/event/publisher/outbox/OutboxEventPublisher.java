@@ -0,0 +1,80 @@
+package com.soat.fiap.food.core.order.infrastructure.out.event.publisher.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCanceledEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCreatedEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderReadyEventDto;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderOutboxEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderOutboxRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do {@link EventPublisherSource} usando uma outbox
+ * transacional.
+ * <p>
+ * Os eventos são gravados na tabela {@code order_outbox} na mesma transação que
+ * altera o pedido, sem acessar o Service Bus durante a requisição. Se a
+ * transação for desfeita, o evento também é descartado. A publicação é feita
+ * posteriormente pelo {@link OrderOutboxRelay}.
+ * </p>
+ */
+@Slf4j @Component @AllArgsConstructor
+public class OutboxEventPublisher implements EventPublisherSource {
+
+	private final SpringDataOrderOutboxRepository outboxRepository;
+	private final EventCodec eventCodec;
+
+	/**
+	 * Registra um evento de pedido criado para o tópico correspondente do Azure
+	 * Service Bus.
+	 *
+	 * @param event
+	 *            Evento de pedido criado
+	 */
+	@Override @Transactional
+	public void publishOrderCreatedEvent(OrderCreatedEventDto event) {
+		append(event.getId(), ServiceBusConfig.ORDER_CREATED_TOPIC, eventCodec.encode(event));
+		log.info("Evento de pedido criado registrado na outbox: {}", event);
+	}
+
+	/**
+	 * Registra um evento de pedido cancelado para a fila correspondente do Azure
+	 * Service Bus.
+	 *
+	 * @param event
+	 *            Evento de pedido cancelado
+	 */
+	@Override @Transactional
+	public void publishOrderCanceledEvent(OrderCanceledEventDto event) {
+		append(event.getId(), ServiceBusConfig.ORDER_CANCELED_TOPIC, eventCodec.encode(event));
+		log.info("Evento de pedido cancelado registrado na outbox: {}", event);
+	}
+
+	/**
+	 * Registra um evento de pedido pronto para a fila correspondente do Azure
+	 * Service Bus.
+	 *
+	 * @param event
+	 *            Evento de pedido pronto
+	 */
+	@Override @Transactional
+	public void publishOrderReadyEvent(OrderReadyEventDto event) {
+		append(event.getOrderId(), ServiceBusConfig.ORDER_READY_QUEUE, eventCodec.encode(event));
+		log.info("Evento de pedido pronto registrado na outbox: {}", event);
+	}
+
+	private void append(Long orderId, String destination, String payload) {
+		var entry = new OrderOutboxEntity();
+		entry.setAggregateId(orderId);
+		entry.setDestination(destination);
+		entry.setPayload(payload);
+		outboxRepository.save(entry);
+	}
+}
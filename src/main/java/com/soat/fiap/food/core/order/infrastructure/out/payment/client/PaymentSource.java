@@ -1,33 +1,47 @@
 package com.soat.fiap.food.core.order.infrastructure.out.payment.client;
 
+import java.util.concurrent.TimeoutException;
+
 import org.springframework.stereotype.Component;
 
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.payment.PaymentStatusDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.resilience.RemoteCallGuard;
 import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
 import com.soat.fiap.food.core.order.infrastructure.out.payment.exceptions.PaymentException;
 import com.soat.fiap.food.core.order.infrastructure.out.payment.mapper.response.PaymentStatusDTOMapper;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementação concreta: DataSource para comunicação com o microsserviço de
  * Pagamento
+ * <p>
+ * As chamadas passam pelo {@link RemoteCallGuard} (instâncias
+ * {@code payment}): um serviço de pagamento lento ou fora do ar é rejeitado com
+ * status 503 ou 504 em vez de ocupar as threads da aplicação.
  */
 @Component @Slf4j
 public class PaymentSource implements PaymentDataSource {
 
+	private static final String SERVICE = "payment";
+
 	private final PaymentClient client;
 	private final PaymentStatusDTOMapper paymentStatusDTOMapper;
+	private final RemoteCallGuard remoteCallGuard;
 
-	public PaymentSource(PaymentClient client, PaymentStatusDTOMapper paymentStatusDTOMapper) {
+	public PaymentSource(PaymentClient client, PaymentStatusDTOMapper paymentStatusDTOMapper,
+			RemoteCallGuard remoteCallGuard) {
 		this.client = client;
 		this.paymentStatusDTOMapper = paymentStatusDTOMapper;
+		this.remoteCallGuard = remoteCallGuard;
 	}
 
 	@Override
 	public PaymentStatusDTO getOrderStatus(Long orderId) {
 		try {
-			var response = client.getOrderStatus(orderId);
+			var response = remoteCallGuard.call(SERVICE, () -> client.getOrderStatus(orderId));
 
 			if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
 				var paymentStatusEntity = response.getBody();
@@ -40,6 +54,12 @@ public class PaymentSource implements PaymentDataSource {
 			}
 		} catch (PaymentException e) {
 			throw e;
+		} catch (CallNotPermittedException | BulkheadFullException e) {
+			log.warn("Chamada ao microsserviço de pagamento rejeitada: {}", e.getMessage());
+			throw new PaymentException("Microsserviço de pagamento indisponível no momento", e, 503);
+		} catch (TimeoutException e) {
+			log.warn("Tempo limite excedido ao contatar a API do microsserviço de pagamento");
+			throw new PaymentException("Tempo limite excedido ao chamar API do microsserviço de pagamento", e, 504);
 		} catch (Exception e) {
 			log.error("Erro inesperado ao contatar a API do microsserviço de pagamento", e);
 			throw new PaymentException("Erro inesperado ao chamar API do microsserviço de pagamento", e, 500);
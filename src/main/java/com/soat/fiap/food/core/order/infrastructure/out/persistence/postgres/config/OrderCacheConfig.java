@@ -0,0 +1,39 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Classe de configuração do cache de pedidos.
+ * <p>
+ * O cache é limitado por tamanho e por tempo de vida (Caffeine) e registra
+ * estatísticas, publicadas pelo Actuator como métricas {@code cache.gets},
+ * {@code cache.puts} e {@code cache.evictions}. Inserções e invalidações sem
+ * {@code beforeInvocation} são aplicadas somente após o commit da transação.
+ */
+@Configuration @EnableCaching
+public class OrderCacheConfig {
+
+	/** Cache de pedidos por ID. */
+	public static final String ORDERS_CACHE = "orders";
+
+	@Bean
+	public CacheManager cacheManager(@Value("${order.cache.maximum-size:10000}") long maximumSize,
+			@Value("${order.cache.ttl:PT10S}") Duration ttl) {
+		var caffeineCacheManager = new CaffeineCacheManager(ORDERS_CACHE);
+		caffeineCacheManager
+				.setCaffeine(Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats());
+		caffeineCacheManager.setAllowNullValues(false);
+
+		return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+	}
+}
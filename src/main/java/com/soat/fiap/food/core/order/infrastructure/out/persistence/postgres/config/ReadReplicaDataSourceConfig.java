@@ -0,0 +1,76 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.routing.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Classe de configuração da réplica de leitura.
+ * <p>
+ * Habilitada por {@code spring.datasource.replica.enabled}. Substitui o
+ * DataSource padrão por um {@link ReadReplicaRoutingDataSource} que envia as
+ * transações somente leitura para a réplica, e que mede periodicamente o
+ * atraso de replicação. O Liquibase continua migrando diretamente o primário.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+	@Bean @LiquibaseDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("order-primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${spring.datasource.replica.url}") String url,
+			@Value("${spring.datasource.replica.username}") String username,
+			@Value("${spring.datasource.replica.password}") String password) {
+		var dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName())
+				.url(url)
+				.username(username)
+				.password(password)
+				.build();
+		dataSource.setPoolName("order-replica");
+		return dataSource;
+	}
+
+	@Bean
+	public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+			@Qualifier("primaryDataSource") DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") DataSource replicaDataSource,
+			@Value("${spring.datasource.replica.max-lag:PT2S}") Duration maxLag,
+			@Value("${spring.datasource.replica.failure-backoff:PT10S}") Duration failureBackoff,
+			MeterRegistry meterRegistry) {
+		return new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, maxLag, failureBackoff,
+				meterRegistry);
+	}
+
+	@Bean @Primary
+	public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+	}
+}
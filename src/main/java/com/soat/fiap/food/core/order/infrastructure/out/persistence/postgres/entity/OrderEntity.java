@@ -21,9 +21,17 @@ import lombok.Setter;
 @Entity @Table(name = "orders") @Getter @Setter
 public class OrderEntity {
 
+	/**
+	 * Tamanho padrão do bloco de IDs reservado a cada {@code nextval} (otimizador
+	 * pooled-lo). O valor efetivo é o {@code INCREMENT BY} da sequence no banco
+	 * (parâmetro Liquibase {@code orderIdBlockSize}), ajustado pelo Hibernate via
+	 * {@code hibernate.id.sequence.increment_size_mismatch_strategy=fix}.
+	 */
+	public static final int ID_BLOCK_SIZE = 50;
+
 	// GenerationType IDENTITY não acionará o @PrePersist de criação do orderNumber
 	@Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_seq_gen")
-	@SequenceGenerator(name = "order_id_seq_gen", sequenceName = "orders_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "order_id_seq_gen", sequenceName = "orders_id_seq", allocationSize = ID_BLOCK_SIZE)
 	private Integer id;
 
 	@Column(name = "user_id")
@@ -37,12 +45,19 @@ public class OrderEntity {
 	@JdbcTypeCode(NAMED_ENUM)
 	private OrderStatus orderStatus = OrderStatus.RECEIVED;
 
+	// Coluna gerada pelo banco a partir do status (ver 04-order-active-priority.sql)
+	@Column(name = "status_priority", insertable = false, updatable = false)
+	private Integer statusPriority;
+
 	@Column(nullable = false, precision = 10, scale = 2)
 	private BigDecimal amount;
 
 	@Embedded
 	private AuditInfo auditInfo = new AuditInfo();
 
+	@Version @Column(nullable = false)
+	private Long version;
+
 	@OneToMany(mappedBy = "order", cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH,
 			CascadeType.DETACH}, orphanRemoval = true)
 	private List<OrderItemEntity> orderItems = new ArrayList<>();
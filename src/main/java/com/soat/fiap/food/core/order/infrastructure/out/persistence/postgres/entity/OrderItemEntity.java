@@ -10,7 +10,9 @@ import lombok.Setter;
 @Entity @Table(name = "order_items") @Getter @Setter
 public class OrderItemEntity {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	// GenerationType IDENTITY impede o envio dos itens em lote (JDBC batch)
+	@Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_id_seq_gen")
+	@SequenceGenerator(name = "order_item_id_seq_gen", sequenceName = "order_items_id_seq", allocationSize = OrderEntity.ID_BLOCK_SIZE)
 	private Integer id;
 
 	@ManyToOne(optional = false, fetch = FetchType.LAZY) @JoinColumn(name = "order_id", nullable = false)
@@ -0,0 +1,56 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Evento de pedido pendente de publicação (transactional outbox).
+ * <p>
+ * Gravado na mesma transação que altera o pedido e removido pelo relay após a
+ * publicação no Service Bus. Eventos que atingem o limite de tentativas ficam
+ * estacionados ({@link Status#PARKED}) para análise.
+ */
+@Entity @Table(name = "order_outbox") @Getter @Setter
+public class OrderOutboxEntity {
+
+	/** Situação do evento na outbox. */
+	public enum Status {
+		/** Aguardando publicação. */
+		PENDING,
+		/** Limite de tentativas atingido; não é mais publicado pelo relay. */
+		PARKED
+	}
+
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "aggregate_id", nullable = false)
+	private Long aggregateId;
+
+	@Column(nullable = false)
+	private String destination;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	@Enumerated(EnumType.STRING) @Column(nullable = false, length = 16)
+	private Status status = Status.PENDING;
+
+	@Column(name = "next_attempt_at")
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claimed_until")
+	private LocalDateTime claimedUntil;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+}
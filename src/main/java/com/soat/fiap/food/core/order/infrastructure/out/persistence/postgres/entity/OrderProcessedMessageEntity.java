@@ -0,0 +1,37 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Mensagem recebida do Service Bus já processada por um consumidor.
+ * <p>
+ * Gravada na mesma transação do processamento da mensagem; redeliveries com o
+ * mesmo {@code messageId} são descartadas sem alterar o pedido.
+ */
+@Entity @Table(name = "order_processed_message") @IdClass(OrderProcessedMessageEntity.Key.class) @Getter @Setter
+public class OrderProcessedMessageEntity {
+
+	@Id @Column(nullable = false, length = 64)
+	private String consumer;
+
+	@Id @Column(name = "message_id", nullable = false, length = 128)
+	private String messageId;
+
+	@Column(name = "processed_at", nullable = false, updatable = false)
+	private LocalDateTime processedAt = LocalDateTime.now();
+
+	/**
+	 * Chave composta da mensagem processada.
+	 */
+	@Getter @Setter @EqualsAndHashCode
+	public static class Key implements Serializable {
+		private String consumer;
+		private String messageId;
+	}
+}
@@ -0,0 +1,12 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event;
+
+/**
+ * Evento interno publicado quando um pedido é removido.
+ * <p>
+ * Consumido por projeções de leitura após o commit da transação.
+ *
+ * @param orderId
+ *            ID do pedido
+ */
+public record OrderDeletedEvent(Long orderId) {
+}
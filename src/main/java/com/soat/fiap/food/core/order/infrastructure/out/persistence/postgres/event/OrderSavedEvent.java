@@ -0,0 +1,14 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+
+/**
+ * Evento interno publicado quando o agregado Pedido é gravado.
+ * <p>
+ * Consumido por projeções de leitura após o commit da transação.
+ *
+ * @param order
+ *            Pedido gravado
+ */
+public record OrderSavedEvent(OrderDTO order) {
+}
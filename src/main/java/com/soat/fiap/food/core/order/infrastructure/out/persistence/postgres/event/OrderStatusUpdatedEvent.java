@@ -0,0 +1,22 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event;
+
+import java.time.LocalDateTime;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+
+/**
+ * Evento interno publicado quando a transição de status de um pedido é gravada.
+ * <p>
+ * Consumido por projeções de leitura após o commit da transação.
+ *
+ * @param orderId
+ *            ID do pedido
+ * @param status
+ *            Novo status do pedido
+ * @param updatedAt
+ *            Data da transição
+ * @param version
+ *            Versão do pedido após a transição
+ */
+public record OrderStatusUpdatedEvent(Long orderId, OrderStatus status, LocalDateTime updatedAt, Long version) {
+}
@@ -0,0 +1,156 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config.OrderCacheConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recebe as alterações de pedidos gravadas por outras instâncias, invalida o
+ * cache local ({@link OrderCacheConfig#ORDERS_CACHE}) e republica a
+ * {@link OrderChangeNotification} como evento de aplicação, para que os
+ * assinantes desta instância (por exemplo, os canais SSE) recebam também as
+ * transições gravadas nas demais.
+ * <p>
+ * Mantém uma conexão do pool do primário em {@code LISTEN} no canal
+ * {@link OrderChangeNotifier#CHANNEL}, consultada em uma thread dedicada. As
+ * notificações emitidas por esta instância são ignoradas, pois a própria
+ * gravação já invalidou o cache.
+ * </p>
+ * <p>
+ * Notificações emitidas enquanto a conexão estava indisponível são perdidas;
+ * por isso o cache é esvaziado a cada (re)conexão, e o tempo de vida
+ * ({@code order.cache.ttl}) limita o que escapar entre o commit de outra
+ * instância e a chegada da notificação.
+ * </p>
+ */
+@Component @Slf4j
+@ConditionalOnProperty(name = "order.notifications.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderChangeListener {
+
+	private static final String METRIC_RECEIVED = "order.notifications.received";
+
+	private final DataSource dataSource;
+	private final String instanceId;
+	private final Cache orders;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final Duration pollInterval;
+	private final Duration reconnectBackoff;
+	private final Counter received;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public OrderChangeListener(DataSource dataSource, OrderChangeNotifier orderChangeNotifier,
+			CacheManager cacheManager, ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry,
+			@Value("${order.notifications.poll-interval:PT1S}") Duration pollInterval,
+			@Value("${order.notifications.reconnect-backoff:PT5S}") Duration reconnectBackoff) {
+		this.dataSource = dataSource;
+		this.instanceId = orderChangeNotifier.instanceId();
+		this.orders = cacheManager.getCache(OrderCacheConfig.ORDERS_CACHE);
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.pollInterval = pollInterval;
+		this.reconnectBackoff = reconnectBackoff;
+		this.received = Counter.builder(METRIC_RECEIVED)
+				.description("Alterações de pedidos recebidas de outras instâncias")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		worker = Thread.ofPlatform().daemon().name("order-change-listener").start(this::listen);
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * Trata uma notificação recebida do canal.
+	 *
+	 * @param payload
+	 *            Conteúdo da notificação
+	 */
+	public void onNotification(String payload) {
+		OrderChangeNotification notification;
+		try {
+			notification = OrderChangeNotification.parse(payload);
+		} catch (IllegalArgumentException ex) {
+			log.warn(ex.getMessage());
+			return;
+		}
+
+		if (instanceId.equals(notification.instanceId())) {
+			return;
+		}
+
+		orders.evict(notification.orderId());
+		received.increment();
+		log.debug("Pedido {} alterado em outra instância", notification.orderId());
+
+		applicationEventPublisher.publishEvent(notification);
+	}
+
+	private void listen() {
+		while (running) {
+			try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+				connection.setAutoCommit(true);
+				statement.execute("LISTEN " + OrderChangeNotifier.CHANNEL);
+				orders.clear();
+				log.info("Ouvindo alterações de pedidos de outras instâncias no canal {}",
+						OrderChangeNotifier.CHANNEL);
+
+				var pgConnection = connection.unwrap(PGConnection.class);
+				while (running) {
+					var notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+					if (notifications == null) {
+						continue;
+					}
+					for (var notification : notifications) {
+						onNotification(notification.getParameter());
+					}
+				}
+			} catch (SQLException | RuntimeException ex) {
+				if (!running) {
+					return;
+				}
+				log.warn("Conexão de notificações de pedidos perdida, nova tentativa em {}: {}", reconnectBackoff,
+						ex.getMessage());
+				if (!pause()) {
+					return;
+				}
+			}
+		}
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(reconnectBackoff);
+			return true;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification;
+
+import java.time.LocalDateTime;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+
+/**
+ * Notificação de alteração de pedido trocada entre instâncias pelo canal
+ * {@link OrderChangeNotifier#CHANNEL} do Postgres.
+ * <p>
+ * O conteúdo é texto simples no formato
+ * {@code instância;pedido;status;versão;data}, bem abaixo do limite de 8000
+ * bytes do {@code NOTIFY}. Os três últimos campos são preenchidos somente em
+ * transições de status.
+ * <p>
+ * Recebida de outra instância, é republicada localmente como evento de
+ * aplicação pelo {@link OrderChangeListener}.
+ *
+ * @param instanceId
+ *            Identificador da instância que gravou a alteração
+ * @param orderId
+ *            ID do pedido alterado
+ * @param status
+ *            Novo status do pedido, ou {@code null} se não for uma transição
+ * @param version
+ *            Versão do pedido após a transição, ou {@code null}
+ * @param updatedAt
+ *            Data da transição, ou {@code null}
+ */
+public record OrderChangeNotification(String instanceId, Long orderId, OrderStatus status, Long version,
+		LocalDateTime updatedAt) {
+
+	private static final String SEPARATOR = ";";
+
+	/**
+	 * @return {@code true} se a notificação for de uma transição de status
+	 */
+	public boolean isStatusUpdate() {
+		return status != null;
+	}
+
+	/**
+	 * @return conteúdo da notificação
+	 */
+	public String payload() {
+		return String.join(SEPARATOR, instanceId, String.valueOf(orderId), status == null ? "" : status.name(),
+				version == null ? "" : version.toString(), updatedAt == null ? "" : updatedAt.toString());
+	}
+
+	/**
+	 * Interpreta o conteúdo de uma notificação.
+	 *
+	 * @param payload
+	 *            Conteúdo recebido do canal
+	 * @return notificação correspondente
+	 * @throws IllegalArgumentException
+	 *             se o conteúdo não estiver no formato esperado
+	 */
+	public static OrderChangeNotification parse(String payload) {
+		var parts = payload == null ? new String[0] : payload.split(SEPARATOR, -1);
+		if (parts.length != 5 || parts[0].isBlank()) {
+			throw new IllegalArgumentException("Notificação de pedido inválida: " + payload);
+		}
+
+		try {
+			return new OrderChangeNotification(parts[0], Long.valueOf(parts[1]),
+					parts[2].isEmpty() ? null : OrderStatus.valueOf(parts[2]),
+					parts[3].isEmpty() ? null : Long.valueOf(parts[3]),
+					parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]));
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Notificação de pedido inválida: " + payload, ex);
+		}
+	}
+}
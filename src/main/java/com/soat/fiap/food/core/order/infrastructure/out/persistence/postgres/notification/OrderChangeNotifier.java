@@ -0,0 +1,82 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+
+/**
+ * Avisa as demais instâncias sobre alterações de pedidos.
+ * <p>
+ * A notificação é emitida com {@code pg_notify} na transação da gravação: o
+ * Postgres só a entrega aos ouvintes ({@link OrderChangeListener}) após o
+ * commit e a descarta no rollback.
+ * <p>
+ * Desabilitado por {@code order.notifications.enabled=false}.
+ */
+@Component
+public class OrderChangeNotifier {
+
+	/** Canal do Postgres das alterações de pedidos. */
+	public static final String CHANNEL = "order_changes";
+
+	private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	public OrderChangeNotifier(JdbcTemplate jdbcTemplate,
+			@Value("${order.notifications.enabled:true}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Registra a alteração do pedido na transação corrente.
+	 *
+	 * @param orderId
+	 *            ID do pedido alterado
+	 */
+	public void notifyChanged(Long orderId) {
+		if (orderId != null) {
+			send(new OrderChangeNotification(instanceId, orderId, null, null, null));
+		}
+	}
+
+	/**
+	 * Registra a transição de status do pedido na transação corrente.
+	 *
+	 * @param orderId
+	 *            ID do pedido
+	 * @param status
+	 *            Novo status do pedido
+	 * @param version
+	 *            Versão do pedido após a transição
+	 * @param updatedAt
+	 *            Data da transição
+	 */
+	public void notifyStatusUpdated(Long orderId, OrderStatus status, Long version, LocalDateTime updatedAt) {
+		send(new OrderChangeNotification(instanceId, orderId, status, version, updatedAt));
+	}
+
+	/**
+	 * @return identificador desta instância nas notificações
+	 */
+	public String instanceId() {
+		return instanceId;
+	}
+
+	private void send(OrderChangeNotification notification) {
+		if (!enabled) {
+			return;
+		}
+
+		jdbcTemplate.query(NOTIFY, rs -> {
+		}, CHANNEL, notification.payload());
+	}
+}
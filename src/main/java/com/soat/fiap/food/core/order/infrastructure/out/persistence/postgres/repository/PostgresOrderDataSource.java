@@ -1,48 +1,111 @@
 package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config.OrderCacheConfig;
 import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderEntity;
 import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderItemEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderDeletedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderSavedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderStatusUpdatedEvent;
 import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.mapper.OrderEntityMapper;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotifier;
 
 /**
  * Implementação concreta: DataSource para persistência do agregado Pedido.
+ * <p>
+ * Consultas por ID são mantidas em cache ({@link OrderCacheConfig#ORDERS_CACHE}).
+ * Toda gravação invalida o pedido imediatamente, para que novas tentativas na
+ * mesma transação releiam o banco, e novamente após o commit, descartando
+ * leituras concorrentes feitas antes dele. As demais instâncias são avisadas
+ * pelo {@link OrderChangeNotifier}, entregue somente após o commit.
+ * <p>
+ * O cache é preenchido a partir do primário: a leitura por ID não é somente
+ * leitura e, portanto, não é roteada para a réplica, cujo atraso deixaria no
+ * cache, após uma gravação, a versão anterior do pedido. Por isso ela não deve
+ * ser chamada dentro de uma transação somente leitura, à qual se juntaria.
+ * <p>
+ * Toda gravação também publica um evento interno ({@link OrderSavedEvent},
+ * {@link OrderStatusUpdatedEvent}, {@link OrderDeletedEvent}) para as
+ * projeções de leitura.
  */
 @Component
 public class PostgresOrderDataSource implements OrderDataSource {
 
 	private final SpringDataOrderRepository springDataOrderRepository;
 	private final OrderEntityMapper orderEntityMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final OrderChangeNotifier orderChangeNotifier;
 
 	public PostgresOrderDataSource(SpringDataOrderRepository springDataOrderRepository,
-			OrderEntityMapper orderEntityMapper) {
+			OrderEntityMapper orderEntityMapper, ApplicationEventPublisher applicationEventPublisher,
+			OrderChangeNotifier orderChangeNotifier) {
 		this.springDataOrderRepository = springDataOrderRepository;
 		this.orderEntityMapper = orderEntityMapper;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.orderChangeNotifier = orderChangeNotifier;
 	}
 
 	@Override @Transactional
+	@Caching(evict = {
+			@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#orderDTO.id()", condition = "#orderDTO.id() != null", beforeInvocation = true),
+			@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#result.id()")})
 	public OrderDTO save(OrderDTO orderDTO) {
 		OrderEntity orderEntity = orderEntityMapper.toEntity(orderDTO);
 		for (OrderItemEntity item : orderEntity.getOrderItems()) {
 			item.setOrder(orderEntity);
 		}
 		OrderEntity savedEntity = springDataOrderRepository.save(orderEntity);
-		return orderEntityMapper.toDTO(savedEntity);
+		OrderDTO savedDTO = orderEntityMapper.toDTO(savedEntity);
+		applicationEventPublisher.publishEvent(new OrderSavedEvent(savedDTO));
+		orderChangeNotifier.notifyChanged(savedDTO.id());
+		return savedDTO;
 	}
 
-	@Override @Transactional(readOnly = true)
+	@Override @Transactional
+	@Caching(evict = {@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#id", beforeInvocation = true),
+			@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#id")})
+	public boolean updateStatus(Long id, Long expectedVersion, OrderStatus expectedStatus, OrderStatus newStatus,
+			LocalDateTime updatedAt) {
+		var updated = springDataOrderRepository.updateStatus(id.intValue(), expectedVersion, expectedStatus,
+				newStatus, updatedAt) > 0;
+
+		if (updated) {
+			applicationEventPublisher.publishEvent(
+					new OrderStatusUpdatedEvent(id, newStatus, updatedAt, expectedVersion + 1));
+			orderChangeNotifier.notifyStatusUpdated(id, newStatus, expectedVersion + 1, updatedAt);
+		}
+
+		return updated;
+	}
+
+	@Override @Transactional
+	@Cacheable(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#id", unless = "#result == null")
 	public Optional<OrderDTO> findById(Long id) {
 		return springDataOrderRepository.findById(id).map(orderEntityMapper::toDTO);
 	}
 
+	@Override @Transactional(readOnly = true)
+	public Optional<OrderVersionDTO> findVersionById(Long id) {
+		return springDataOrderRepository.findVersionById(id.intValue())
+				.map(view -> new OrderVersionDTO(view.getId().longValue(), view.getVersion(), view.getUpdatedAt()));
+	}
+
 	@Override @Transactional(readOnly = true)
 	public List<OrderDTO> findByOrderStatus(OrderStatus status) {
 		List<OrderEntity> orderEntities = springDataOrderRepository.findByOrderStatus(status);
@@ -62,8 +125,12 @@ public class PostgresOrderDataSource implements OrderDataSource {
 	}
 
 	@Override @Transactional
+	@Caching(evict = {@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#id", beforeInvocation = true),
+			@CacheEvict(cacheNames = OrderCacheConfig.ORDERS_CACHE, key = "#id")})
 	public void delete(Long id) {
 		springDataOrderRepository.deleteById(id);
+		applicationEventPublisher.publishEvent(new OrderDeletedEvent(id));
+		orderChangeNotifier.notifyChanged(id);
 	}
 
 	@Override @Transactional(readOnly = true)
@@ -71,4 +138,13 @@ public class PostgresOrderDataSource implements OrderDataSource {
 		List<OrderEntity> orderEntities = springDataOrderRepository.findActiveOrdersSorted();
 		return orderEntities.stream().map(orderEntityMapper::toDTO).toList();
 	}
+
+	@Override @Transactional(readOnly = true)
+	public List<OrderDTO> findActiveOrdersSortedAfter(ActiveOrdersCursorDTO cursor, int limit) {
+		List<OrderEntity> orderEntities = cursor == null
+				? springDataOrderRepository.findActiveOrdersPage(Limit.of(limit))
+				: springDataOrderRepository.findActiveOrdersPageAfter(cursor.statusPriority(), cursor.createdAt(),
+						cursor.id().intValue(), Limit.of(limit));
+		return orderEntities.stream().map(orderEntityMapper::toDTO).toList();
+	}
 }
@@ -0,0 +1,105 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderOutboxEntity;
+
+/**
+ * Repositório Spring Data JPA para a outbox de eventos de pedido
+ */
+@Repository
+public interface SpringDataOrderOutboxRepository extends JpaRepository<OrderOutboxEntity, Long> {
+
+	/**
+	 * Busca os eventos pendentes mais antigos que podem ser publicados, na ordem em
+	 * que foram gravados.
+	 * <p>
+	 * Um evento é ignorado, junto com os eventos seguintes do mesmo pedido,
+	 * enquanto estiver reservado por um relay em envio ou aguardando a próxima
+	 * tentativa após uma falha. Assim, eventos com falha não bloqueiam os demais
+	 * pedidos, e a ordem por pedido é preservada.
+	 *
+	 * @param now
+	 *            Data atual
+	 * @param limit
+	 *            Quantidade máxima de eventos
+	 * @return Eventos publicáveis ordenados por ID
+	 */
+	@Query(value = """
+			SELECT o.* FROM order_outbox o
+			WHERE o.status = 'PENDING'
+			  AND NOT EXISTS (
+			    SELECT 1 FROM order_outbox b
+			    WHERE b.aggregate_id = o.aggregate_id
+			      AND b.id <= o.id
+			      AND b.status = 'PENDING'
+			      AND (b.claimed_until > :now OR b.next_attempt_at > :now))
+			ORDER BY o.id
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<OrderOutboxEntity> findRelayable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	/**
+	 * Reserva os eventos para o relay até a data informada, impedindo que sejam
+	 * lidos novamente enquanto o envio estiver em andamento.
+	 *
+	 * @param ids
+	 *            IDs dos eventos
+	 * @param claimedUntil
+	 *            Fim da reserva
+	 * @return Quantidade de eventos reservados
+	 */
+	@Modifying
+	@Query("UPDATE OrderOutboxEntity e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+	int claim(@Param("ids") List<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+	/**
+	 * Libera a reserva dos eventos que não foram enviados pelo relay.
+	 *
+	 * @param ids
+	 *            IDs dos eventos
+	 * @return Quantidade de eventos liberados
+	 */
+	@Modifying
+	@Query("UPDATE OrderOutboxEntity e SET e.claimedUntil = NULL WHERE e.id IN :ids")
+	int release(@Param("ids") List<Long> ids);
+
+	/**
+	 * Conta os eventos na situação informada.
+	 *
+	 * @param status
+	 *            Situação dos eventos
+	 * @return Quantidade de eventos
+	 */
+	long countByStatus(OrderOutboxEntity.Status status);
+
+	/**
+	 * Busca a data de gravação do evento mais antigo na situação informada.
+	 *
+	 * @param status
+	 *            Situação dos eventos
+	 * @return Data do evento mais antigo ou {@code null} se não houver eventos na
+	 *         situação
+	 */
+	@Query("SELECT MIN(e.createdAt) FROM OrderOutboxEntity e WHERE e.status = :status")
+	LocalDateTime findOldestCreatedAt(@Param("status") OrderOutboxEntity.Status status);
+
+	/**
+	 * Tenta obter o advisory lock transacional do relay, garantindo que apenas uma
+	 * instância do serviço drene a outbox por vez (preservando a ordem por pedido).
+	 * O lock é liberado automaticamente ao final da transação.
+	 *
+	 * @param key
+	 *            Chave do advisory lock
+	 * @return {@code true} se o lock foi obtido
+	 */
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryAdvisoryXactLock(@Param("key") long key);
+}
@@ -0,0 +1,52 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderProcessedMessageEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderProcessedMessageEntity.Key;
+
+/**
+ * Repositório Spring Data JPA para as mensagens recebidas já processadas
+ */
+@Repository
+public interface SpringDataOrderProcessedMessageRepository extends JpaRepository<OrderProcessedMessageEntity, Key> {
+
+	/**
+	 * Registra a mensagem como processada, caso ainda não tenha sido.
+	 * <p>
+	 * Uma gravação concorrente da mesma mensagem aguarda o commit (ou rollback) da
+	 * primeira, de modo que apenas uma transação registra a mensagem.
+	 *
+	 * @param consumer
+	 *            Listener que processa a mensagem
+	 * @param messageId
+	 *            messageId da mensagem no Service Bus
+	 * @return {@code 1} se a mensagem foi registrada, {@code 0} se já havia sido
+	 *         processada
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO order_processed_message (consumer, message_id, processed_at)
+			VALUES (:consumer, :messageId, CURRENT_TIMESTAMP)
+			ON CONFLICT DO NOTHING
+			""", nativeQuery = true)
+	int claim(@Param("consumer") String consumer, @Param("messageId") String messageId);
+
+	/**
+	 * Remove os registros de mensagens processadas antes da data informada.
+	 *
+	 * @param processedBefore
+	 *            Data limite de retenção
+	 * @return Quantidade de registros removidos
+	 */
+	@Modifying @Transactional
+	@Query("DELETE FROM OrderProcessedMessageEntity m WHERE m.processedAt < :processedBefore")
+	int deleteProcessedBefore(@Param("processedBefore") LocalDateTime processedBefore);
+}
@@ -1,9 +1,15 @@
 package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
@@ -11,10 +17,35 @@ import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.ent
 
 /**
  * Repositório Spring Data JPA para OrderEntity
+ * <p>
+ * As consultas de leitura carregam os itens do pedido via {@link EntityGraph}
+ * (fetch join), evitando uma consulta adicional por pedido (N+1) quando o
+ * agregado é convertido para DTO.
  */
 @Repository
 public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, Long> {
 
+	/**
+	 * Busca um pedido por ID, juntamente com seus itens
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @return Optional contendo o pedido ou vazio se não encontrado
+	 */
+	@Override @EntityGraph(attributePaths = "orderItems")
+	Optional<OrderEntity> findById(Long id);
+
+	/**
+	 * Busca somente a versão e a data de atualização de um pedido por ID, sem
+	 * carregar a entidade nem os seus itens.
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @return Optional contendo a versão do pedido ou vazio se não encontrado
+	 */
+	@Query("SELECT o.id AS id, o.version AS version, o.auditInfo.updatedAt AS updatedAt FROM OrderEntity o WHERE o.id = :id")
+	Optional<OrderVersionView> findVersionById(@Param("id") Integer id);
+
 	/**
 	 * Busca pedidos por status
 	 *
@@ -22,6 +53,7 @@ public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, Lo
 	 *            Status dos pedidos
 	 * @return Lista de pedidos com o status informado
 	 */
+	@EntityGraph(attributePaths = "orderItems")
 	List<OrderEntity> findByOrderStatus(OrderStatus status);
 
 	/**
@@ -31,27 +63,114 @@ public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, Lo
 	 *            ID do usuário
 	 * @return Lista de pedidos do cliente
 	 */
+	@EntityGraph(attributePaths = "orderItems")
 	List<OrderEntity> findByUserId(String userId);
 
 	/**
 	 * Busca pedidos que não estejam finalizados, ordenados por prioridade de status
 	 * e data de criação. A ordem de prioridade de status é: PRONTO > EM_PREPARACAO
 	 * > RECEBIDO. Pedidos com status FINALIZADO não são retornados.
+	 * <p>
+	 * O filtro e a ordenação utilizam a coluna gerada {@code status_priority},
+	 * atendidos pelo índice parcial {@code idx_orders_active_priority}. O literal
+	 * {@code 4} ({@link OrderStatus#INACTIVE_PRIORITY}) deve permanecer no JPQL
+	 * (e não como parâmetro) para que o planner associe a consulta ao predicado do
+	 * índice parcial.
 	 *
 	 * @return Lista de pedidos ativos ordenados por prioridade de status e data de
 	 *         criação (mais antigos primeiro)
 	 */
-	@Query("""
+	@EntityGraph(attributePaths = "orderItems") @Query("""
 			SELECT o FROM OrderEntity o
-			WHERE CAST(o.orderStatus AS string) <> 'COMPLETED' AND CAST(o.orderStatus AS string) <> 'CANCELLED'
-			ORDER BY
-			    CASE CAST(o.orderStatus AS string)
-			        WHEN 'READY' THEN 1
-			        WHEN 'PREPARING' THEN 2
-			        WHEN 'RECEIVED' THEN 3
-			        ELSE 4
-			    END,
-			    o.auditInfo.createdAt ASC
+			WHERE o.statusPriority < 4
+			ORDER BY o.statusPriority ASC, o.auditInfo.createdAt ASC, o.id ASC
 			""")
 	List<OrderEntity> findActiveOrdersSorted();
+
+	/**
+	 * Busca a primeira página de pedidos ativos, na mesma ordem de
+	 * {@link #findActiveOrdersSorted()}.
+	 * <p>
+	 * Não utiliza fetch join: combinado com um limite, o Hibernate paginaria em
+	 * memória. Os itens são carregados em lote ({@code default_batch_fetch_size}).
+	 *
+	 * @param limit
+	 *            Quantidade máxima de pedidos
+	 * @return Pedidos ativos da primeira página
+	 */
+	@Query("""
+			SELECT o FROM OrderEntity o
+			WHERE o.statusPriority < 4
+			ORDER BY o.statusPriority ASC, o.auditInfo.createdAt ASC, o.id ASC
+			""")
+	List<OrderEntity> findActiveOrdersPage(Limit limit);
+
+	/**
+	 * Busca a página de pedidos ativos posicionada imediatamente após a tupla
+	 * (prioridade, data de criação, ID) informada (paginação keyset).
+	 * <p>
+	 * A comparação por tupla é traduzida para row value comparison no Postgres,
+	 * permitindo que a página seja lida como um intervalo do índice
+	 * {@code idx_orders_active_priority}.
+	 *
+	 * @param statusPriority
+	 *            Prioridade do status do último pedido da página anterior
+	 * @param createdAt
+	 *            Data de criação do último pedido da página anterior
+	 * @param id
+	 *            ID do último pedido da página anterior
+	 * @param limit
+	 *            Quantidade máxima de pedidos
+	 * @return Pedidos ativos da página seguinte
+	 */
+	@Query("""
+			SELECT o FROM OrderEntity o
+			WHERE o.statusPriority < 4
+			AND (o.statusPriority, o.auditInfo.createdAt, o.id) > (:statusPriority, :createdAt, :id)
+			ORDER BY o.statusPriority ASC, o.auditInfo.createdAt ASC, o.id ASC
+			""")
+	List<OrderEntity> findActiveOrdersPageAfter(@Param("statusPriority") int statusPriority,
+			@Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Limit limit);
+
+	/**
+	 * Atualiza o status de um pedido somente se a versão e o status atuais forem os
+	 * esperados (compare-and-set), em um único comando UPDATE, sem carregar ou
+	 * mesclar o agregado. A versão é incrementada, como faria o {@code @Version}.
+	 * <p>
+	 * O contexto de persistência é limpo após o comando, pois entidades já
+	 * carregadas não refletem a atualização em lote.
+	 *
+	 * @param id
+	 *            ID do pedido
+	 * @param expectedVersion
+	 *            Versão esperada no banco de dados
+	 * @param expectedStatus
+	 *            Status esperado no banco de dados
+	 * @param newStatus
+	 *            Novo status
+	 * @param updatedAt
+	 *            Data de atualização do pedido
+	 * @return Quantidade de registros atualizados (0 se o pedido foi alterado
+	 *         concorrentemente ou não existe)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true) @Query("""
+			UPDATE OrderEntity o
+			SET o.orderStatus = :newStatus, o.auditInfo.updatedAt = :updatedAt, o.version = o.version + 1
+			WHERE o.id = :id AND o.version = :expectedVersion AND o.orderStatus = :expectedStatus
+			""")
+	int updateStatus(@Param("id") Integer id, @Param("expectedVersion") Long expectedVersion,
+			@Param("expectedStatus") OrderStatus expectedStatus, @Param("newStatus") OrderStatus newStatus,
+			@Param("updatedAt") LocalDateTime updatedAt);
+
+	/**
+	 * Projeção com a versão e a data de atualização de um pedido.
+	 */
+	interface OrderVersionView {
+
+		Integer getId();
+
+		Long getVersion();
+
+		LocalDateTime getUpdatedAt();
+	}
 }
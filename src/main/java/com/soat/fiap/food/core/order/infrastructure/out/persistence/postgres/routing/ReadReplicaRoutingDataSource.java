@@ -0,0 +1,200 @@
+package com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource que roteia transações somente leitura para uma réplica.
+ * <p>
+ * Transações {@code @Transactional(readOnly = true)} obtêm conexões da réplica;
+ * as demais, e qualquer acesso fora de transação, usam o primário. A réplica é
+ * ignorada (fallback para o primário) enquanto o atraso de replicação medido
+ * por {@link #refreshReplicaLag()} exceder o limite configurado, ou durante um
+ * intervalo após falha ao obter conexão dela.
+ * <p>
+ * Deve ser envolvido por um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * para que a conexão física seja obtida somente após o início da transação,
+ * quando o indicador de somente leitura já está disponível.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+	/**
+	 * Atraso de replicação, em segundos. Zero quando toda a WAL recebida já foi
+	 * aplicada ou quando a base não é uma réplica em recuperação.
+	 */
+	static final String REPLICATION_LAG_QUERY = """
+			SELECT COALESCE(
+			  CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)
+			""";
+
+	private static final String METRIC_CONNECTIONS = "order.datasource.connections";
+	private static final String METRIC_FALLBACKS = "order.datasource.replica.fallbacks";
+	private static final String METRIC_LAG = "order.datasource.replica.lag";
+
+	private final DataSource primary;
+	private final DataSource replica;
+	private final Duration maxLag;
+	private final Duration failureBackoff;
+
+	private final Counter primaryConnections;
+	private final Counter replicaConnections;
+	private final Counter lagFallbacks;
+	private final Counter failureFallbacks;
+
+	private volatile Duration replicationLag = Duration.ZERO;
+	private volatile long replicaRetryAtNanos;
+	private volatile boolean replicaFailed;
+
+	/**
+	 * Cria o DataSource de roteamento.
+	 *
+	 * @param primary
+	 *            Pool do primário (escrita)
+	 * @param replica
+	 *            Pool da réplica (leitura)
+	 * @param maxLag
+	 *            Atraso de replicação máximo tolerado para leituras na réplica
+	 * @param failureBackoff
+	 *            Intervalo em que a réplica é ignorada após falha de conexão
+	 * @param meterRegistry
+	 *            Registro de métricas
+	 */
+	public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag,
+			Duration failureBackoff, MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replica = replica;
+		this.maxLag = maxLag;
+		this.failureBackoff = failureBackoff;
+
+		this.primaryConnections = Counter.builder(METRIC_CONNECTIONS)
+				.description("Conexões obtidas por rota")
+				.tag("route", "primary")
+				.register(meterRegistry);
+		this.replicaConnections = Counter.builder(METRIC_CONNECTIONS)
+				.description("Conexões obtidas por rota")
+				.tag("route", "replica")
+				.register(meterRegistry);
+		this.lagFallbacks = Counter.builder(METRIC_FALLBACKS)
+				.description("Leituras desviadas da réplica para o primário")
+				.tag("reason", "lag")
+				.register(meterRegistry);
+		this.failureFallbacks = Counter.builder(METRIC_FALLBACKS)
+				.description("Leituras desviadas da réplica para o primário")
+				.tag("reason", "failure")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_LAG, this, ds -> ds.replicationLag.toMillis() / 1000.0)
+				.description("Atraso de replicação medido na réplica")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return primaryConnection();
+		}
+
+		if (isReplicaFailed()) {
+			failureFallbacks.increment();
+			return primaryConnection();
+		}
+
+		if (isReplicaLagging()) {
+			lagFallbacks.increment();
+			return primaryConnection();
+		}
+
+		try {
+			var connection = replica.getConnection();
+			replicaFailed = false;
+			replicaConnections.increment();
+			return connection;
+		} catch (SQLException ex) {
+			markReplicaFailed(ex);
+			failureFallbacks.increment();
+			return primaryConnection();
+		}
+	}
+
+	/**
+	 * Conexões com credenciais explícitas são sempre obtidas do primário, pois
+	 * as credenciais da réplica são as da configuração do seu pool.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primaryConnection(username, password);
+	}
+
+	/**
+	 * Mede o atraso de replicação na réplica. Uma falha na medição também marca
+	 * a réplica como indisponível.
+	 * <p>
+	 * Agendada somente quando este DataSource é registrado como bean, isto é,
+	 * com a réplica habilitada.
+	 */
+	@Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval:PT5S}")
+	public void refreshReplicaLag() {
+		try (var connection = replica.getConnection();
+				var statement = connection.createStatement();
+				var resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+			resultSet.next();
+			replicationLag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+			replicaFailed = false;
+
+			if (isReplicaLagging()) {
+				log.warn("Réplica com atraso de {} (máximo {}). Leituras serão feitas no primário", replicationLag,
+						maxLag);
+			}
+		} catch (SQLException ex) {
+			markReplicaFailed(ex);
+		}
+	}
+
+	/**
+	 * @return {@code true} se o último atraso medido exceder o limite
+	 */
+	public boolean isReplicaLagging() {
+		return replicationLag.compareTo(maxLag) > 0;
+	}
+
+	/**
+	 * @return {@code true} se a réplica estiver no intervalo de espera após falha
+	 */
+	public boolean isReplicaFailed() {
+		return replicaFailed && System.nanoTime() - replicaRetryAtNanos < 0;
+	}
+
+	private Connection primaryConnection() throws SQLException {
+		var connection = primary.getConnection();
+		primaryConnections.increment();
+		return connection;
+	}
+
+	private Connection primaryConnection(String username, String password) throws SQLException {
+		var connection = primary.getConnection(username, password);
+		primaryConnections.increment();
+		return connection;
+	}
+
+	private void markReplicaFailed(SQLException ex) {
+		log.warn("Réplica indisponível, leituras serão feitas no primário por {}: {}", failureBackoff,
+				ex.getMessage());
+		replicaRetryAtNanos = System.nanoTime() + failureBackoff.toNanos();
+		replicaFailed = true;
+	}
+}
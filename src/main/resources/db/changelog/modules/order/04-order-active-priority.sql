@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset order:04-order-active-priority runAlways:true
+-- Prioridade do status na fila de pedidos ativos (PRONTO > EM_PREPARACAO > RECEBIDO).
+-- Coluna gerada: mantida pelo banco a cada alteração de status, sem necessidade de escrita pela aplicação.
+ALTER TABLE orders
+  ADD COLUMN IF NOT EXISTS status_priority SMALLINT GENERATED ALWAYS AS (
+    CASE status
+      WHEN 'READY' THEN 1
+      WHEN 'PREPARING' THEN 2
+      WHEN 'RECEIVED' THEN 3
+      ELSE 4
+    END
+  ) STORED;
+
+COMMENT
+ON COLUMN orders.status_priority IS 'Prioridade do status na fila de pedidos ativos (1 = PRONTO, 2 = EM_PREPARACAO, 3 = RECEBIDO, 4 = finalizado)';
+
+-- Índice parcial (apenas pedidos ativos) na mesma ordem do painel da cozinha.
+-- As demais colunas são incluídas (INCLUDE) para permitir Index Only Scan, sem acesso à tabela.
+CREATE INDEX IF NOT EXISTS idx_orders_active_priority
+  ON orders (status_priority, created_at, id)
+  INCLUDE (user_id, order_number, status, amount, updated_at)
+  WHERE status_priority < 4;
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset order:05-order-id-sequences runAlways:true
+-- Sequences com incremento em blocos para o otimizador pooled-lo do Hibernate:
+-- cada nextval reserva ${orderIdBlockSize} IDs, atribuídos em memória pela aplicação.
+-- Inserções diretas via DEFAULT (nextval) continuam seguras: recebem o início do próximo bloco.
+ALTER SEQUENCE orders_id_seq INCREMENT BY ${orderIdBlockSize};
+ALTER SEQUENCE order_items_id_seq INCREMENT BY ${orderIdBlockSize};
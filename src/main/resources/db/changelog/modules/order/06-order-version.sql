@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset order:06-order-version runAlways:true
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT
+ON COLUMN orders.version IS 'Versão do registro para controle de concorrência otimista';
+
+--changeset order:06-order-version-index runAlways:true splitStatements:false
+-- Recria o índice de pedidos ativos incluindo a coluna version, lida pelo Hibernate,
+-- para manter o Index Only Scan. Executado apenas enquanto o índice não contém a coluna.
+DO $$
+BEGIN
+  IF NOT EXISTS (
+    SELECT 1 FROM pg_indexes
+    WHERE tablename = 'orders' AND indexname = 'idx_orders_active_priority' AND indexdef LIKE '%version%'
+  ) THEN
+    DROP INDEX IF EXISTS idx_orders_active_priority;
+    CREATE INDEX idx_orders_active_priority
+      ON orders (status_priority, created_at, id)
+      INCLUDE (user_id, order_number, status, amount, updated_at, version)
+      WHERE status_priority < 4;
+  END IF;
+END $$;
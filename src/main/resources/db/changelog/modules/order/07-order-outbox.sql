@@ -0,0 +1,27 @@
+--liquibase formatted sql
+
+--changeset order:07-order-outbox runAlways:true
+-- Outbox de eventos de pedido: gravada na mesma transação do pedido e drenada pelo relay.
+-- A ordem de entrega por pedido segue a ordem do id (BIGSERIAL).
+CREATE TABLE IF NOT EXISTS order_outbox
+(
+  id BIGSERIAL PRIMARY KEY,
+  aggregate_id BIGINT NOT NULL,
+  destination VARCHAR(255) NOT NULL,
+  payload TEXT NOT NULL,
+  attempts INTEGER DEFAULT 0 NOT NULL,
+  last_error TEXT,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+COMMENT
+ON TABLE order_outbox IS 'Eventos de pedido pendentes de publicação no Service Bus';
+
+COMMENT
+ON COLUMN order_outbox.aggregate_id IS 'ID do pedido que originou o evento';
+
+COMMENT
+ON COLUMN order_outbox.destination IS 'Tópico ou fila de destino do evento';
+
+COMMENT
+ON COLUMN order_outbox.attempts IS 'Quantidade de tentativas de publicação com falha';
@@ -0,0 +1,23 @@
+--liquibase formatted sql
+
+--changeset order:08-order-processed-message runAlways:true
+-- Mensagens recebidas já processadas (consumidor idempotente): a mensagem é registrada
+-- na mesma transação do processamento, e redeliveries do Service Bus são descartadas.
+CREATE TABLE IF NOT EXISTS order_processed_message
+(
+  consumer VARCHAR(64) NOT NULL,
+  message_id VARCHAR(128) NOT NULL,
+  processed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  PRIMARY KEY (consumer, message_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_processed_message_processed_at ON order_processed_message (processed_at);
+
+COMMENT
+ON TABLE order_processed_message IS 'Mensagens do Service Bus já processadas, por consumidor';
+
+COMMENT
+ON COLUMN order_processed_message.consumer IS 'Listener que processou a mensagem';
+
+COMMENT
+ON COLUMN order_processed_message.message_id IS 'messageId da mensagem no Service Bus';
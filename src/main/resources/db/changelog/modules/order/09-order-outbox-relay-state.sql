@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset order:09-order-outbox-relay-state runAlways:true
+-- Estado do relay na outbox: eventos reservados durante o envio, adiados após falha
+-- e estacionados após o limite de tentativas, sem bloquear os demais pedidos.
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS status VARCHAR(16) DEFAULT 'PENDING' NOT NULL;
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_order_outbox_aggregate_pending ON order_outbox (aggregate_id, id) WHERE status = 'PENDING';
+
+COMMENT
+ON COLUMN order_outbox.status IS 'PENDING: aguardando publicação; PARKED: limite de tentativas atingido';
+
+COMMENT
+ON COLUMN order_outbox.next_attempt_at IS 'Próxima tentativa após falha; bloqueia os eventos seguintes do pedido até lá';
+
+COMMENT
+ON COLUMN order_outbox.claimed_until IS 'Reserva do evento por um relay em envio; expira se o relay for interrompido';
@@ -0,0 +1,48 @@
+package integration.bdd.common.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra os comandos SQL gerados pelo Hibernate durante um trecho de código,
+ * para que os testes analisem o SQL efetivamente executado pela aplicação (e
+ * não uma cópia escrita à mão).
+ * <p>
+ * Registrado no contexto de testes por {@link StatementCaptureConfiguration}.
+ * Fora de {@link #capture(Supplier)} os comandos não são registrados.
+ * </p>
+ */
+public class CapturedStatements implements StatementInspector {
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+	private volatile boolean capturing;
+
+	@Override
+	public String inspect(String sql) {
+		if (capturing) {
+			statements.add(sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * Executa a ação registrando os comandos SQL gerados por ela.
+	 *
+	 * @param action
+	 *            ação que executa as consultas
+	 * @return comandos SQL gerados, na ordem de execução
+	 */
+	public synchronized List<String> capture(Supplier<?> action) {
+		statements.clear();
+		capturing = true;
+		try {
+			action.get();
+			return List.copyOf(statements);
+		} finally {
+			capturing = false;
+		}
+	}
+}
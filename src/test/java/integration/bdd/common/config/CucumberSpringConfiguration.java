@@ -3,6 +3,7 @@ package integration.bdd.common.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -29,6 +30,8 @@ import jakarta.annotation.PostConstruct;
  * <li>Permite executar cenários BDD que utilizam o contexto real do Spring
  * Boot.</li>
  * <li>Carrega o perfil {@code test} para isolamento de ambiente.</li>
+ * <li>Registra os comandos SQL gerados pelo Hibernate
+ * ({@link CapturedStatements}) para análise dos planos de execução.</li>
  * </ul>
  *
  * @see TestContainersConfiguration
@@ -36,7 +39,7 @@ import jakarta.annotation.PostConstruct;
  * @see SpringBootTest
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = FoodCoreApiApplication.class)
-@ActiveProfiles("test") @CucumberContextConfiguration
+@ActiveProfiles("test") @CucumberContextConfiguration @Import(StatementCaptureConfiguration.class)
 public class CucumberSpringConfiguration extends TestContainersConfiguration {
 	@LocalServerPort
 	protected int localServerPort;
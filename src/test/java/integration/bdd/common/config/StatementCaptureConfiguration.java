@@ -0,0 +1,24 @@
+package integration.bdd.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registra {@link CapturedStatements} como {@code StatementInspector} do
+ * Hibernate no contexto dos testes BDD.
+ */
+@TestConfiguration
+public class StatementCaptureConfiguration {
+
+	@Bean
+	public CapturedStatements capturedStatements() {
+		return new CapturedStatements();
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer statementInspectorCustomizer(CapturedStatements capturedStatements) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, capturedStatements);
+	}
+}
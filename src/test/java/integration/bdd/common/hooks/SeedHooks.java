@@ -7,6 +7,7 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 
 import integration.bdd.common.config.CucumberSpringConfiguration;
@@ -28,9 +29,12 @@ public class SeedHooks extends CucumberSpringConfiguration {
 	@Autowired
 	private DataSource dataSource;
 
+	@Autowired
+	private CacheManager cacheManager;
+
 	/**
 	 * Hook executado antes de cada cenário Cucumber. Remove todos os registros da
-	 * base de dados para garantir um estado limpo.
+	 * base de dados e limpa os caches para garantir um estado limpo.
 	 */
 	@After
 	public void limparBanco() throws DatabaseException, SQLException {
@@ -44,5 +48,7 @@ public class SeedHooks extends CucumberSpringConfiguration {
 		liquibase.dropAll();
 
 		connection.close();
+
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
 	}
 }
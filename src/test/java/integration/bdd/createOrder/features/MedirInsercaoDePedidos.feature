@@ -0,0 +1,19 @@
+# language: pt
+Funcionalidade: Medir a latência de inserção de pedidos
+  Como EQUIPE DE ENGENHARIA responsável pelo serviço de pedidos
+  Quero medir o tempo de gravação de um pedido conforme a quantidade de itens
+  Para garantir que os itens sejam gravados em lote, sem um comando por item
+
+  Contexto:
+    Dado que existam pedidos
+
+  Esquema do Cenario: Gravar pedidos com <itens> itens em lote
+    Quando forem gravados 50 pedidos com <itens> itens cada
+    Então a latência de gravação por pedido deve ser registrada
+    E cada pedido deve ser gravado com no máximo 4 comandos SQL
+
+    Exemplos:
+      | itens |
+      | 1     |
+      | 10    |
+      | 50    |
@@ -0,0 +1,129 @@
+package integration.bdd.createOrder.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderItemDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+
+import integration.bdd.common.config.CucumberSpringConfiguration;
+import io.cucumber.java.pt.Entao;
+import io.cucumber.java.pt.Quando;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Steps BDD responsáveis por medir a latência de gravação de pedidos conforme a
+ * quantidade de itens.
+ * <p>
+ * Os itens utilizam IDs reservados em bloco (pooled-lo) e são enviados em lote
+ * JDBC, reescritos pelo driver em um único INSERT multi-valores. A quantidade
+ * de comandos SQL por pedido deve, portanto, independer da quantidade de itens.
+ * </p>
+ */
+public class MedirInsercaoDePedidosSteps extends CucumberSpringConfiguration {
+
+	private static final Logger log = LoggerFactory.getLogger(MedirInsercaoDePedidosSteps.class);
+
+	private static final int WARMUP_ORDERS = 10;
+
+	@Autowired
+	private OrderDataSource orderDataSource;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private int itemsPerOrder;
+	private long[] latenciesNanos;
+	private double statementsPerOrder;
+
+	/**
+	 * Grava pedidos com a quantidade de itens informada, medindo a latência de
+	 * cada gravação. Algumas gravações iniciais são descartadas (aquecimento).
+	 *
+	 * @param orders
+	 *            quantidade de pedidos medidos.
+	 * @param items
+	 *            quantidade de itens por pedido.
+	 */
+	@Quando("forem gravados {int} pedidos com {int} itens cada")
+	public void foremGravadosPedidosComItensCada(int orders, int items) {
+		itemsPerOrder = items;
+
+		IntStream.range(0, WARMUP_ORDERS).forEach(i -> orderDataSource.save(createOrder(items)));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		latenciesNanos = new long[orders];
+		for (int i = 0; i < orders; i++) {
+			var order = createOrder(items);
+
+			var start = System.nanoTime();
+			orderDataSource.save(order);
+			latenciesNanos[i] = System.nanoTime() - start;
+		}
+
+		statementsPerOrder = (double) statistics.getPrepareStatementCount() / orders;
+	}
+
+	/**
+	 * Registra as latências (p50, p95 e máxima) de gravação por pedido.
+	 */
+	@Entao("a latência de gravação por pedido deve ser registrada")
+	public void aLatenciaDeGravacaoPorPedidoDeveSerRegistrada() {
+		var sorted = latenciesNanos.clone();
+		Arrays.sort(sorted);
+
+		log.info("Gravação de pedido com {} itens: p50={} ms, p95={} ms, max={} ms, comandos SQL/pedido={}",
+				itemsPerOrder, toMillis(percentile(sorted, 50)), toMillis(percentile(sorted, 95)),
+				toMillis(sorted[sorted.length - 1]), statementsPerOrder);
+
+		assertThat(sorted).as("Todas as gravações devem ter sido medidas").hasSize(latenciesNanos.length);
+	}
+
+	/**
+	 * Verifica a quantidade média de comandos SQL por pedido gravado.
+	 *
+	 * @param quantity
+	 *            quantidade máxima de comandos SQL por pedido.
+	 */
+	@Entao("cada pedido deve ser gravado com no máximo {int} comandos SQL")
+	public void cadaPedidoDeveSerGravadoComNoMaximoComandosSql(int quantity) {
+		assertThat(statementsPerOrder)
+				.as("Os itens devem ser gravados em lote, sem um comando SQL por item (%d itens)", itemsPerOrder)
+				.isLessThanOrEqualTo(quantity);
+	}
+
+	private OrderDTO createOrder(int items) {
+		List<OrderItemDTO> orderItems = new ArrayList<>();
+		for (long i = 1; i <= items; i++) {
+			orderItems.add(new OrderItemDTO(null, i, "Produto " + i, 1, new BigDecimal("9.90"), null, null, null));
+		}
+
+		var amount = new BigDecimal("9.90").multiply(BigDecimal.valueOf(items));
+
+		return new OrderDTO(null, "benchmark-user", null, OrderStatus.RECEIVED, amount, orderItems, null, null, null);
+	}
+
+	private static long percentile(long[] sorted, int percentile) {
+		var index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(index, 0)];
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
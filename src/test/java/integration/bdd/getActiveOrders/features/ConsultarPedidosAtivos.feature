@@ -0,0 +1,35 @@
+# language: pt
+Funcionalidade: Consultar pedidos sem consultas N+1
+  Como COZINHA que acompanha o painel de pedidos
+  Quero que os pedidos sejam carregados juntamente com seus itens
+  Para que o painel não degrade conforme o número de pedidos cresce
+
+  Contexto:
+    Dado que existam pedidos
+
+  Cenario: Carregar os pedidos ativos com seus itens em um único comando SQL
+    Quando os pedidos ativos forem consultados
+    Então devem ser retornados 3 pedidos com seus itens
+    E apenas 1 comando SQL deve ter sido executado
+
+  Cenario: Carregar os pedidos de um cliente com seus itens em um único comando SQL
+    Quando os pedidos do cliente "asd34515232" forem consultados
+    Então devem ser retornados 3 pedidos com seus itens
+    E apenas 1 comando SQL deve ter sido executado
+
+  Cenario: Carregar os pedidos de um status com seus itens em um único comando SQL
+    Quando os pedidos com status "RECEIVED" forem consultados
+    Então devem ser retornados 2 pedidos com seus itens
+    E apenas 1 comando SQL deve ter sido executado
+
+  Cenario: Ordenar os pedidos ativos pelo índice de prioridade sem acessar a tabela
+    Dado que existam 5000 pedidos finalizados
+    Quando o plano de execução da consulta da primeira página de pedidos ativos for analisado
+    Então a consulta deve utilizar o índice "idx_orders_active_priority" sem acessar a tabela
+    E a consulta não deve ordenar os pedidos em memória
+
+  Cenario: Buscar a próxima página de pedidos ativos como um intervalo do índice de prioridade
+    Dado que existam 5000 pedidos finalizados
+    Quando o plano de execução da consulta da próxima página de pedidos ativos for analisado
+    Então a consulta deve utilizar o índice "idx_orders_active_priority" sem acessar a tabela
+    E a consulta não deve ordenar os pedidos em memória
@@ -0,0 +1,214 @@
+package integration.bdd.getActiveOrders.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+
+import integration.bdd.common.config.CapturedStatements;
+import integration.bdd.common.config.CucumberSpringConfiguration;
+import io.cucumber.java.pt.Dado;
+import io.cucumber.java.pt.Entao;
+import io.cucumber.java.pt.Quando;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Steps BDD responsáveis por validar que as consultas de pedidos carregam os
+ * itens sem gerar um comando SQL adicional por pedido (N+1).
+ * <p>
+ * A contagem de comandos é obtida das estatísticas do Hibernate, habilitadas no
+ * perfil de testes. Também valida, via {@code EXPLAIN} do SQL gerado pelo
+ * Hibernate para a consulta paginada, que a ordenação por prioridade é
+ * atendida pelo índice parcial de pedidos ativos.
+ * </p>
+ */
+public class ConsultarPedidosAtivosSteps extends CucumberSpringConfiguration {
+
+	private static final int PAGE_SIZE = 20;
+	private static final Pattern ORDERS_TABLE = Pattern.compile("\\bfrom orders\\b", Pattern.CASE_INSENSITIVE);
+	private static final Pattern JDBC_PARAMETER = Pattern.compile("\\?");
+
+	@Autowired
+	private OrderDataSource orderDataSource;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CapturedStatements capturedStatements;
+
+	private List<OrderDTO> orders;
+	private long preparedStatements;
+	private String executionPlan;
+
+	/**
+	 * Consulta os pedidos ativos exibidos no painel da cozinha.
+	 */
+	@Quando("os pedidos ativos forem consultados")
+	public void osPedidosAtivosForemConsultados() {
+		orders = countingStatements(() -> orderDataSource.findActiveOrdersSorted());
+	}
+
+	/**
+	 * Consulta os pedidos de um cliente.
+	 *
+	 * @param userId
+	 *            ID do cliente.
+	 */
+	@Quando("os pedidos do cliente {string} forem consultados")
+	public void osPedidosDoClienteForemConsultados(String userId) {
+		orders = countingStatements(() -> orderDataSource.findByUserId(userId));
+	}
+
+	/**
+	 * Consulta os pedidos de um status.
+	 *
+	 * @param status
+	 *            status dos pedidos.
+	 */
+	@Quando("os pedidos com status {string} forem consultados")
+	public void osPedidosComStatusForemConsultados(String status) {
+		orders = countingStatements(() -> orderDataSource.findByOrderStatus(OrderStatus.valueOf(status)));
+	}
+
+	/**
+	 * Verifica a quantidade de pedidos retornados e se todos possuem itens.
+	 *
+	 * @param quantity
+	 *            quantidade esperada de pedidos.
+	 */
+	@Entao("devem ser retornados {int} pedidos com seus itens")
+	public void devemSerRetornadosPedidosComSeusItens(int quantity) {
+		assertThat(orders).as("Devem ser retornados %d pedidos", quantity).hasSize(quantity);
+		assertThat(orders).as("Todos os pedidos devem possuir itens")
+				.allSatisfy(order -> assertThat(order.items()).isNotEmpty());
+	}
+
+	/**
+	 * Verifica a quantidade de comandos SQL executados na consulta.
+	 *
+	 * @param quantity
+	 *            quantidade máxima de comandos SQL.
+	 */
+	@Entao("apenas {int} comando SQL deve ter sido executado")
+	public void apenasComandoSqlDeveTerSidoExecutado(int quantity) {
+		assertThat(preparedStatements).as("A consulta não deve executar um comando SQL adicional por pedido (N+1)")
+				.isEqualTo(quantity);
+	}
+
+	/**
+	 * Insere pedidos finalizados, que não fazem parte do índice parcial de
+	 * pedidos ativos, para que a tabela tenha um volume de histórico semelhante
+	 * ao de produção e o planner decida com as configurações padrão.
+	 *
+	 * @param quantity
+	 *            quantidade de pedidos finalizados.
+	 */
+	@Dado("que existam {int} pedidos finalizados")
+	public void queExistamPedidosFinalizados(int quantity) {
+		jdbcTemplate.update("""
+				INSERT INTO orders (user_id, order_number, status, amount, created_at, updated_at)
+				SELECT 'historico', 'HIST-' || g, 'COMPLETED'::order_status_enum, 10.00,
+				       LOCALTIMESTAMP - g * interval '1 minute', LOCALTIMESTAMP
+				FROM generate_series(1, ?) AS g
+				""", quantity);
+	}
+
+	/**
+	 * Analisa o plano de execução do comando SQL gerado pelo Hibernate para a
+	 * primeira página de pedidos ativos.
+	 */
+	@Quando("o plano de execução da consulta da primeira página de pedidos ativos for analisado")
+	public void oPlanoDeExecucaoDaConsultaDaPrimeiraPaginaDePedidosAtivosForAnalisado() {
+		executionPlan = explain(ordersQuery(() -> orderDataSource.findActiveOrdersSortedAfter(null, PAGE_SIZE)));
+	}
+
+	/**
+	 * Analisa o plano de execução do comando SQL gerado pelo Hibernate para a
+	 * página seguinte de pedidos ativos (paginação keyset).
+	 */
+	@Quando("o plano de execução da consulta da próxima página de pedidos ativos for analisado")
+	public void oPlanoDeExecucaoDaConsultaDaProximaPaginaDePedidosAtivosForAnalisado() {
+		var cursor = new ActiveOrdersCursorDTO(OrderStatus.RECEIVED.getActivePriority(),
+				LocalDateTime.now().minusHours(1), 1L);
+		executionPlan = explain(ordersQuery(() -> orderDataSource.findActiveOrdersSortedAfter(cursor, PAGE_SIZE)));
+	}
+
+	/**
+	 * Verifica se a consulta é atendida exclusivamente pelo índice informado.
+	 *
+	 * @param index
+	 *            nome do índice.
+	 */
+	@Entao("a consulta deve utilizar o índice {string} sem acessar a tabela")
+	public void aConsultaDeveUtilizarOIndiceSemAcessarATabela(String index) {
+		assertThat(executionPlan).as("A consulta deve ser um Index Only Scan em %s. Plano:%n%s", index, executionPlan)
+				.contains("Index Only Scan using " + index);
+	}
+
+	/**
+	 * Verifica se o plano de execução não possui etapa de ordenação.
+	 */
+	@Entao("a consulta não deve ordenar os pedidos em memória")
+	public void aConsultaNaoDeveOrdenarOsPedidosEmMemoria() {
+		assertThat(executionPlan).as("A ordem deve vir do índice, sem etapa de Sort. Plano:%n%s", executionPlan)
+				.doesNotContain("Sort");
+	}
+
+	/**
+	 * Executa a consulta pela aplicação e retorna o comando SQL gerado pelo
+	 * Hibernate para a tabela de pedidos; os itens são carregados em lote, nos
+	 * comandos seguintes.
+	 */
+	private String ordersQuery(Supplier<List<OrderDTO>> query) {
+		var statements = capturedStatements.capture(query);
+		return statements.stream()
+				.filter(sql -> ORDERS_TABLE.matcher(sql).find())
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("Consulta de pedidos não executada. Comandos: " + statements));
+	}
+
+	/**
+	 * Obtém o plano genérico de um comando SQL parametrizado, o mesmo usado pelo
+	 * {@code PreparedStatement}, com as configurações padrão do planner.
+	 * <p>
+	 * A tabela é analisada (VACUUM) para que as estatísticas e o visibility map
+	 * reflitam os pedidos inseridos no cenário.
+	 * </p>
+	 */
+	private String explain(String sql) {
+		jdbcTemplate.execute("VACUUM ANALYZE orders");
+
+		var parameter = new AtomicInteger();
+		var numbered = JDBC_PARAMETER.matcher(sql).replaceAll(match -> "\\$" + parameter.incrementAndGet());
+
+		var plan = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class);
+		return String.join(System.lineSeparator(), plan);
+	}
+
+	private List<OrderDTO> countingStatements(Supplier<List<OrderDTO>> query) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		var result = query.get();
+
+		preparedStatements = statistics.getPrepareStatementCount();
+		return result;
+	}
+}
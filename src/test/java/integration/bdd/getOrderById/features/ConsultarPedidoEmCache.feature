@@ -0,0 +1,20 @@
+# language: pt
+Funcionalidade: Consultar pedido por ID a partir do cache
+  Como CLIENTE que acompanha o andamento do seu pedido
+  Quero que as consultas repetidas ao pedido sejam respondidas pelo cache
+  Para que o acompanhamento não sobrecarregue o banco de dados
+
+  Contexto:
+    Dado que existam pedidos
+
+  Cenario: Consultar repetidamente o mesmo pedido
+    Quando o pedido 2 for consultado 3 vezes
+    Então o banco de dados deve ter sido consultado 1 vez
+    E o cache de pedidos deve registrar 2 acertos e 1 falta
+
+  Cenario: Invalidar o pedido em cache após a transição de status
+    Dado que o pedido 2 esteja em cache com status "READY"
+    Quando o status do pedido 2 for atualizado de "READY" para "COMPLETED"
+    E o pedido 2 for consultado 1 vez
+    Então o pedido deve ser retornado com status "COMPLETED"
+    E o banco de dados deve ter sido consultado 1 vez
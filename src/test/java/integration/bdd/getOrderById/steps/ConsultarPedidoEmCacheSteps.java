@@ -0,0 +1,122 @@
+package integration.bdd.getOrderById.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config.OrderCacheConfig;
+
+import integration.bdd.common.config.CucumberSpringConfiguration;
+import io.cucumber.java.pt.Dado;
+import io.cucumber.java.pt.Entao;
+import io.cucumber.java.pt.Quando;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Steps BDD responsáveis por validar o cache de consulta de pedidos por ID.
+ * <p>
+ * A quantidade de consultas ao banco é obtida das estatísticas do Hibernate, e
+ * os acertos e faltas do cache das métricas publicadas no Micrometer.
+ * </p>
+ */
+public class ConsultarPedidoEmCacheSteps extends CucumberSpringConfiguration {
+
+	@Autowired
+	private OrderDataSource orderDataSource;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private OrderDTO order;
+	private long databaseQueries;
+	private double initialHits;
+	private double initialMisses;
+
+	/**
+	 * Consulta o pedido para que ele seja armazenado em cache.
+	 *
+	 * @param id
+	 *            ID do pedido.
+	 * @param status
+	 *            status esperado do pedido.
+	 */
+	@Dado("que o pedido {long} esteja em cache com status {string}")
+	public void queOPedidoEstejaEmCacheComStatus(Long id, String status) {
+		order = orderDataSource.findById(id).orElseThrow();
+		assertThat(order.status()).isEqualTo(OrderStatus.valueOf(status));
+	}
+
+	/**
+	 * Consulta o mesmo pedido repetidas vezes.
+	 *
+	 * @param id
+	 *            ID do pedido.
+	 * @param times
+	 *            quantidade de consultas.
+	 */
+	@Quando("o pedido {long} for consultado {int} vez(es)")
+	public void oPedidoForConsultadoVezes(Long id, int times) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		initialHits = cacheGets("hit");
+		initialMisses = cacheGets("miss");
+
+		for (int i = 0; i < times; i++) {
+			order = orderDataSource.findById(id).orElseThrow();
+		}
+
+		databaseQueries = statistics.getPrepareStatementCount();
+	}
+
+	/**
+	 * Atualiza o status do pedido, como fazem a API e os handlers do Service Bus.
+	 *
+	 * @param id
+	 *            ID do pedido.
+	 * @param from
+	 *            status atual.
+	 * @param to
+	 *            novo status.
+	 */
+	@Quando("o status do pedido {long} for atualizado de {string} para {string}")
+	public void oStatusDoPedidoForAtualizadoDePara(Long id, String from, String to) {
+		var updated = orderDataSource.updateStatus(id, order.version(), OrderStatus.valueOf(from),
+				OrderStatus.valueOf(to), LocalDateTime.now());
+		assertThat(updated).isTrue();
+	}
+
+	@Entao("o banco de dados deve ter sido consultado {int} vez(es)")
+	public void oBancoDeDadosDeveTerSidoConsultadoVez(int quantity) {
+		assertThat(databaseQueries).as("Consultas repetidas devem ser respondidas pelo cache").isEqualTo(quantity);
+	}
+
+	@Entao("o cache de pedidos deve registrar {int} acerto(s) e {int} falta(s)")
+	public void oCacheDePedidosDeveRegistrarAcertosEFalta(int hits, int misses) {
+		assertThat(cacheGets("hit") - initialHits).isEqualTo(hits);
+		assertThat(cacheGets("miss") - initialMisses).isEqualTo(misses);
+	}
+
+	@Entao("o pedido deve ser retornado com status {string}")
+	public void oPedidoDeveSerRetornadoComStatus(String status) {
+		assertThat(order.status()).isEqualTo(OrderStatus.valueOf(status));
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets")
+				.tag("cache", OrderCacheConfig.ORDERS_CACHE)
+				.tag("result", result)
+				.functionCounter()
+				.count();
+	}
+}
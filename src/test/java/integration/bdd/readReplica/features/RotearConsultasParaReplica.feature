@@ -0,0 +1,37 @@
+# language: pt
+@replica
+Funcionalidade: Rotear transações somente leitura para a réplica
+  Como OPERADOR do serviço de pedidos
+  Quero que as consultas sejam atendidas por uma réplica de leitura
+  Para que o primário fique dedicado às escritas sem servir leituras defasadas
+
+  Contexto:
+    Dado um primário com uma réplica por streaming sincronizada
+
+  Cenario: Atender transações somente leitura pela réplica
+    Quando uma transação somente leitura for executada
+    Então a transação deve ter sido atendida pela réplica
+    E a métrica de conexões da rota "replica" deve ser 1
+
+  Cenario: Atender transações de escrita pelo primário
+    Quando uma transação de escrita for executada
+    Então a transação deve ter sido atendida pelo primário
+    E a métrica de conexões da rota "primary" deve ser 1
+
+  Cenario: Ler na réplica um registro gravado no primário
+    Quando um registro for gravado no primário
+    Então o registro deve ser lido em uma transação somente leitura
+
+  Cenario: Voltar ao primário quando a réplica estiver atrasada
+    Dado que a aplicação da WAL esteja pausada na réplica
+    E um registro for gravado no primário
+    Quando o atraso da réplica for medido
+    E uma transação somente leitura for executada
+    Então a transação deve ter sido atendida pelo primário
+    E a métrica de desvios por "lag" deve ser 1
+
+  Cenario: Voltar ao primário quando a réplica estiver indisponível
+    Dado que a réplica esteja indisponível
+    Quando uma transação somente leitura for executada
+    Então a transação deve ter sido atendida pelo primário
+    E a métrica de desvios por "failure" deve ser 1
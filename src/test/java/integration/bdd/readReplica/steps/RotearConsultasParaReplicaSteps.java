@@ -0,0 +1,249 @@
+package integration.bdd.readReplica.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.routing.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import integration.bdd.common.config.CucumberSpringConfiguration;
+import io.cucumber.java.After;
+import io.cucumber.java.pt.Dado;
+import io.cucumber.java.pt.Entao;
+import io.cucumber.java.pt.Quando;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Steps BDD responsáveis por validar o roteamento de transações somente leitura
+ * para a réplica de leitura.
+ * <p>
+ * Utiliza um primário e uma réplica por streaming dedicados (Testcontainers),
+ * independentes do banco usado pelo contexto da aplicação. A réplica é criada
+ * com {@code pg_basebackup -R} a partir do primário.
+ * </p>
+ */
+public class RotearConsultasParaReplicaSteps extends CucumberSpringConfiguration {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+	/**
+	 * Libera conexões de replicação no primário.
+	 */
+	private static final String ALLOW_REPLICATION = """
+			#!/bin/sh
+			echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+			""";
+
+	private static final Network network = Network.newNetwork();
+
+	private static final PostgreSQLContainer primaryContainer = new PostgreSQLContainer("postgres:16-alpine")
+			.withNetwork(network)
+			.withNetworkAliases("primary")
+			.withCopyToContainer(Transferable.of(ALLOW_REPLICATION, 0755),
+					"/docker-entrypoint-initdb.d/00-allow-replication.sh")
+			.withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=replica", "-c", "max_wal_senders=4");
+
+	private static final GenericContainer<?> replicaContainer = new GenericContainer<>("postgres:16-alpine")
+			.withNetwork(network)
+			.withExposedPorts(5432)
+			.withEnv("PGPASSWORD", primaryContainer.getPassword())
+			.withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+			.withCommand("sh", "-c",
+					"until pg_basebackup -h primary -U " + primaryContainer.getUsername()
+							+ " -D /tmp/replica -R -X stream; do sleep 1; done; exec postgres -D /tmp/replica")
+			.waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*\\s", 1)
+					.withStartupTimeout(Duration.ofMinutes(2)))
+			.dependsOn(primaryContainer);
+
+	private static final HikariDataSource primaryPool;
+	private static final HikariDataSource replicaPool;
+
+	static {
+		primaryContainer.start();
+		replicaContainer.start();
+
+		primaryPool = pool(primaryContainer.getJdbcUrl());
+		replicaPool = pool(String.format("jdbc:postgresql://%s:%d/%s", replicaContainer.getHost(),
+				replicaContainer.getMappedPort(5432), primaryContainer.getDatabaseName()));
+	}
+
+	private SimpleMeterRegistry meterRegistry;
+	private ReadReplicaRoutingDataSource routingDataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnlyTransaction;
+	private TransactionTemplate readWriteTransaction;
+	private HikariDataSource unavailableReplicaPool;
+
+	private Boolean servedByReplica;
+	private Long recordId;
+
+	/**
+	 * Aguarda a réplica aplicar um registro gravado no primário, garantindo que
+	 * ela esteja sincronizada antes do cenário.
+	 */
+	@Dado("um primário com uma réplica por streaming sincronizada")
+	public void umPrimarioComUmaReplicaPorStreamingSincronizada() {
+		new JdbcTemplate(primaryPool).execute(
+				"CREATE TABLE IF NOT EXISTS replica_probe (id BIGSERIAL PRIMARY KEY, created_at TIMESTAMP DEFAULT now())");
+		var id = new JdbcTemplate(primaryPool).queryForObject("INSERT INTO replica_probe DEFAULT VALUES RETURNING id",
+				Long.class);
+
+		var replica = new JdbcTemplate(replicaPool);
+		awaitUntil(() -> exists(replica, id), "A réplica deve aplicar o registro gravado no primário");
+
+		route(replicaPool);
+	}
+
+	/**
+	 * Pausa a aplicação da WAL na réplica, simulando atraso de replicação.
+	 */
+	@Dado("que a aplicação da WAL esteja pausada na réplica")
+	public void queAAplicacaoDaWalEstejaPausadaNaReplica() {
+		new JdbcTemplate(replicaPool).execute("SELECT pg_wal_replay_pause()");
+	}
+
+	/**
+	 * Substitui a réplica por um pool que não consegue se conectar.
+	 */
+	@Dado("que a réplica esteja indisponível")
+	public void queAReplicaEstejaIndisponivel() {
+		unavailableReplicaPool = pool("jdbc:postgresql://localhost:1/" + primaryContainer.getDatabaseName());
+		route(unavailableReplicaPool);
+	}
+
+	@Quando("uma transação somente leitura for executada")
+	public void umaTransacaoSomenteLeituraForExecutada() {
+		servedByReplica = readOnlyTransaction.execute(status -> isInRecovery());
+	}
+
+	@Quando("uma transação de escrita for executada")
+	public void umaTransacaoDeEscritaForExecutada() {
+		servedByReplica = readWriteTransaction.execute(status -> isInRecovery());
+	}
+
+	@Quando("um registro for gravado no primário")
+	public void umRegistroForGravadoNoPrimario() {
+		recordId = readWriteTransaction.execute(status -> jdbcTemplate
+				.queryForObject("INSERT INTO replica_probe DEFAULT VALUES RETURNING id", Long.class));
+	}
+
+	/**
+	 * Mede o atraso após a réplica receber a WAL que ainda não aplicou.
+	 */
+	@Quando("o atraso da réplica for medido")
+	public void oAtrasoDaReplicaForMedido() {
+		var replica = new JdbcTemplate(replicaPool);
+		awaitUntil(() -> Boolean.TRUE.equals(replica.queryForObject(
+				"SELECT pg_last_wal_receive_lsn() > pg_last_wal_replay_lsn()", Boolean.class)),
+				"A réplica deve receber a WAL sem aplicá-la");
+
+		routingDataSource.refreshReplicaLag();
+
+		assertThat(routingDataSource.isReplicaLagging()).as("A réplica deve ser considerada atrasada").isTrue();
+	}
+
+	@Entao("a transação deve ter sido atendida pela réplica")
+	public void aTransacaoDeveTerSidoAtendidaPelaReplica() {
+		assertThat(servedByReplica).as("A conexão deve pertencer a uma réplica em recuperação").isTrue();
+	}
+
+	@Entao("a transação deve ter sido atendida pelo primário")
+	public void aTransacaoDeveTerSidoAtendidaPeloPrimario() {
+		assertThat(servedByReplica).as("A conexão deve pertencer ao primário").isFalse();
+	}
+
+	@Entao("o registro deve ser lido em uma transação somente leitura")
+	public void oRegistroDeveSerLidoEmUmaTransacaoSomenteLeitura() {
+		awaitUntil(() -> Boolean.TRUE.equals(readOnlyTransaction.execute(status -> exists(jdbcTemplate, recordId))),
+				"O registro gravado no primário deve ser lido na réplica");
+
+		assertThat(readOnlyTransaction.execute(status -> isInRecovery())).isTrue();
+	}
+
+	@Entao("a métrica de conexões da rota {string} deve ser {int}")
+	public void aMetricaDeConexoesDaRotaDeveSer(String route, int expected) {
+		var count = meterRegistry.get("order.datasource.connections").tag("route", route).counter().count();
+		assertThat(count).isEqualTo(expected);
+	}
+
+	@Entao("a métrica de desvios por {string} deve ser {int}")
+	public void aMetricaDeDesviosPorDeveSer(String reason, int expected) {
+		var count = meterRegistry.get("order.datasource.replica.fallbacks").tag("reason", reason).counter().count();
+		assertThat(count).isEqualTo(expected);
+	}
+
+	/**
+	 * Retoma a aplicação da WAL e descarta o pool indisponível ao fim de cada
+	 * cenário de réplica.
+	 */
+	@After("@replica")
+	public void restaurarReplica() {
+		new JdbcTemplate(replicaPool).execute("SELECT pg_wal_replay_resume()");
+
+		if (unavailableReplicaPool != null) {
+			unavailableReplicaPool.close();
+		}
+	}
+
+	private void route(DataSource replica) {
+		meterRegistry = new SimpleMeterRegistry();
+		routingDataSource = new ReadReplicaRoutingDataSource(primaryPool, replica, Duration.ZERO,
+				Duration.ofSeconds(30), meterRegistry);
+
+		var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		var transactionManager = new DataSourceTransactionManager(dataSource);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readWriteTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	private boolean isInRecovery() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+	}
+
+	private static boolean exists(JdbcTemplate template, Long id) {
+		return Boolean.TRUE.equals(template
+				.queryForObject("SELECT EXISTS (SELECT 1 FROM replica_probe WHERE id = ?)", Boolean.class, id));
+	}
+
+	private static HikariDataSource pool(String jdbcUrl) {
+		var dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(jdbcUrl);
+		dataSource.setUsername(primaryContainer.getUsername());
+		dataSource.setPassword(primaryContainer.getPassword());
+		dataSource.setMaximumPoolSize(2);
+		dataSource.setConnectionTimeout(250);
+		dataSource.setInitializationFailTimeout(-1);
+		return dataSource;
+	}
+
+	private static void awaitUntil(BooleanSupplier condition, String description) {
+		var deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime() - deadline).as(description).isNegative();
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
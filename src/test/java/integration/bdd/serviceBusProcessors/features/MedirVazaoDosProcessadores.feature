@@ -0,0 +1,14 @@
+# language: pt
+Funcionalidade: Medir a vazão dos processadores do Service Bus
+  Como EQUIPE DE ENGENHARIA responsável pelo serviço de pedidos
+  Quero medir a vazão de drenagem de uma fila conforme a concorrência do processador
+  Para dimensionar a concorrência e o prefetch dos listeners durante picos de pagamentos
+
+  Cenario: Drenar a fila mais rapidamente com maior concorrência
+    Quando 200 mensagens forem drenadas da fila de carga com as configurações:
+      | concorrencia | prefetch |
+      | 1            | 0        |
+      | 4            | 8        |
+      | 8            | 16       |
+    Então a vazão de drenagem por concorrência deve ser registrada
+    E a vazão com concorrência 8 deve ser pelo menos 3 vezes a vazão com concorrência 1
@@ -0,0 +1,135 @@
+package integration.bdd.serviceBusProcessors.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusProcessorProperties;
+
+import integration.bdd.common.config.CucumberSpringConfiguration;
+import io.cucumber.java.pt.Entao;
+import io.cucumber.java.pt.Quando;
+
+/**
+ * Steps BDD responsáveis por medir a vazão de drenagem de uma fila do Service
+ * Bus (emulador) conforme a concorrência e o prefetch do processador.
+ * <p>
+ * O processamento de cada mensagem simula a latência de I/O de um handler
+ * (gravação no banco e publicação de eventos), de modo que a vazão medida
+ * reflete o paralelismo do processador, e não o custo do handler.
+ * </p>
+ */
+public class MedirVazaoDosProcessadoresSteps extends CucumberSpringConfiguration {
+
+	private static final Logger log = LoggerFactory.getLogger(MedirVazaoDosProcessadoresSteps.class);
+
+	private static final String LOAD_TEST_QUEUE = "load.test.queue";
+	private static final String LOAD_TEST_LISTENER = "load-test";
+	private static final Duration HANDLER_LATENCY = Duration.ofMillis(20);
+	private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(2);
+
+	@Autowired
+	private ServiceBusClientBuilder serviceBusClientBuilder;
+
+	private int messages;
+	private final Map<Integer, Double> messagesPerSecond = new LinkedHashMap<>();
+
+	/**
+	 * Para cada configuração, envia as mensagens para a fila de carga e mede o
+	 * tempo até que o processador as tenha consumido.
+	 *
+	 * @param quantity
+	 *            quantidade de mensagens por medição.
+	 * @param settings
+	 *            concorrência e prefetch de cada medição.
+	 */
+	@Quando("{int} mensagens forem drenadas da fila de carga com as configurações:")
+	public void mensagensForemDrenadasDaFilaDeCargaComAsConfiguracoes(int quantity,
+			List<Map<String, String>> settings) throws InterruptedException {
+		messages = quantity;
+
+		for (var row : settings) {
+			var concurrency = Integer.parseInt(row.get("concorrencia"));
+			var prefetch = Integer.parseInt(row.get("prefetch"));
+			messagesPerSecond.put(concurrency, drain(concurrency, prefetch));
+		}
+	}
+
+	@Entao("a vazão de drenagem por concorrência deve ser registrada")
+	public void aVazaoDeDrenagemPorConcorrenciaDeveSerRegistrada() {
+		assertThat(messagesPerSecond).isNotEmpty();
+
+		messagesPerSecond.forEach((concurrency, rate) -> log.info(
+				"Vazão do processador: {} mensagens, concorrência {} => {} msg/s", messages, concurrency,
+				String.format("%.1f", rate)));
+	}
+
+	@Entao("a vazão com concorrência {int} deve ser pelo menos {int} vezes a vazão com concorrência {int}")
+	public void aVazaoComConcorrenciaDeveSerPeloMenosVezesAVazaoComConcorrencia(int higher, int factor, int lower) {
+		assertThat(messagesPerSecond.get(higher)).as("Vazão com concorrência %d: %s", higher, messagesPerSecond)
+				.isGreaterThanOrEqualTo(messagesPerSecond.get(lower) * factor);
+	}
+
+	private double drain(int concurrency, int prefetch) throws InterruptedException {
+		var properties = new ServiceBusProcessorProperties();
+		var listenerSettings = new ServiceBusProcessorProperties.Settings();
+		listenerSettings.setMaxConcurrentCalls(concurrency);
+		listenerSettings.setPrefetchCount(prefetch);
+		properties.getListeners().put(LOAD_TEST_LISTENER, listenerSettings);
+
+		fill();
+
+		var processed = new CountDownLatch(messages);
+		var processor = properties.apply(LOAD_TEST_LISTENER, serviceBusClientBuilder.processor())
+				.queueName(LOAD_TEST_QUEUE)
+				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
+				.processMessage(context -> {
+					try {
+						Thread.sleep(HANDLER_LATENCY.toMillis());
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					processed.countDown();
+				})
+				.processError(context -> log.error("Erro ao drenar a fila de carga", context.getException()))
+				.buildProcessorClient();
+
+		var start = System.nanoTime();
+		processor.start();
+		try {
+			assertThat(processed.await(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+					.as("A fila de carga deve ser drenada em até %s", DRAIN_TIMEOUT)
+					.isTrue();
+			return messages / ((System.nanoTime() - start) / 1_000_000_000.0);
+		} finally {
+			processor.close();
+		}
+	}
+
+	private void fill() {
+		try (var sender = serviceBusClientBuilder.sender().queueName(LOAD_TEST_QUEUE).buildClient()) {
+			var batch = sender.createMessageBatch();
+			for (int i = 0; i < messages; i++) {
+				var message = new ServiceBusMessage("{\"sequence\":" + i + "}");
+				if (!batch.tryAddMessage(message)) {
+					sender.sendMessages(batch);
+					batch = sender.createMessageBatch();
+					batch.tryAddMessage(message);
+				}
+			}
+			sender.sendMessages(batch);
+		}
+	}
+}
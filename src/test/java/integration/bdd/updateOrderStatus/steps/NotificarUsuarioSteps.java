@@ -12,7 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderReadyEventDto;
-import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus.AzSvcBusEventPublisher;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 
 import integration.bdd.common.config.CucumberSpringConfiguration;
 import integration.bdd.common.fixture.LocalStackFixture;
@@ -30,7 +30,7 @@ import io.restassured.path.json.JsonPath;
 public class NotificarUsuarioSteps extends CucumberSpringConfiguration {
 
 	@Autowired
-	private AzSvcBusEventPublisher azSvcBusEventPublisher;
+	private EventPublisherSource eventPublisherSource;
 	private OrderReadyEventDto orderReadyEventDto;
 	private String clientId;
 	private String clientMail;
@@ -66,18 +66,22 @@ public class NotificarUsuarioSteps extends CucumberSpringConfiguration {
 	 * validação estivessem UP durante o teste — por exemplo, o serviço de
 	 * pagamento.
 	 * </p>
+	 * <p>
+	 * O evento é gravado na outbox e publicado pelo relay, como no fluxo real.
+	 * </p>
 	 */
 	@Quando("um pedido estiver pronto")
 	public void umPedidoEstiverPronto() {
 		var formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
 		orderReadyEventDto = new OrderReadyEventDto();
+		orderReadyEventDto.setOrderId(1L);
 		orderReadyEventDto.setClientId(clientId);
 		orderReadyEventDto.setOrderNumber("ORD-2025-00001");
 		orderReadyEventDto.setAmount(new BigDecimal("79.70"));
 		orderReadyEventDto.setReadyAt(LocalDateTime.now().format(formatter));
 
-		azSvcBusEventPublisher.publishOrderReadyEvent(orderReadyEventDto);
+		eventPublisherSource.publishOrderReadyEvent(orderReadyEventDto);
 	}
 
 	/**
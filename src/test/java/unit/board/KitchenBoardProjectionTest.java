@@ -0,0 +1,279 @@
+package unit.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardChangedEvent;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardProjection;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderDeletedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderSavedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderStatusUpdatedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotification;
+import com.soat.fiap.food.core.shared.core.domain.vo.AuditInfo;
+
+import unit.fixtures.OrderFixture;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("KitchenBoardProjection - Testes Unitários")
+class KitchenBoardProjectionTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 14, 30);
+	private static final String OTHER_INSTANCE = "other-instance";
+
+	@Mock
+	private OrderDataSource orderDataSource;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private KitchenBoardProjection projection;
+
+	@BeforeEach
+	void setUp() {
+		projection = new KitchenBoardProjection(orderDataSource, objectMapper, applicationEventPublisher);
+	}
+
+	@Test @DisplayName("Deve carregar o painel a partir dos pedidos ativos na inicialização")
+	void shouldSeedBoardFromActiveOrders() throws Exception {
+		// Arrange
+		when(orderDataSource.findActiveOrdersSorted()).thenReturn(
+				List.of(order(2L, OrderStatus.READY, NOW.plusMinutes(5)), order(1L, OrderStatus.RECEIVED, NOW)));
+
+		// Act
+		projection.seed();
+
+		// Assert
+		var snapshot = projection.snapshot();
+		assertThat(snapshot.version()).isEqualTo(1);
+		verify(applicationEventPublisher).publishEvent(new KitchenBoardChangedEvent(snapshot));
+		assertThat(ids(snapshot.orders())).containsExactly(2L, 1L);
+		assertThat(objectMapper.readTree(snapshot.json())).hasSize(2);
+	}
+
+	@Test @DisplayName("Deve incluir pedido criado mantendo a ordem de prioridade e data de criação")
+	void shouldAddSavedOrderInPriorityOrder() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW.plusMinutes(1))));
+		projection.on(new OrderSavedEvent(order(2L, OrderStatus.PREPARING, NOW.plusMinutes(2))));
+
+		// Act
+		projection.on(new OrderSavedEvent(order(3L, OrderStatus.RECEIVED, NOW)));
+
+		// Assert
+		assertThat(ids(projection.snapshot().orders())).containsExactly(2L, 3L, 1L);
+		assertThat(projection.snapshot().version()).isEqualTo(3);
+	}
+
+	@Test @DisplayName("Deve reposicionar o pedido após transição de status")
+	void shouldRepositionOrderOnStatusTransition() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		projection.on(new OrderSavedEvent(order(2L, OrderStatus.PREPARING, NOW.plusMinutes(1))));
+
+		// Act
+		projection.on(new OrderStatusUpdatedEvent(1L, OrderStatus.READY, NOW.plusMinutes(2), 1L));
+
+		// Assert
+		var orders = projection.snapshot().orders();
+		assertThat(ids(orders)).containsExactly(1L, 2L);
+		assertThat(orders.getFirst().getStatus()).isEqualTo(OrderStatus.READY);
+		assertThat(orders.getFirst().getStatusDescription()).isEqualTo(OrderStatus.READY.getDescription());
+		assertThat(orders.getFirst().getUpdatedAt()).isEqualTo(NOW.plusMinutes(2));
+	}
+
+	@Test @DisplayName("Deve remover o pedido finalizado, cancelado ou excluído")
+	void shouldRemoveInactiveOrDeletedOrders() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.READY, NOW)));
+		projection.on(new OrderSavedEvent(order(2L, OrderStatus.RECEIVED, NOW)));
+		projection.on(new OrderSavedEvent(order(3L, OrderStatus.PREPARING, NOW)));
+
+		// Act
+		projection.on(new OrderStatusUpdatedEvent(1L, OrderStatus.COMPLETED, NOW, 1L));
+		projection.on(new OrderStatusUpdatedEvent(2L, OrderStatus.CANCELLED, NOW, 1L));
+		projection.on(new OrderDeletedEvent(3L));
+
+		// Assert
+		assertThat(projection.snapshot().orders()).isEmpty();
+	}
+
+	@Test @DisplayName("Deve corrigir divergências na reconciliação com o banco de dados")
+	void shouldCorrectDriftOnReconcile() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		when(orderDataSource.findActiveOrdersSorted()).thenReturn(List.of(order(2L, OrderStatus.READY, NOW)));
+
+		// Act
+		projection.reconcile();
+
+		// Assert
+		assertThat(ids(projection.snapshot().orders())).containsExactly(2L);
+	}
+
+	@Test @DisplayName("Deve reaplicar sobre a reconciliação os eventos recebidos durante a consulta")
+	void shouldReplayEventsReceivedDuringReconcileQuery() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		when(orderDataSource.findActiveOrdersSorted()).thenAnswer(invocation -> {
+			projection.on(new OrderSavedEvent(order(3L, OrderStatus.PREPARING, NOW.plusMinutes(1))));
+			projection.on(new OrderDeletedEvent(1L));
+			return List.of(order(1L, OrderStatus.RECEIVED, NOW), order(2L, OrderStatus.READY, NOW));
+		});
+
+		// Act
+		projection.reconcile();
+
+		// Assert
+		assertThat(ids(projection.snapshot().orders())).containsExactly(2L, 3L);
+	}
+
+	@Test @DisplayName("Não deve regredir o pedido ao reaplicar transição anterior à versão da consulta")
+	void shouldNotRegressOrderWhenReplayingOlderTransition() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		when(orderDataSource.findActiveOrdersSorted()).thenAnswer(invocation -> {
+			projection.on(new OrderStatusUpdatedEvent(1L, OrderStatus.PREPARING, NOW.plusMinutes(1), 1L));
+			return List.of(order(1L, OrderStatus.READY, NOW, 2L));
+		});
+
+		// Act
+		projection.reconcile();
+
+		// Assert
+		var orders = projection.snapshot().orders();
+		assertThat(ids(orders)).containsExactly(1L);
+		assertThat(orders.getFirst().getStatus()).isEqualTo(OrderStatus.READY);
+		assertThat(orders.getFirst().getVersion()).isEqualTo(2L);
+	}
+
+	@Test @DisplayName("Não deve gerar nova versão do painel quando não houver divergência")
+	void shouldKeepVersionWhenBoardMatchesDatabase() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		when(orderDataSource.findActiveOrdersSorted()).thenReturn(List.of(order(1L, OrderStatus.RECEIVED, NOW)));
+		var version = projection.snapshot().version();
+		clearInvocations(applicationEventPublisher);
+
+		// Act
+		projection.reconcile();
+
+		// Assert
+		assertThat(projection.snapshot().version()).isEqualTo(version);
+		verifyNoInteractions(applicationEventPublisher);
+	}
+
+	@Test @DisplayName("Deve alterar o ETag do painel somente quando o conteúdo mudar")
+	void shouldChangeETagOnlyWhenContentChanges() {
+		// Arrange
+		var empty = projection.snapshot();
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		var withOrder = projection.snapshot();
+
+		// Act
+		projection.on(new OrderDeletedEvent(1L));
+
+		// Assert
+		assertThat(withOrder.etag()).isNotEqualTo(empty.etag()).startsWith("\"").endsWith("\"");
+		assertThat(projection.snapshot().version()).isNotEqualTo(empty.version());
+		assertThat(projection.snapshot().etag()).isEqualTo(empty.etag());
+	}
+
+	@Test @DisplayName("Deve aplicar a transição de status gravada por outra instância")
+	void shouldApplyStatusUpdateFromOtherInstance() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		projection.on(new OrderSavedEvent(order(2L, OrderStatus.PREPARING, NOW.plusMinutes(1))));
+		var before = projection.snapshot();
+
+		// Act
+		projection.on(new OrderChangeNotification(OTHER_INSTANCE, 1L, OrderStatus.READY, 1L, NOW.plusMinutes(2)));
+
+		// Assert
+		var snapshot = projection.snapshot();
+		assertThat(snapshot.version()).isGreaterThan(before.version());
+		assertThat(snapshot.etag()).isNotEqualTo(before.etag());
+		assertThat(ids(snapshot.orders())).containsExactly(1L, 2L);
+		assertThat(snapshot.orders().getFirst().getStatus()).isEqualTo(OrderStatus.READY);
+		assertThat(snapshot.orders().getFirst().getVersion()).isEqualTo(1L);
+		verify(applicationEventPublisher).publishEvent(new KitchenBoardChangedEvent(snapshot));
+		verifyNoInteractions(orderDataSource);
+	}
+
+	@Test @DisplayName("Deve ignorar a transição de outra instância anterior à versão do painel")
+	void shouldIgnoreOlderStatusUpdateFromOtherInstance() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.READY, NOW, 2L)));
+		var before = projection.snapshot();
+
+		// Act
+		projection.on(new OrderChangeNotification(OTHER_INSTANCE, 1L, OrderStatus.PREPARING, 1L, NOW));
+
+		// Assert
+		assertThat(projection.snapshot()).isSameAs(before);
+	}
+
+	@Test @DisplayName("Deve incluir no painel o pedido criado por outra instância, relido do banco")
+	void shouldReloadOrderSavedByOtherInstance() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW.plusMinutes(1))));
+		when(orderDataSource.findById(2L)).thenReturn(Optional.of(order(2L, OrderStatus.RECEIVED, NOW)));
+
+		// Act
+		projection.on(new OrderChangeNotification(OTHER_INSTANCE, 2L, null, null, null));
+
+		// Assert
+		assertThat(ids(projection.snapshot().orders())).containsExactly(2L, 1L);
+	}
+
+	@Test @DisplayName("Deve remover do painel o pedido excluído por outra instância")
+	void shouldRemoveOrderDeletedByOtherInstance() {
+		// Arrange
+		projection.on(new OrderSavedEvent(order(1L, OrderStatus.RECEIVED, NOW)));
+		when(orderDataSource.findById(1L)).thenReturn(Optional.empty());
+
+		// Act
+		projection.on(new OrderChangeNotification(OTHER_INSTANCE, 1L, null, null, null));
+
+		// Assert
+		assertThat(projection.snapshot().orders()).isEmpty();
+	}
+
+	private static OrderDTO order(Long id, OrderStatus status, LocalDateTime createdAt) {
+		return order(id, status, createdAt, 0L);
+	}
+
+	private static OrderDTO order(Long id, OrderStatus status, LocalDateTime createdAt, Long version) {
+		var order = OrderFixture.createValidOrder();
+		order.setId(id);
+		order.setOrderStatus(status);
+		order.setAuditInfo(new AuditInfo(createdAt, createdAt));
+		order.setVersion(version);
+		return OrderDTOMapper.toDTO(order);
+	}
+
+	private static List<Long> ids(List<OrderResponse> orders) {
+		return orders.stream().map(OrderResponse::getId).toList();
+	}
+}
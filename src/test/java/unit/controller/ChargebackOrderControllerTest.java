@@ -45,7 +45,6 @@ class ChargebackOrderControllerTest {
 						order.setOrderStatus(OrderStatus.CANCELLED);
 						return order;
 					});
-			when(orderDataSource.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
 			// Act & Assert
 			assertThatNoException().isThrownBy(
@@ -56,6 +55,8 @@ class ChargebackOrderControllerTest {
 
 			updateMock
 					.verify(() -> UpdateOrderStatusUseCase.updateOrderStatus(eq(id), eq(OrderStatus.CANCELLED), any()));
+
+			verify(orderDataSource, never()).save(any());
 		}
 	}
 
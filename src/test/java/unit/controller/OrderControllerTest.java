@@ -0,0 +1,200 @@
+package unit.controller;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
+import com.soat.fiap.food.core.order.infrastructure.common.source.CatalogDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardProjection;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardSnapshot;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.controller.OrderController;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.stream.OrderStreamPublisher;
+import com.soat.fiap.food.core.shared.core.domain.exceptions.ResourceNotFoundException;
+import com.soat.fiap.food.core.shared.infrastructure.common.source.AuthenticatedUserSource;
+
+import unit.fixtures.OrderFixture;
+
+/**
+ * Exercita as requisições condicionais (ETag / If-None-Match) do
+ * {@link OrderController} por meio do Spring MVC.
+ */
+@ExtendWith(MockitoExtension.class) @DisplayName("OrderController (requisições condicionais) - Testes Unitários")
+class OrderControllerTest {
+
+	private static final Long ORDER_ID = 1L;
+	private static final Long VERSION = 3L;
+	private static final String ETAG = "\"" + VERSION + "\"";
+
+	@Mock
+	private OrderDataSource orderDataSource;
+
+	@Mock
+	private CatalogDataSource catalogDataSource;
+
+	@Mock
+	private PaymentDataSource paymentDataSource;
+
+	@Mock
+	private AuthenticatedUserSource authenticatedUserSource;
+
+	@Mock
+	private EventPublisherSource eventPublisherSource;
+
+	@Mock
+	private KitchenBoardProjection kitchenBoardProjection;
+
+	@Mock
+	private OrderStreamPublisher orderStreamPublisher;
+
+	@Mock
+	private OrderStatusConflictRetry orderStatusConflictRetry;
+
+	private MockMvc mockMvc;
+
+	/**
+	 * Representa o tratamento global de exceções da aplicação (biblioteca
+	 * compartilhada), que responde 404 para recursos não encontrados.
+	 */
+	@RestControllerAdvice
+	static class NotFoundAdvice {
+
+		@ExceptionHandler(ResourceNotFoundException.class)
+		ResponseEntity<Void> notFound() {
+			return ResponseEntity.notFound().build();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		var controller = new OrderController(orderDataSource, catalogDataSource, paymentDataSource,
+				authenticatedUserSource, eventPublisherSource, kitchenBoardProjection, orderStreamPublisher,
+				orderStatusConflictRetry);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new NotFoundAdvice()).build();
+	}
+
+	@Test @DisplayName("Deve retornar o pedido com o ETag da versão")
+	void shouldReturnOrderWithVersionETag() throws Exception {
+		// Arrange
+		givenOrder();
+
+		// Act & Assert
+		mockMvc.perform(get("/{id}", ORDER_ID))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(jsonPath("$.id").value(ORDER_ID));
+
+		verify(orderDataSource, never()).findVersionById(anyLong());
+	}
+
+	@Test @DisplayName("Deve responder 304 sem carregar o pedido quando o If-None-Match coincidir com a versão")
+	void shouldReturnNotModifiedWhenIfNoneMatchMatches() throws Exception {
+		// Arrange
+		givenVersion();
+
+		// Act & Assert
+		mockMvc.perform(get("/{id}", ORDER_ID).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(content().string(""));
+
+		verify(orderDataSource, never()).findById(anyLong());
+	}
+
+	@Test @DisplayName("Deve retornar o pedido atual quando o If-None-Match for de uma versão anterior")
+	void shouldReturnOrderWhenIfNoneMatchIsStale() throws Exception {
+		// Arrange
+		givenVersion();
+		givenOrder();
+
+		// Act & Assert
+		mockMvc.perform(get("/{id}", ORDER_ID).header(HttpHeaders.IF_NONE_MATCH, "\"" + (VERSION - 1) + "\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(jsonPath("$.id").value(ORDER_ID));
+	}
+
+	@Test @DisplayName("Deve responder 404 quando o pedido não existir, mesmo com If-None-Match")
+	void shouldReturnNotFoundWhenOrderIsMissingWithIfNoneMatch() throws Exception {
+		// Arrange
+		when(orderDataSource.findVersionById(ORDER_ID)).thenReturn(Optional.empty());
+
+		// Act & Assert
+		mockMvc.perform(get("/{id}", ORDER_ID).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+				.andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+		verify(orderDataSource, never()).findById(anyLong());
+	}
+
+	@Test @DisplayName("Deve retornar o painel de pedidos ativos com o ETag da fotografia")
+	void shouldReturnActiveOrdersWithSnapshotETag() throws Exception {
+		// Arrange
+		var board = givenBoard();
+
+		// Act & Assert
+		mockMvc.perform(get("/active"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, board.etag()))
+				.andExpect(content().bytes(board.json()));
+	}
+
+	@Test @DisplayName("Deve responder 304 ao painel de pedidos ativos quando o If-None-Match coincidir")
+	void shouldReturnNotModifiedActiveOrdersWhenIfNoneMatchMatches() throws Exception {
+		// Arrange
+		var board = givenBoard();
+
+		// Act & Assert
+		mockMvc.perform(get("/active").header(HttpHeaders.IF_NONE_MATCH, board.etag()))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, board.etag()))
+				.andExpect(content().string(""));
+	}
+
+	private void givenVersion() {
+		when(orderDataSource.findVersionById(ORDER_ID))
+				.thenReturn(Optional.of(new OrderVersionDTO(ORDER_ID, VERSION, LocalDateTime.of(2025, 6, 15, 14, 45))));
+	}
+
+	private void givenOrder() {
+		var order = OrderFixture.createValidOrder();
+		order.setId(ORDER_ID);
+		order.setVersion(VERSION);
+		when(orderDataSource.findById(ORDER_ID)).thenReturn(Optional.of(OrderDTOMapper.toDTO(order)));
+	}
+
+	private KitchenBoardSnapshot givenBoard() {
+		var board = KitchenBoardSnapshot.of(7L, List.of(), "[]".getBytes(StandardCharsets.UTF_8));
+		when(kitchenBoardProjection.snapshot()).thenReturn(board);
+		return board;
+	}
+}
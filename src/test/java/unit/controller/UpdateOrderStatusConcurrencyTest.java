@@ -0,0 +1,269 @@
+package unit.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderException;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.OrderStatusRequest;
+
+import unit.fixtures.OrderFixture;
+import unit.fixtures.PaymentFixture;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("UpdateOrderStatusController - Testes de Concorrência")
+class UpdateOrderStatusConcurrencyTest {
+
+	private static final long ORDER_ID = 1L;
+	private static final int THREADS = 32;
+
+	@Mock
+	private PaymentDataSource paymentDataSource;
+
+	@Mock
+	private EventPublisherSource eventPublisherSource;
+
+	private InMemoryOrderDataSource orderDataSource;
+
+	private OrderStatusConflictRetry orderStatusConflictRetry;
+
+	@BeforeEach
+	void setUp() {
+		orderStatusConflictRetry = new OrderStatusConflictRetry(
+				new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+		var order = OrderFixture.createValidOrder();
+		order.setId(ORDER_ID);
+		order.setVersion(0L);
+
+		orderDataSource = new InMemoryOrderDataSource(OrderDTOMapper.toDTO(order));
+
+		when(paymentDataSource.getOrderStatus(anyLong()))
+				.thenReturn(PaymentFixture.createApprovedPaymentStatus(ORDER_ID));
+	}
+
+	@Test @DisplayName("Deve gravar uma única transição quando várias threads aplicam o mesmo status")
+	void shouldPersistSingleTransitionWhenThreadsApplySameStatus() throws Exception {
+		// Arrange
+		var statuses = new ArrayList<OrderStatus>();
+		for (int i = 0; i < THREADS; i++) {
+			statuses.add(OrderStatus.PREPARING);
+		}
+
+		// Act
+		var outcomes = hammer(statuses);
+
+		// Assert
+		assertThat(outcomes).allMatch(outcome -> outcome == null);
+		assertThat(orderDataSource.writes.get()).isEqualTo(1);
+		assertThat(orderDataSource.current().status()).isEqualTo(OrderStatus.PREPARING);
+		assertThat(orderDataSource.current().version()).isEqualTo(1L);
+	}
+
+	@Test @DisplayName("Não deve perder atualizações quando pagamento aprovado e expirado concorrem")
+	void shouldNotLoseUpdatesWhenApprovedAndExpiredPaymentsRace() throws Exception {
+		// Arrange
+		var statuses = new ArrayList<OrderStatus>();
+		for (int i = 0; i < THREADS; i++) {
+			statuses.add(i % 2 == 0 ? OrderStatus.PREPARING : OrderStatus.CANCELLED);
+		}
+
+		// Act
+		var outcomes = hammer(statuses);
+
+		// Assert
+		var winner = orderDataSource.current().status();
+
+		assertThat(orderDataSource.writes.get()).as("Apenas uma transição deve vencer").isEqualTo(1);
+		assertThat(winner).isIn(OrderStatus.PREPARING, OrderStatus.CANCELLED);
+		assertThat(orderDataSource.current().version()).isEqualTo(1L);
+
+		for (int i = 0; i < THREADS; i++) {
+			if (statuses.get(i) == winner) {
+				assertThat(outcomes.get(i)).as("Threads com o status vencedor não devem falhar").isNull();
+			} else {
+				assertThat(outcomes.get(i)).as("Threads com o status perdedor devem ser rejeitadas pelo domínio")
+						.isInstanceOf(OrderException.class);
+			}
+		}
+
+		verify(eventPublisherSource, atMost(1)).publishOrderCanceledEvent(any());
+	}
+
+	@Test @DisplayName("Deve limitar as leituras do pedido sob contenção")
+	void shouldBoundReadsUnderContention() throws Exception {
+		// Arrange
+		var statuses = new ArrayList<OrderStatus>();
+		for (int i = 0; i < THREADS; i++) {
+			statuses.add(OrderStatus.PREPARING);
+		}
+
+		// Act
+		hammer(statuses);
+
+		// Assert - validação do pagamento + caso de uso a cada tentativa + releitura final
+		assertThat(orderDataSource.reads.get())
+				.isLessThanOrEqualTo(THREADS * (2 * OrderStatusConflictRetry.MAX_ATTEMPTS + 1));
+	}
+
+	@Test @DisplayName("Deve consultar o pagamento uma única vez por atualização mesmo com novas tentativas")
+	void shouldGetPaymentOncePerUpdateDespiteRetries() throws Exception {
+		// Arrange
+		var statuses = new ArrayList<OrderStatus>();
+		for (int i = 0; i < THREADS; i++) {
+			statuses.add(i % 2 == 0 ? OrderStatus.PREPARING : OrderStatus.CANCELLED);
+		}
+
+		// Act
+		hammer(statuses);
+
+		// Assert
+		verify(paymentDataSource, times(THREADS)).getOrderStatus(ORDER_ID);
+	}
+
+	/**
+	 * Dispara todas as atualizações ao mesmo tempo sobre o mesmo pedido, cada uma
+	 * com novas tentativas em caso de conflito, como no endpoint: o pagamento é
+	 * consultado uma vez, fora das tentativas.
+	 *
+	 * @return exceção lançada por cada thread ({@code null} em caso de sucesso)
+	 */
+	private List<Throwable> hammer(List<OrderStatus> statuses) throws Exception {
+		var executor = Executors.newFixedThreadPool(statuses.size());
+		var start = new CountDownLatch(1);
+		var futures = new ArrayList<Future<Throwable>>();
+
+		try {
+			for (var status : statuses) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					try {
+						var payment = UpdateOrderStatusController.getOrderPayment(ORDER_ID, paymentDataSource);
+						orderStatusConflictRetry.execute(ORDER_ID,
+								() -> UpdateOrderStatusController.updateOrderStatus(ORDER_ID,
+										new OrderStatusRequest(status), payment, orderDataSource,
+										eventPublisherSource));
+						return null;
+					} catch (RuntimeException ex) {
+						return ex;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			var outcomes = new ArrayList<Throwable>();
+			for (var future : futures) {
+				outcomes.add(future.get(10, TimeUnit.SECONDS));
+			}
+			return outcomes;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * DataSource em memória com semântica de compare-and-set equivalente ao UPDATE
+	 * condicional por versão e status.
+	 */
+	private static class InMemoryOrderDataSource implements OrderDataSource {
+
+		private final AtomicInteger reads = new AtomicInteger();
+		private final AtomicInteger writes = new AtomicInteger();
+		private OrderDTO row;
+
+		InMemoryOrderDataSource(OrderDTO row) {
+			this.row = row;
+		}
+
+		synchronized OrderDTO current() {
+			return row;
+		}
+
+		@Override
+		public synchronized boolean updateStatus(Long id, Long expectedVersion, OrderStatus expectedStatus,
+				OrderStatus newStatus, LocalDateTime updatedAt) {
+			if (!row.id().equals(id) || !row.version().equals(expectedVersion) || row.status() != expectedStatus) {
+				return false;
+			}
+
+			row = new OrderDTO(row.id(), row.userId(), row.orderNumber(), newStatus, row.amount(), row.items(),
+					row.createdAt(), updatedAt, row.version() + 1);
+			writes.incrementAndGet();
+			return true;
+		}
+
+		@Override
+		public Optional<OrderDTO> findById(Long id) {
+			reads.incrementAndGet();
+			var snapshot = current();
+			return snapshot.id().equals(id) ? Optional.of(snapshot) : Optional.empty();
+		}
+
+		@Override
+		public Optional<OrderVersionDTO> findVersionById(Long id) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public OrderDTO save(OrderDTO orderDTO) {
+			throw new UnsupportedOperationException("Transições de status não devem regravar o agregado");
+		}
+
+		@Override
+		public List<OrderDTO> findByOrderStatus(OrderStatus status) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<OrderDTO> findByUserId(String userId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<OrderDTO> findAll() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void delete(Long id) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<OrderDTO> findActiveOrdersSorted() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<OrderDTO> findActiveOrdersSortedAfter(ActiveOrdersCursorDTO cursor, int limit) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -1,11 +1,14 @@
 package unit.controller.order;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +20,6 @@ import com.soat.fiap.food.core.order.core.application.usecases.*;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
 import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
-import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
 import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
@@ -25,6 +27,7 @@ import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.Order
 import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderStatusResponse;
 
 import unit.fixtures.OrderFixture;
+import unit.fixtures.PaymentFixture;
 
 @ExtendWith(MockitoExtension.class) @DisplayName("UpdateOrderStatusController - Testes Unitários")
 class UpdateOrderStatusControllerTest {
@@ -47,31 +50,45 @@ class UpdateOrderStatusControllerTest {
 		var order = OrderFixture.createValidOrder();
 		order.setId(orderId);
 
-		var orderDTO = OrderDTOMapper.toDTO(order);
-
 		try (MockedStatic<EnsureOrderPaymentIsValidUseCase> paymentValidationMock = mockStatic(
 				EnsureOrderPaymentIsValidUseCase.class);
 				MockedStatic<UpdateOrderStatusUseCase> updateStatusMock = mockStatic(UpdateOrderStatusUseCase.class)) {
 
-			paymentValidationMock.when(() -> EnsureOrderPaymentIsValidUseCase.ensureOrderPaymentIsValid(eq(orderId),
+			paymentValidationMock.when(() -> EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(eq(orderId),
 					eq(OrderStatus.PREPARING), any(), any())).thenAnswer(invocation -> null);
 
 			updateStatusMock.when(
 					() -> UpdateOrderStatusUseCase.updateOrderStatus(eq(orderId), eq(OrderStatus.PREPARING), any()))
 					.thenReturn(order);
 
-			when(orderDataSource.save(any())).thenReturn(orderDTO);
-
 			// Act
 			OrderStatusResponse response = UpdateOrderStatusController.updateOrderStatus(orderId, request,
-					orderDataSource, paymentDataSource, eventPublisherSource);
+					Optional.of(PaymentFixture.createApprovedPaymentStatus(orderId)), orderDataSource,
+					eventPublisherSource);
 
 			// Assert
 			assertNotNull(response);
-			verify(orderDataSource, times(1)).save(any());
+			verify(orderDataSource, never()).save(any());
+			verifyNoInteractions(paymentDataSource);
 		}
 	}
 
+	@Test @DisplayName("Deve consultar o pagamento do pedido")
+	void shouldGetOrderPayment() {
+
+		// Arrange
+		var orderId = 5L;
+		var payment = PaymentFixture.createApprovedPaymentStatus(orderId);
+		when(paymentDataSource.getOrderStatus(orderId)).thenReturn(payment);
+
+		// Act
+		var result = UpdateOrderStatusController.getOrderPayment(orderId, paymentDataSource);
+
+		// Assert
+		assertEquals(Optional.of(payment), result);
+		verifyNoInteractions(orderDataSource);
+	}
+
 	@Test @DisplayName("Deve publicar evento de pedido cancelado quando status for CANCELLED")
 	void shouldPublishCanceledEventWhenStatusIsCancelled() {
 
@@ -82,25 +99,22 @@ class UpdateOrderStatusControllerTest {
 		order.setId(orderId);
 		order.setOrderStatus(OrderStatus.CANCELLED);
 
-		var orderDTO = OrderDTOMapper.toDTO(order);
-
 		try (MockedStatic<EnsureOrderPaymentIsValidUseCase> paymentValidationMock = mockStatic(
 				EnsureOrderPaymentIsValidUseCase.class);
 				MockedStatic<UpdateOrderStatusUseCase> updateStatusMock = mockStatic(UpdateOrderStatusUseCase.class);
 				MockedStatic<PublishOrderCanceledEventUseCase> publishCanceledMock = mockStatic(
 						PublishOrderCanceledEventUseCase.class)) {
 
-			paymentValidationMock
-					.when(() -> EnsureOrderPaymentIsValidUseCase.ensureOrderPaymentIsValid(any(), any(), any(), any()))
+			paymentValidationMock.when(
+					() -> EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(any(), any(), any(), any()))
 					.thenAnswer(invocation -> null);
 
 			updateStatusMock.when(() -> UpdateOrderStatusUseCase.updateOrderStatus(any(), any(), any()))
 					.thenReturn(order);
 
-			when(orderDataSource.save(any())).thenReturn(orderDTO);
-
 			// Act
-			UpdateOrderStatusController.updateOrderStatus(orderId, request, orderDataSource, paymentDataSource,
+			UpdateOrderStatusController.updateOrderStatus(orderId, request,
+					Optional.of(PaymentFixture.createApprovedPaymentStatus(orderId)), orderDataSource,
 					eventPublisherSource);
 
 			// Assert
@@ -119,25 +133,22 @@ class UpdateOrderStatusControllerTest {
 		order.setOrderStatus(OrderStatus.READY);
 		order.setId(orderId);
 
-		var orderDTO = OrderDTOMapper.toDTO(order);
-
 		try (MockedStatic<EnsureOrderPaymentIsValidUseCase> paymentValidationMock = mockStatic(
 				EnsureOrderPaymentIsValidUseCase.class);
 				MockedStatic<UpdateOrderStatusUseCase> updateStatusMock = mockStatic(UpdateOrderStatusUseCase.class);
 				MockedStatic<PublishOrderReadyEventUseCase> publishReadyMock = mockStatic(
 						PublishOrderReadyEventUseCase.class)) {
 
-			paymentValidationMock
-					.when(() -> EnsureOrderPaymentIsValidUseCase.ensureOrderPaymentIsValid(any(), any(), any(), any()))
+			paymentValidationMock.when(
+					() -> EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(any(), any(), any(), any()))
 					.thenAnswer(invocation -> null);
 
 			updateStatusMock.when(() -> UpdateOrderStatusUseCase.updateOrderStatus(any(), any(), any()))
 					.thenReturn(order);
 
-			when(orderDataSource.save(any())).thenReturn(orderDTO);
-
 			// Act
-			UpdateOrderStatusController.updateOrderStatus(orderId, request, orderDataSource, paymentDataSource,
+			UpdateOrderStatusController.updateOrderStatus(orderId, request,
+					Optional.of(PaymentFixture.createApprovedPaymentStatus(orderId)), orderDataSource,
 					eventPublisherSource);
 
 			// Assert
@@ -159,15 +170,16 @@ class UpdateOrderStatusControllerTest {
 				MockedStatic<GetOrderByIdUseCase> getOrderMock = mockStatic(GetOrderByIdUseCase.class);
 				MockedStatic<UpdateOrderStatusUseCase> updateStatusMock = mockStatic(UpdateOrderStatusUseCase.class)) {
 
-			paymentValidationMock
-					.when(() -> EnsureOrderPaymentIsValidUseCase.ensureOrderPaymentIsValid(any(), any(), any(), any()))
+			paymentValidationMock.when(
+					() -> EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(any(), any(), any(), any()))
 					.thenThrow(new OrderAlreadyHasStatusException("Status já definido"));
 
 			getOrderMock.when(() -> GetOrderByIdUseCase.getOrderById(eq(orderId), any())).thenReturn(existingOrder);
 
 			// Act & Assert
-			assertDoesNotThrow(() -> UpdateOrderStatusController.updateOrderStatus(orderId, request, orderDataSource,
-					paymentDataSource, eventPublisherSource));
+			assertDoesNotThrow(() -> UpdateOrderStatusController.updateOrderStatus(orderId, request,
+					Optional.of(PaymentFixture.createApprovedPaymentStatus(orderId)), orderDataSource,
+					eventPublisherSource));
 		}
 	}
 }
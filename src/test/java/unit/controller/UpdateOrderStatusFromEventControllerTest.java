@@ -0,0 +1,90 @@
+package unit.controller;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusFromEventController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.mappers.OrderDTOMapper;
+import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
+import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
+
+import unit.fixtures.OrderFixture;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("UpdateOrderStatusFromEventController - Testes Unitários")
+class UpdateOrderStatusFromEventControllerTest {
+
+	private static final long ORDER_ID = 1L;
+
+	@Mock
+	private OrderDataSource orderDataSource;
+
+	@Mock
+	private EventPublisherSource eventPublisherSource;
+
+	@Test @DisplayName("Deve atualizar o status lendo o pedido uma única vez")
+	void shouldUpdateStatusReadingOrderOnce() {
+		// Arrange
+		givenOrderWithStatus(OrderStatus.RECEIVED);
+		when(orderDataSource.updateStatus(eq(ORDER_ID), any(), eq(OrderStatus.RECEIVED), eq(OrderStatus.PREPARING),
+				any())).thenReturn(true);
+
+		// Act
+		UpdateOrderStatusFromEventController.updateOrderStatus(ORDER_ID, OrderStatus.PREPARING, orderDataSource,
+				eventPublisherSource);
+
+		// Assert
+		verify(orderDataSource, times(1)).findById(ORDER_ID);
+		verify(orderDataSource, times(1)).updateStatus(eq(ORDER_ID), any(), eq(OrderStatus.RECEIVED),
+				eq(OrderStatus.PREPARING), any());
+		verifyNoInteractions(eventPublisherSource);
+	}
+
+	@Test @DisplayName("Deve publicar evento de pedido cancelado quando o evento cancelar o pedido")
+	void shouldPublishCanceledEventWhenOrderIsCancelled() {
+		// Arrange
+		givenOrderWithStatus(OrderStatus.RECEIVED);
+		when(orderDataSource.updateStatus(eq(ORDER_ID), any(), eq(OrderStatus.RECEIVED), eq(OrderStatus.CANCELLED),
+				any())).thenReturn(true);
+
+		// Act
+		UpdateOrderStatusFromEventController.updateOrderStatus(ORDER_ID, OrderStatus.CANCELLED, orderDataSource,
+				eventPublisherSource);
+
+		// Assert
+		verify(eventPublisherSource).publishOrderCanceledEvent(any());
+	}
+
+	@Test @DisplayName("Deve ignorar o evento quando o pedido já possuir o status")
+	void shouldIgnoreEventWhenOrderAlreadyHasStatus() {
+		// Arrange
+		givenOrderWithStatus(OrderStatus.PREPARING);
+
+		// Act & Assert
+		assertThatNoException().isThrownBy(() -> UpdateOrderStatusFromEventController.updateOrderStatus(ORDER_ID,
+				OrderStatus.PREPARING, orderDataSource, eventPublisherSource));
+
+		verify(orderDataSource, times(1)).findById(ORDER_ID);
+		verify(orderDataSource, never()).updateStatus(anyLong(), any(), any(), any(), any());
+		verifyNoInteractions(eventPublisherSource);
+	}
+
+	private void givenOrderWithStatus(OrderStatus status) {
+		var order = OrderFixture.createValidOrder();
+		order.setId(ORDER_ID);
+		order.setVersion(0L);
+		order.setOrderStatus(status);
+		when(orderDataSource.findById(ORDER_ID)).thenReturn(Optional.of(OrderDTOMapper.toDTO(order)));
+	}
+}
@@ -1,124 +1,149 @@
 package unit.datasource;
 
-import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
 
 import com.azure.messaging.servicebus.ServiceBusMessage;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
-import com.google.gson.Gson;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
 import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus.AzSvcBusEventPublisher;
 
-import unit.fixtures.EventFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
 
 /**
  * Testes unitários para {@link AzSvcBusEventPublisher}.
  * <p>
- * Valida a publicação de eventos de pedido criado, cancelado e pronto no Azure
- * Service Bus sem lançar exceções.
+ * Valida o agrupamento dos eventos de pedido em lotes por destino, o envio por
+ * tamanho e por tempo, o limite de mensagens pendentes e a propagação de
+ * falhas pelo futuro retornado.
  * </p>
  */
 @ExtendWith(MockitoExtension.class) @DisplayName("AzSvcBusEventPublisher (Order) - Testes Unitários")
 class AzSvcBusEventPublisherTest {
 
 	@Mock
-	private ServiceBusSenderClient orderCreatedSender;
+	private ServiceBusSenderAsyncClient orderCreatedSender;
 
 	@Mock
-	private ServiceBusSenderClient orderCanceledSender;
+	private ServiceBusSenderAsyncClient orderCanceledSender;
 
 	@Mock
-	private ServiceBusSenderClient orderReadySender;
+	private ServiceBusSenderAsyncClient orderReadySender;
 
 	@Mock
-	private Gson gson;
+	private ServiceBusMessageBatch messageBatch;
 
-	private AzSvcBusEventPublisher eventPublisher;
+	@Mock
+	private TaskScheduler taskScheduler;
 
-	@BeforeEach
-	void setUp() {
-		eventPublisher = new AzSvcBusEventPublisher(orderCreatedSender, orderCanceledSender, orderReadySender, gson);
+	private AzSvcBusEventPublisher publisher(int maxBatchSize, int maxPendingMessages) {
+		return new AzSvcBusEventPublisher(orderCreatedSender, orderCanceledSender, orderReadySender, taskScheduler,
+				new SimpleMeterRegistry(), maxBatchSize, Duration.ofMillis(20), maxPendingMessages, Duration.ZERO);
 	}
 
-	@Test @DisplayName("Deve publicar evento de pedido criado com sucesso")
-	void shouldPublishOrderCreatedEventSuccessfully() {
+	@Test @DisplayName("Deve enviar os eventos em um único lote ao atingir o tamanho máximo")
+	void shouldSendEventsInSingleBatchWhenFull() {
 		// Arrange
-		var event = EventFixture.createOrderCreatedEventDto(1L, "ORD-123", "USR-001", new BigDecimal("100.00"));
-		when(gson.toJson(event)).thenReturn("{\"orderNumber\":\"ORD-123\",\"totalAmount\":100.00}");
+		var eventPublisher = publisher(2, 10);
+		when(orderCreatedSender.createMessageBatch()).thenReturn(Mono.just(messageBatch));
+		when(messageBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+		when(orderCreatedSender.sendMessages(messageBatch)).thenReturn(Mono.empty());
 
-		// Act & Assert
-		assertThatNoException().isThrownBy(() -> eventPublisher.publishOrderCreatedEvent(event));
+		// Act
+		var first = eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "1", 1L, "{\"id\":1}");
+		var second = eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "2", 2L, "{\"id\":2}");
 
 		// Assert
-		verify(orderCreatedSender).sendMessage(any(ServiceBusMessage.class));
+		assertThat(first).isCompleted();
+		assertThat(second).isCompleted();
+		verify(orderCreatedSender).sendMessages(messageBatch);
+		verify(messageBatch, times(2)).tryAddMessage(any(ServiceBusMessage.class));
+		verifyNoInteractions(orderCanceledSender, orderReadySender);
 	}
 
-	@Test @DisplayName("Deve publicar evento de pedido cancelado com sucesso")
-	void shouldPublishOrderCanceledEventSuccessfully() {
+	@Test @DisplayName("Deve enviar o lote incompleto após o tempo máximo de espera")
+	void shouldSendPartialBatchAfterMaxDelay() {
 		// Arrange
-		var event = EventFixture.createOrderCanceledEventDto(2L, new BigDecimal("50.00"));
-		when(gson.toJson(event)).thenReturn("{\"orderId\":2,\"status\":\"CANCELADO\"}");
+		var eventPublisher = publisher(100, 10);
+		var flush = ArgumentCaptor.forClass(Runnable.class);
+		when(orderReadySender.createMessageBatch()).thenReturn(Mono.just(messageBatch));
+		when(messageBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+		when(orderReadySender.sendMessages(messageBatch)).thenReturn(Mono.empty());
+
+		// Act
+		var result = eventPublisher.publish(ServiceBusConfig.ORDER_READY_QUEUE, "1", 1L, "{}");
+		verify(taskScheduler).schedule(flush.capture(), any(Instant.class));
+		verify(orderReadySender, never()).sendMessages(any(ServiceBusMessageBatch.class));
+		flush.getValue().run();
 
-		// Act & Assert
-		assertThatNoException().isThrownBy(() -> eventPublisher.publishOrderCanceledEvent(event));
+		// Assert
+		assertThat(result).isCompleted();
+		verify(orderReadySender).sendMessages(messageBatch);
+	}
+
+	@Test @DisplayName("Deve expor a falha de envio pelo futuro retornado")
+	void shouldExposeSendFailureThroughFuture() {
+		// Arrange
+		var eventPublisher = publisher(1, 10);
+		when(orderCanceledSender.createMessageBatch()).thenReturn(Mono.just(messageBatch));
+		when(messageBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+		when(orderCanceledSender.sendMessages(messageBatch))
+				.thenReturn(Mono.error(new IllegalStateException("Service Bus indisponível")));
+
+		// Act
+		var result = eventPublisher.publish(ServiceBusConfig.ORDER_CANCELED_TOPIC, "1", 1L, "{}");
 
 		// Assert
-		verify(orderCanceledSender).sendMessage(any(ServiceBusMessage.class));
+		assertThat(result).isCompletedExceptionally();
+		assertThat(result.handle((ignored, ex) -> ex).join()).isInstanceOf(IllegalStateException.class);
 	}
 
-	@Test @DisplayName("Deve publicar evento de pedido pronto com sucesso")
-	void shouldPublishOrderReadyEventSuccessfully() {
+	@Test @DisplayName("Deve rejeitar eventos quando o limite de mensagens pendentes for atingido")
+	void shouldRejectEventsWhenPendingLimitIsReached() {
 		// Arrange
-		var formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
-		var now = LocalDateTime.now().format(formatter);
-		var event = EventFixture.createOrderReadyEventDto("USR-ABC", "ORD-456", new BigDecimal("120.00"), now);
-		when(gson.toJson(event)).thenReturn(String.format(
-				"{\"clientId\":\"USR-ABC\",\"orderNumber\":\"ORD-456\",\"amount\":120.00,\"readyAt\":\"%s\"}", now));
+		var eventPublisher = publisher(100, 1);
 
-		// Act & Assert
-		assertThatNoException().isThrownBy(() -> eventPublisher.publishOrderReadyEvent(event));
+		// Act
+		var first = eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "1", 1L, "{}");
+		var second = eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "2", 2L, "{}");
 
 		// Assert
-		verify(orderReadySender).sendMessage(any(ServiceBusMessage.class));
+		assertThat(first).isNotDone();
+		assertThat(second).isCompletedExceptionally();
+		assertThat(second.handle((ignored, ex) -> ex).join()).isInstanceOf(RejectedExecutionException.class);
 	}
 
-	@Test @DisplayName("Deve publicar múltiplos eventos com sucesso")
-	void shouldPublishMultipleEventsSuccessfully() {
+	@Test @DisplayName("Deve rejeitar destino desconhecido")
+	void shouldRejectUnknownDestination() {
 		// Arrange
-		var formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
-		var createdEvent = EventFixture.createOrderCreatedEventDto(10L, "ORD-999", "USR-XYZ", new BigDecimal("200.00"));
-		var canceledEvent = EventFixture.createOrderCanceledEventDto(11L, new BigDecimal("80.00"));
-		var now = LocalDateTime.now().format(formatter);
-		var readyEvent = EventFixture.createOrderReadyEventDto("USR-QWE", "ORD-777", new BigDecimal("300.00"), now);
-
-		when(gson.toJson(readyEvent)).thenReturn(String.format(
-				"{\"clientId\":\"USR-QWE\",\"orderNumber\":\"ORD-777\",\"amount\":300.00,\"readyAt\":\"%s\"}", now));
-		when(gson.toJson(createdEvent)).thenReturn("{\"orderNumber\":\"ORD-999\",\"totalAmount\":200.00}");
-		when(gson.toJson(canceledEvent)).thenReturn("{\"orderId\":11,\"status\":\"CANCELADO\"}");
-		when(gson.toJson(readyEvent)).thenReturn("{\"orderId\":12,\"ready\":true}");
-
-		// Act & Assert
-		assertThatNoException().isThrownBy(() -> {
-			eventPublisher.publishOrderCreatedEvent(createdEvent);
-			eventPublisher.publishOrderCanceledEvent(canceledEvent);
-			eventPublisher.publishOrderReadyEvent(readyEvent);
-		});
+		var eventPublisher = publisher(100, 10);
+
+		// Act
+		var result = eventPublisher.publish("unknown.queue", "1", 1L, "{}");
 
 		// Assert
-		verify(orderCreatedSender).sendMessage(any(ServiceBusMessage.class));
-		verify(orderCanceledSender).sendMessage(any(ServiceBusMessage.class));
-		verify(orderReadySender).sendMessage(any(ServiceBusMessage.class));
+		assertThat(result).isCompletedExceptionally();
+		assertThat(result.handle((ignored, ex) -> ex instanceof CompletionException ? ex.getCause() : ex).join())
+				.isInstanceOf(IllegalArgumentException.class);
 	}
 }
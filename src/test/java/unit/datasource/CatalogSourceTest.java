@@ -0,0 +1,173 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.product.ProductDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.resilience.RemoteCallGuard;
+import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.client.CatalogSource;
+import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.client.ProductClient;
+import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.entity.ProductEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.exceptions.ProductException;
+import com.soat.fiap.food.core.order.infrastructure.out.catalog.product.mapper.response.ProductDTOMapper;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import unit.fixtures.CatalogFixture;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("CatalogSource - Testes Unitários")
+class CatalogSourceTest {
+
+	@Mock
+	private ProductClient client;
+
+	@Mock
+	private ProductDTOMapper productDTOMapper;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private RemoteCallGuard remoteCallGuard;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		remoteCallGuard = new RemoteCallGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+				TimeLimiterRegistry.ofDefaults());
+		lenient().when(productDTOMapper.toDtoList(anyList()))
+				.thenAnswer(invocation -> invocation.<List<ProductEntity>>getArgument(0)
+						.stream()
+						.map(entity -> CatalogFixture.createCatalogProduct(entity.getId(), "Produto " + entity.getId(),
+								BigDecimal.TEN, true, true, 10))
+						.toList());
+	}
+
+	@Test @DisplayName("Deve retornar produtos do cache sem chamar o catálogo novamente")
+	void shouldServeCachedProducts() {
+		// Arrange
+		var catalogSource = catalogSource(Duration.ofMillis(1), 200);
+		when(client.getProductsByIds(anyList())).thenAnswer(invocation -> ok(invocation.getArgument(0)));
+
+		// Act
+		catalogSource.findByProductIds(List.of(1L, 2L));
+		var products = catalogSource.findByProductIds(List.of(2L, 1L));
+
+		// Assert
+		assertThat(products).extracting(ProductDTO::id).containsExactly(2L, 1L);
+		verify(client, times(1)).getProductsByIds(anyList());
+		assertThat(savedCalls("cache")).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve buscar no catálogo apenas os produtos fora do cache")
+	void shouldFetchOnlyMissingProducts() {
+		// Arrange
+		var catalogSource = catalogSource(Duration.ofMillis(1), 200);
+		when(client.getProductsByIds(anyList())).thenAnswer(invocation -> ok(invocation.getArgument(0)));
+		catalogSource.findByProductIds(List.of(1L));
+
+		// Act
+		var products = catalogSource.findByProductIds(List.of(1L, 3L));
+
+		// Assert
+		assertThat(products).extracting(ProductDTO::id).containsExactly(1L, 3L);
+		verify(client).getProductsByIds(List.of(3L));
+	}
+
+	@Test @DisplayName("Deve agrupar buscas concorrentes em uma única chamada ao catálogo")
+	void shouldCoalesceConcurrentLookups() throws Exception {
+		// Arrange
+		var catalogSource = catalogSource(Duration.ofMillis(300), 200);
+		var requestedIds = Collections.synchronizedList(new ArrayList<List<Long>>());
+		when(client.getProductsByIds(anyList())).thenAnswer(invocation -> {
+			requestedIds.add(List.copyOf(invocation.getArgument(0)));
+			return ok(invocation.getArgument(0));
+		});
+		var barrier = new CyclicBarrier(2);
+		var callers = Executors.newFixedThreadPool(2);
+
+		// Act
+		try {
+			var first = callers.submit(() -> {
+				barrier.await();
+				return catalogSource.findByProductIds(List.of(1L));
+			});
+			var second = callers.submit(() -> {
+				barrier.await();
+				return catalogSource.findByProductIds(List.of(2L));
+			});
+
+			// Assert
+			assertThat(first.get(5, TimeUnit.SECONDS)).extracting(ProductDTO::id).containsExactly(1L);
+			assertThat(second.get(5, TimeUnit.SECONDS)).extracting(ProductDTO::id).containsExactly(2L);
+		} finally {
+			callers.shutdownNow();
+		}
+		assertThat(requestedIds).singleElement().satisfies(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+		assertThat(savedCalls("coalesced")).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve chamar o catálogo sem aguardar a janela quando o lote estiver completo")
+	void shouldFlushFullBatchImmediately() {
+		// Arrange
+		var catalogSource = catalogSource(Duration.ofSeconds(30), 2);
+		when(client.getProductsByIds(anyList())).thenAnswer(invocation -> ok(invocation.getArgument(0)));
+
+		// Act
+		var startedAt = System.nanoTime();
+		var products = catalogSource.findByProductIds(List.of(1L, 2L));
+
+		// Assert
+		assertThat(products).hasSize(2);
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+	}
+
+	@Test @DisplayName("Deve lançar ProductException e não armazenar em cache quando o catálogo falhar")
+	void shouldThrowProductExceptionOnCatalogError() {
+		// Arrange
+		var catalogSource = catalogSource(Duration.ofMillis(1), 200);
+		when(client.getProductsByIds(anyList())).thenReturn(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+
+		// Act & Assert
+		assertThatThrownBy(() -> catalogSource.findByProductIds(List.of(1L))).isInstanceOf(ProductException.class);
+		assertThatThrownBy(() -> catalogSource.findByProductIds(List.of(1L))).isInstanceOf(ProductException.class);
+		verify(client, times(2)).getProductsByIds(anyList());
+	}
+
+	private CatalogSource catalogSource(Duration coalescingWindow, int maxBatchSize) {
+		return new CatalogSource(client, productDTOMapper, remoteCallGuard, meterRegistry, 100,
+				Duration.ofSeconds(30), coalescingWindow, maxBatchSize);
+	}
+
+	private double savedCalls(String reason) {
+		return meterRegistry.get("order.catalog.calls.saved").tag("reason", reason).counter().count();
+	}
+
+	private static ResponseEntity<List<ProductEntity>> ok(List<Long> productIds) {
+		return ResponseEntity.ok(productIds.stream().map(id -> {
+			var entity = new ProductEntity();
+			entity.setId(id);
+			return entity;
+		}).toList());
+	}
+}
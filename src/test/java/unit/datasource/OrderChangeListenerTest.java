@@ -0,0 +1,117 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config.OrderCacheConfig;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeListener;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotification;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotifier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("OrderChangeListener - Testes Unitários")
+class OrderChangeListenerTest {
+
+	@Mock
+	private DataSource dataSource;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private Cache orders;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private OrderChangeNotifier notifier;
+	private OrderChangeListener listener;
+
+	@BeforeEach
+	void setUp() {
+		when(cacheManager.getCache(OrderCacheConfig.ORDERS_CACHE)).thenReturn(orders);
+		notifier = new OrderChangeNotifier(jdbcTemplate, true);
+		listener = new OrderChangeListener(dataSource, notifier, cacheManager, applicationEventPublisher,
+				new SimpleMeterRegistry(), Duration.ofSeconds(1), Duration.ofSeconds(5));
+	}
+
+	@Test @DisplayName("Deve invalidar o pedido alterado por outra instância")
+	void shouldEvictOrderChangedByAnotherInstance() {
+		// Act
+		listener.onNotification(new OrderChangeNotification("outra-instancia", 42L, null, null, null).payload());
+
+		// Assert
+		verify(orders).evict(42L);
+	}
+
+	@Test @DisplayName("Deve republicar localmente a transição de status gravada em outra instância")
+	void shouldPublishStatusUpdateFromAnotherInstance() {
+		// Arrange
+		var updatedAt = LocalDateTime.of(2025, 1, 10, 12, 30, 15, 123_000_000);
+		var notification = new OrderChangeNotification("outra-instancia", 42L, OrderStatus.READY, 3L, updatedAt);
+
+		// Act
+		listener.onNotification(notification.payload());
+
+		// Assert
+		verify(orders).evict(42L);
+		verify(applicationEventPublisher).publishEvent(notification);
+		assertThat(notification.isStatusUpdate()).isTrue();
+	}
+
+	@Test @DisplayName("Deve ignorar a notificação emitida pela própria instância")
+	void shouldIgnoreOwnNotification() {
+		// Act
+		listener.onNotification(new OrderChangeNotification(notifier.instanceId(), 42L, null, null, null).payload());
+
+		// Assert
+		verify(orders, never()).evict(any());
+		verifyNoInteractions(applicationEventPublisher);
+	}
+
+	@Test @DisplayName("Deve ignorar notificação em formato inválido")
+	void shouldIgnoreMalformedNotification() {
+		// Act
+		listener.onNotification("sem-separador");
+
+		// Assert
+		verify(orders, never()).evict(any());
+		assertThatThrownBy(() -> OrderChangeNotification.parse("sem-separador"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test @DisplayName("Deve notificar a alteração com o identificador da instância")
+	void shouldNotifyChangeWithInstanceId() {
+		// Act
+		notifier.notifyChanged(42L);
+
+		// Assert
+		verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(RowCallbackHandler.class),
+				eq(OrderChangeNotifier.CHANNEL), eq(notifier.instanceId() + ";42;;;"));
+		assertThat(OrderChangeNotification.parse(notifier.instanceId() + ";42;;;").orderId()).isEqualTo(42L);
+	}
+}
@@ -0,0 +1,262 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.azsvcbus.AzSvcBusEventPublisher;
+import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.outbox.OrderOutboxRelay;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderOutboxEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários para {@link OrderOutboxRelay}.
+ * <p>
+ * Valida a drenagem da outbox em ordem, a remoção somente após a publicação, o
+ * isolamento de falhas por pedido, o envio fora de transação com espera limitada
+ * e o estacionamento de eventos após o limite de tentativas.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class) @DisplayName("OrderOutboxRelay - Testes Unitários")
+class OrderOutboxRelayTest {
+
+	private static final int BATCH_SIZE = 10;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final Duration SEND_TIMEOUT = Duration.ofMillis(100);
+
+	@Mock
+	private SpringDataOrderOutboxRepository outboxRepository;
+
+	@Mock
+	private AzSvcBusEventPublisher eventPublisher;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+	private OrderOutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			inTransaction.set(true);
+			try {
+				return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+			} finally {
+				inTransaction.set(false);
+			}
+		});
+		relay = new OrderOutboxRelay(outboxRepository, eventPublisher, transactionTemplate, meterRegistry,
+				BATCH_SIZE, SEND_TIMEOUT, MAX_ATTEMPTS, Duration.ofSeconds(1));
+	}
+
+	@Test @DisplayName("Deve publicar os eventos na ordem de gravação e removê-los da outbox")
+	void shouldPublishInOrderAndDeletePublishedEvents() {
+		// Arrange
+		var created = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var ready = entry(2L, 10L, ServiceBusConfig.ORDER_READY_QUEUE);
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(created, ready));
+		when(eventPublisher.publish(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+		// Act
+		relay.relay();
+
+		// Assert
+		var order = inOrder(eventPublisher);
+		order.verify(eventPublisher).publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "1", 10L, created.getPayload());
+		order.verify(eventPublisher).publish(ServiceBusConfig.ORDER_READY_QUEUE, "2", 10L, ready.getPayload());
+		verify(outboxRepository).deleteAllInBatch(List.of(created, ready));
+		assertThat(meterRegistry.get("order.outbox.relayed")
+				.tag("destination", ServiceBusConfig.ORDER_CREATED_TOPIC)
+				.counter()
+				.count()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve adiar os eventos seguintes do pedido com falha sem bloquear os demais pedidos")
+	void shouldHoldBackFollowingEventsOfFailedOrderOnly() {
+		// Arrange
+		var failed = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var otherOrder = entry(2L, 20L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var sameOrder = entry(3L, 10L, ServiceBusConfig.ORDER_READY_QUEUE);
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(failed, otherOrder, sameOrder));
+		when(eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "1", 10L, failed.getPayload()))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Service Bus indisponível")));
+		when(eventPublisher.publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "2", 20L, otherOrder.getPayload()))
+				.thenReturn(CompletableFuture.completedFuture(null));
+
+		// Act
+		relay.relay();
+
+		// Assert
+		verify(eventPublisher, never()).publish(eq(ServiceBusConfig.ORDER_READY_QUEUE), any(), any(), any());
+		verify(outboxRepository).deleteAllInBatch(List.of(otherOrder));
+		verify(outboxRepository).saveAll(List.of(failed));
+		verify(outboxRepository).release(List.of(3L));
+		assertThat(failed.getAttempts()).isEqualTo(1);
+		assertThat(failed.getLastError()).isEqualTo("Service Bus indisponível");
+		assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(failed.getStatus()).isEqualTo(OrderOutboxEntity.Status.PENDING);
+		assertThat(sameOrder.getAttempts()).isZero();
+	}
+
+	@Test @DisplayName("Deve reservar o lote e publicar fora da transação")
+	void shouldClaimBatchAndPublishOutsideTransaction() {
+		// Arrange
+		var created = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var publishedInTransaction = new ArrayList<Boolean>();
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(created));
+		when(eventPublisher.publish(any(), any(), any(), any())).thenAnswer(invocation -> {
+			publishedInTransaction.add(inTransaction.get());
+			return CompletableFuture.completedFuture(null);
+		});
+
+		// Act
+		relay.relay();
+
+		// Assert
+		var order = inOrder(outboxRepository, eventPublisher);
+		order.verify(outboxRepository).claim(eq(List.of(1L)), any());
+		order.verify(eventPublisher).publish(any(), any(), any(), any());
+		order.verify(outboxRepository).deleteAllInBatch(List.of(created));
+		assertThat(publishedInTransaction).containsExactly(false);
+	}
+
+	@Test @DisplayName("Deve registrar falha quando a confirmação do Service Bus exceder o tempo limite")
+	void shouldFailSendWhenConfirmationTimesOut() {
+		// Arrange
+		var created = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(created));
+		when(eventPublisher.publish(any(), any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+		// Act
+		var startedAt = System.nanoTime();
+		relay.relay();
+
+		// Assert
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+		assertThat(created.getAttempts()).isEqualTo(1);
+		assertThat(created.getLastError()).contains("Confirmação do Service Bus não recebida");
+		verify(outboxRepository).saveAll(List.of(created));
+		verify(outboxRepository, never()).deleteAllInBatch(anyList());
+	}
+
+	@Test @DisplayName("Deve estacionar o evento ao atingir o limite de tentativas")
+	void shouldParkEventAfterMaxAttempts() {
+		// Arrange
+		var poison = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		poison.setAttempts(MAX_ATTEMPTS - 1);
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(poison));
+		when(eventPublisher.publish(any(), any(), any(), any()))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("Mensagem muito grande")));
+
+		// Act
+		relay.relay();
+
+		// Assert
+		assertThat(poison.getStatus()).isEqualTo(OrderOutboxEntity.Status.PARKED);
+		assertThat(poison.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+		assertThat(poison.getNextAttemptAt()).isNull();
+		verify(outboxRepository).saveAll(List.of(poison));
+		assertThat(meterRegistry.get("order.outbox.parked")
+				.tag("destination", ServiceBusConfig.ORDER_CREATED_TOPIC)
+				.counter()
+				.count()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve enviar o próximo evento do pedido somente após a confirmação do anterior")
+	void shouldSendNextOrderEventOnlyAfterPreviousIsConfirmed() {
+		// Arrange
+		var created = entry(1L, 10L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var otherOrder = entry(2L, 20L, ServiceBusConfig.ORDER_CREATED_TOPIC);
+		var ready = entry(3L, 10L, ServiceBusConfig.ORDER_READY_QUEUE);
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of(created, otherOrder, ready));
+		when(eventPublisher.publish(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+		// Act
+		relay.relay();
+
+		// Assert
+		var order = inOrder(eventPublisher);
+		order.verify(eventPublisher).publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "1", 10L, created.getPayload());
+		order.verify(eventPublisher).publish(ServiceBusConfig.ORDER_CREATED_TOPIC, "2", 20L, otherOrder.getPayload());
+		order.verify(eventPublisher).flush();
+		order.verify(eventPublisher).publish(ServiceBusConfig.ORDER_READY_QUEUE, "3", 10L, ready.getPayload());
+		verify(outboxRepository).deleteAllInBatch(List.of(created, otherOrder, ready));
+	}
+
+	@Test @DisplayName("Não deve drenar a outbox quando outra instância possuir o lock")
+	void shouldSkipWhenAnotherInstanceHoldsTheLock() {
+		// Arrange
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+		// Act
+		relay.relay();
+
+		// Assert
+		verify(outboxRepository, never()).findRelayable(any(), anyInt());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test @DisplayName("Deve expor a quantidade de eventos pendentes e o atraso da outbox")
+	void shouldExposePendingEventsAndLag() {
+		// Arrange
+		when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+		when(outboxRepository.findRelayable(any(), eq(BATCH_SIZE))).thenReturn(List.of());
+		when(outboxRepository.countByStatus(OrderOutboxEntity.Status.PENDING)).thenReturn(3L);
+		when(outboxRepository.findOldestCreatedAt(OrderOutboxEntity.Status.PENDING))
+				.thenReturn(LocalDateTime.now().minusSeconds(30));
+
+		// Act
+		relay.relay();
+
+		// Assert
+		assertThat(meterRegistry.get("order.outbox.pending").gauge().value()).isEqualTo(3);
+		assertThat(meterRegistry.get("order.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(30);
+	}
+
+	private static OrderOutboxEntity entry(Long id, Long orderId, String destination) {
+		var entry = new OrderOutboxEntity();
+		entry.setId(id);
+		entry.setAggregateId(orderId);
+		entry.setDestination(destination);
+		entry.setPayload("{\"id\":" + orderId + "}");
+		entry.setCreatedAt(LocalDateTime.now().minusSeconds(1));
+		return entry;
+	}
+}
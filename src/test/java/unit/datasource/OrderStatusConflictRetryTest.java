@@ -0,0 +1,93 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("OrderStatusConflictRetry - Testes Unitários")
+class OrderStatusConflictRetryTest {
+
+	private static final long ORDER_ID = 1L;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private OrderStatusConflictRetry retry;
+
+	@BeforeEach
+	void setUp() {
+		retry = new OrderStatusConflictRetry(new TransactionTemplate(transactionManager));
+	}
+
+	@Test @DisplayName("Deve repetir o conflito em uma nova transação após desfazer a anterior")
+	void shouldRetryConflictInNewTransaction() {
+		// Arrange
+		var attempts = new AtomicInteger();
+
+		// Act
+		var result = retry.execute(ORDER_ID, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new OrderStatusConflictException("conflito");
+			}
+			return "ok";
+		});
+
+		// Assert
+		assertThat(result).isEqualTo("ok");
+		assertThat(attempts).hasValue(2);
+
+		var inOrder = inOrder(transactionManager);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(transactionManager).rollback(any());
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(transactionManager).commit(any());
+	}
+
+	@Test @DisplayName("Deve propagar o conflito após o limite de tentativas")
+	void shouldGiveUpAfterMaxAttempts() {
+		// Arrange
+		var attempts = new AtomicInteger();
+
+		// Act & Assert
+		assertThatThrownBy(() -> retry.run(ORDER_ID, () -> {
+			attempts.incrementAndGet();
+			throw new OrderStatusConflictException("conflito");
+		})).isInstanceOf(OrderStatusConflictException.class);
+
+		assertThat(attempts).hasValue(OrderStatusConflictRetry.MAX_ATTEMPTS);
+		verify(transactionManager, times(OrderStatusConflictRetry.MAX_ATTEMPTS)).rollback(any());
+		verify(transactionManager, never()).commit(any());
+	}
+
+	@Test @DisplayName("Deve recusar a execução dentro de uma transação ativa")
+	void shouldRejectCallInsideActiveTransaction() {
+		// Arrange
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+			// Act & Assert
+			assertThatThrownBy(() -> retry.run(ORDER_ID, () -> {
+			})).isInstanceOf(IllegalStateException.class);
+
+			verifyNoInteractions(transactionManager);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+	}
+}
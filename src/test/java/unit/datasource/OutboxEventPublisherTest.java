@@ -0,0 +1,102 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.out.event.publisher.outbox.OutboxEventPublisher;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.entity.OrderOutboxEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderOutboxRepository;
+
+import unit.fixtures.EventFixture;
+
+/**
+ * Testes unitários para {@link OutboxEventPublisher}.
+ * <p>
+ * Valida que os eventos de pedido são gravados na outbox com o destino e o
+ * pedido corretos, sem acesso ao Service Bus.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class) @DisplayName("OutboxEventPublisher - Testes Unitários")
+class OutboxEventPublisherTest {
+
+	@Mock
+	private SpringDataOrderOutboxRepository outboxRepository;
+
+	@Mock
+	private EventCodec eventCodec;
+
+	private OutboxEventPublisher eventPublisher;
+
+	@BeforeEach
+	void setUp() {
+		eventPublisher = new OutboxEventPublisher(outboxRepository, eventCodec);
+	}
+
+	@Test @DisplayName("Deve gravar evento de pedido criado na outbox")
+	void shouldAppendOrderCreatedEvent() {
+		// Arrange
+		var event = EventFixture.createOrderCreatedEventDto(1L, "ORD-123", "USR-001", new BigDecimal("100.00"));
+		when(eventCodec.encode(event)).thenReturn("{\"orderNumber\":\"ORD-123\"}");
+
+		// Act
+		eventPublisher.publishOrderCreatedEvent(event);
+
+		// Assert
+		var entry = savedEntry();
+		assertThat(entry.getAggregateId()).isEqualTo(1L);
+		assertThat(entry.getDestination()).isEqualTo(ServiceBusConfig.ORDER_CREATED_TOPIC);
+		assertThat(entry.getPayload()).isEqualTo("{\"orderNumber\":\"ORD-123\"}");
+		assertThat(entry.getCreatedAt()).isNotNull();
+	}
+
+	@Test @DisplayName("Deve gravar evento de pedido cancelado na outbox")
+	void shouldAppendOrderCanceledEvent() {
+		// Arrange
+		var event = EventFixture.createOrderCanceledEventDto(2L, new BigDecimal("50.00"));
+		when(eventCodec.encode(event)).thenReturn("{\"id\":2}");
+
+		// Act
+		eventPublisher.publishOrderCanceledEvent(event);
+
+		// Assert
+		var entry = savedEntry();
+		assertThat(entry.getAggregateId()).isEqualTo(2L);
+		assertThat(entry.getDestination()).isEqualTo(ServiceBusConfig.ORDER_CANCELED_TOPIC);
+	}
+
+	@Test @DisplayName("Deve gravar evento de pedido pronto na outbox associado ao pedido")
+	void shouldAppendOrderReadyEventWithOrderId() {
+		// Arrange
+		var event = EventFixture.createOrderReadyEventDto("USR-ABC", "ORD-456", new BigDecimal("120.00"),
+				"15/06/2025 14:30:00");
+		event.setOrderId(3L);
+		when(eventCodec.encode(event)).thenReturn("{\"orderNumber\":\"ORD-456\"}");
+
+		// Act
+		eventPublisher.publishOrderReadyEvent(event);
+
+		// Assert
+		var entry = savedEntry();
+		assertThat(entry.getAggregateId()).isEqualTo(3L);
+		assertThat(entry.getDestination()).isEqualTo(ServiceBusConfig.ORDER_READY_QUEUE);
+	}
+
+	private OrderOutboxEntity savedEntry() {
+		var captor = ArgumentCaptor.forClass(OrderOutboxEntity.class);
+		verify(outboxRepository).save(captor.capture());
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,324 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ResponseEntity;
+
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.payment.PaymentStatusDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.payment.StatusDTO;
+import com.soat.fiap.food.core.order.infrastructure.common.resilience.RemoteCallGuard;
+import com.soat.fiap.food.core.order.infrastructure.out.payment.client.PaymentClient;
+import com.soat.fiap.food.core.order.infrastructure.out.payment.client.PaymentSource;
+import com.soat.fiap.food.core.order.infrastructure.out.payment.entity.PaymentStatusEntity;
+import com.soat.fiap.food.core.order.infrastructure.out.payment.exceptions.PaymentException;
+import com.soat.fiap.food.core.order.infrastructure.out.payment.mapper.response.PaymentStatusDTOMapper;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+/**
+ * Exercita o {@link RemoteCallGuard} do {@link PaymentSource} contra um
+ * servidor HTTP local que atrasa as respostas.
+ * <p>
+ * Como o cliente OpenFeign, o cliente de teste não é interrompido pelo time
+ * limiter: aguarda a resposta até o próprio tempo limite ({@link #CLIENT_TIMEOUT},
+ * o equivalente a {@code connectTimeout + readTimeout}), que deve ser menor que
+ * o do time limiter.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class) @DisplayName("PaymentSource (resiliência) - Testes Unitários")
+class PaymentSourceResilienceTest {
+
+	private static final Duration TIME_LIMIT = Duration.ofMillis(200);
+	private static final Duration CLIENT_TIMEOUT = Duration.ofMillis(150);
+	private static final Duration CLOSE_POLL = Duration.ofMillis(5);
+
+	@Mock
+	private PaymentStatusDTOMapper paymentStatusDTOMapper;
+
+	private ServerSocket server;
+	private ExecutorService serverExecutor;
+	private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private volatile Duration latency = Duration.ZERO;
+	private volatile CountDownLatch requestReceived = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		serverExecutor = Executors.newCachedThreadPool();
+		serverExecutor.execute(this::acceptConnections);
+
+		lenient().when(paymentStatusDTOMapper.toDto(any()))
+				.thenReturn(new PaymentStatusDTO(1L, StatusDTO.APPROVED));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		server.close();
+		serverExecutor.shutdownNow();
+	}
+
+	@Test @DisplayName("Deve retornar o status quando o pagamento responder dentro do tempo limite")
+	void shouldReturnStatusWithinTimeLimit() {
+		// Arrange
+		var paymentSource = paymentSource(10, 10);
+
+		// Act
+		var status = paymentSource.getOrderStatus(1L);
+
+		// Assert
+		assertThat(status.status()).isEqualTo(StatusDTO.APPROVED);
+		assertThat(requests).hasValue(1);
+	}
+
+	@Test @DisplayName("Deve lançar PaymentException sem aguardar a resposta quando o pagamento for lento")
+	void shouldFailFastWhenPaymentIsSlow() {
+		// Arrange
+		var paymentSource = paymentSource(10, 10);
+		latency = Duration.ofSeconds(2);
+
+		// Act
+		var startedAt = System.nanoTime();
+		assertThatThrownBy(() -> paymentSource.getOrderStatus(1L)).isInstanceOf(PaymentException.class)
+				.hasCauseInstanceOf(TimeoutException.class);
+
+		// Assert
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+	}
+
+	@Test @DisplayName("Deve abrir o circuito após chamadas lentas e rejeitar as seguintes sem chamar o pagamento")
+	void shouldOpenCircuitAfterSlowCalls() {
+		// Arrange
+		var paymentSource = paymentSource(2, 10);
+		latency = Duration.ofSeconds(2);
+		assertThatThrownBy(() -> paymentSource.getOrderStatus(1L)).hasCauseInstanceOf(TimeoutException.class);
+		assertThatThrownBy(() -> paymentSource.getOrderStatus(1L)).hasCauseInstanceOf(TimeoutException.class);
+
+		// Act & Assert
+		assertThatThrownBy(() -> paymentSource.getOrderStatus(1L)).isInstanceOf(PaymentException.class)
+				.hasCauseInstanceOf(CallNotPermittedException.class);
+		assertThat(requests).hasValue(2);
+	}
+
+	@Test @DisplayName("Deve rejeitar as chamadas acima do limite do bulkhead")
+	void shouldRejectCallsAboveBulkheadLimit() throws Exception {
+		// Arrange
+		var paymentSource = paymentSource(10, 1);
+		latency = Duration.ofMillis(100);
+		var callers = Executors.newSingleThreadExecutor();
+
+		try {
+			var first = callers.submit(() -> paymentSource.getOrderStatus(1L));
+			assertThat(requestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// Act & Assert
+			assertThatThrownBy(() -> paymentSource.getOrderStatus(2L)).isInstanceOf(PaymentException.class)
+					.hasCauseInstanceOf(BulkheadFullException.class);
+			assertThat(first.get(5, TimeUnit.SECONDS).status()).isEqualTo(StatusDTO.APPROVED);
+		} finally {
+			callers.shutdownNow();
+		}
+		assertThat(requests).hasValue(1);
+	}
+
+	@Test @DisplayName("Não deve exceder o limite do bulkhead em requisições simultâneas após tempos limite")
+	void shouldBoundConcurrentRequestsAfterTimeouts() throws Exception {
+		// Arrange
+		var maxConcurrentCalls = 2;
+		var waves = 5;
+		var paymentSource = paymentSource(100, maxConcurrentCalls);
+		latency = Duration.ofSeconds(2);
+		var callers = Executors.newFixedThreadPool(maxConcurrentCalls);
+
+		try {
+			// Act
+			for (int wave = 0; wave < waves; wave++) {
+				var calls = new ArrayList<Future<PaymentStatusDTO>>();
+				for (int call = 0; call < maxConcurrentCalls; call++) {
+					calls.add(callers.submit(() -> paymentSource.getOrderStatus(1L)));
+				}
+				for (var call : calls) {
+					assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+							.cause()
+							.isInstanceOf(PaymentException.class)
+							.hasCauseInstanceOf(TimeoutException.class);
+				}
+			}
+		} finally {
+			callers.shutdownNow();
+		}
+
+		// Assert
+		assertThat(requests).hasValue(waves * maxConcurrentCalls);
+		assertThat(maxInFlight).as("Requisições simultâneas recebidas pelo pagamento")
+				.hasValueLessThanOrEqualTo(maxConcurrentCalls);
+	}
+
+	@Test @DisplayName("Deve configurar o tempo limite do OpenFeign dentro do tempo limite do pagamento")
+	void shouldConfigureFeignTimeoutsWithinPaymentTimeLimit() throws IOException {
+		// Arrange
+		var environment = new StandardEnvironment();
+		new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))
+				.forEach(environment.getPropertySources()::addLast);
+		var binder = Binder.get(environment);
+
+		// Act
+		var connectTimeout = binder.bind("spring.cloud.openfeign.client.config.default.connect-timeout", Long.class)
+				.get();
+		var readTimeout = binder.bind("spring.cloud.openfeign.client.config.default.read-timeout", Long.class).get();
+		var timeLimit = binder.bind("resilience4j.timelimiter.instances.payment.timeout-duration", Duration.class)
+				.get();
+
+		// Assert
+		assertThat(Duration.ofMillis(connectTimeout + readTimeout)).isLessThanOrEqualTo(timeLimit);
+	}
+
+	private PaymentSource paymentSource(int failureWindow, int maxConcurrentCalls) {
+		var circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+				.slidingWindowSize(failureWindow)
+				.minimumNumberOfCalls(failureWindow)
+				.failureRateThreshold(50)
+				.waitDurationInOpenState(Duration.ofMinutes(1))
+				.build());
+		var bulkheads = BulkheadRegistry.of(
+				BulkheadConfig.custom().maxConcurrentCalls(maxConcurrentCalls).maxWaitDuration(Duration.ZERO).build());
+		var timeLimiters = TimeLimiterRegistry
+				.of(TimeLimiterConfig.custom().timeoutDuration(TIME_LIMIT).cancelRunningFuture(true).build());
+
+		return new PaymentSource(stubClient(), paymentStatusDTOMapper,
+				new RemoteCallGuard(circuitBreakers, bulkheads, timeLimiters));
+	}
+
+	/**
+	 * Cliente que, como o OpenFeign, ignora a interrupção do time limiter e
+	 * encerra a conexão somente no próprio tempo limite, lançando uma exceção
+	 * causada por {@link SocketTimeoutException}.
+	 */
+	private PaymentClient stubClient() {
+		var baseUrl = "http://localhost:" + server.getLocalPort();
+		return orderId -> {
+			var request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + orderId + "/latest"))
+					.timeout(CLIENT_TIMEOUT)
+					.GET()
+					.build();
+			try {
+				httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).join();
+				return ResponseEntity.ok(new PaymentStatusEntity());
+			} catch (CompletionException ex) {
+				if (ex.getCause() instanceof HttpTimeoutException) {
+					throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+				}
+				throw ex;
+			}
+		};
+	}
+
+	private void acceptConnections() {
+		while (!server.isClosed()) {
+			try {
+				var socket = server.accept();
+				serverExecutor.execute(() -> respond(socket));
+			} catch (IOException ex) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Responde após a latência configurada, ou antes, quando o cliente encerra a
+	 * conexão; enquanto isso a requisição é contada como em andamento.
+	 */
+	private void respond(Socket socket) {
+		try (socket) {
+			var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			String line;
+			do {
+				line = reader.readLine();
+			} while (line != null && !line.isEmpty());
+
+			requests.incrementAndGet();
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			requestReceived.countDown();
+			try {
+				if (closedByClientWithin(socket, latency)) {
+					return;
+				}
+				var body = "{\"orderId\":1,\"status\":\"APPROVED\"}".getBytes(StandardCharsets.UTF_8);
+				var headers = "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + body.length
+						+ "\r\nConnection: close\r\n\r\n";
+				var out = socket.getOutputStream();
+				out.write(headers.getBytes(StandardCharsets.US_ASCII));
+				out.write(body);
+				out.flush();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		} catch (IOException ex) {
+			// conexão encerrada pelo cliente
+		}
+	}
+
+	private static boolean closedByClientWithin(Socket socket, Duration wait) throws IOException {
+		socket.setSoTimeout((int) CLOSE_POLL.toMillis());
+		var deadline = System.nanoTime() + wait.toNanos();
+		while (System.nanoTime() < deadline) {
+			try {
+				if (socket.getInputStream().read() < 0) {
+					return true;
+				}
+			} catch (SocketTimeoutException ex) {
+				// cliente ainda aguardando a resposta
+			}
+		}
+		return false;
+	}
+}
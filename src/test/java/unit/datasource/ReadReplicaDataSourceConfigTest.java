@@ -0,0 +1,70 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.config.ReadReplicaDataSourceConfig;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.routing.ReadReplicaRoutingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ReadReplicaDataSourceConfig - Testes Unitários")
+class ReadReplicaDataSourceConfigTest {
+
+	/**
+	 * Varre o pacote de configuração como a aplicação, para que classes
+	 * aninhadas anotadas também sejam registradas.
+	 */
+	@Configuration @ComponentScan(basePackageClasses = ReadReplicaDataSourceConfig.class)
+	static class ScannedConfig {
+	}
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(ScannedConfig.class)
+			.withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+	@Test @DisplayName("Deve iniciar o contexto sem a réplica quando desabilitada")
+	void shouldStartWithoutReplicaWhenDisabled() {
+		contextRunner.withPropertyValues("spring.datasource.replica.enabled=false").run(context -> {
+			assertThat(context).hasNotFailed();
+			assertThat(context).doesNotHaveBean(ReadReplicaDataSourceConfig.class);
+			assertThat(context).doesNotHaveBean(ReadReplicaRoutingDataSource.class);
+		});
+	}
+
+	@Test @DisplayName("Deve iniciar o contexto sem a réplica quando a propriedade estiver ausente")
+	void shouldStartWithoutReplicaByDefault() {
+		contextRunner.run(context -> {
+			assertThat(context).hasNotFailed();
+			assertThat(context).doesNotHaveBean(ReadReplicaRoutingDataSource.class);
+		});
+	}
+
+	@Test @DisplayName("Deve rotear o DataSource principal pela réplica quando habilitada")
+	void shouldRouteDataSourceWhenEnabled() {
+		contextRunner.withBean(DataSourceProperties.class, () -> {
+			var properties = new DataSourceProperties();
+			properties.setUrl("jdbc:postgresql://primary:5432/order");
+			return properties;
+		})
+				.withPropertyValues("spring.datasource.replica.enabled=true",
+						"spring.datasource.replica.url=jdbc:postgresql://replica:5432/order",
+						"spring.datasource.replica.username=order", "spring.datasource.replica.password=secret")
+				.run(context -> {
+					assertThat(context).hasNotFailed();
+					assertThat(context).hasSingleBean(ReadReplicaRoutingDataSource.class);
+					assertThat(context.getBean("dataSource", DataSource.class))
+							.isInstanceOf(LazyConnectionDataSourceProxy.class);
+				});
+	}
+}
@@ -0,0 +1,50 @@
+package unit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.routing.ReadReplicaRoutingDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("ReadReplicaRoutingDataSource - Testes Unitários")
+class ReadReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primary;
+
+	@Mock
+	private DataSource replica;
+
+	@Mock
+	private Connection connection;
+
+	@Test @DisplayName("Deve obter do primário as conexões com credenciais explícitas")
+	void shouldDelegateCredentialedConnectionsToPrimary() throws Exception {
+		// Arrange
+		var meterRegistry = new SimpleMeterRegistry();
+		var routing = new ReadReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(2), Duration.ofSeconds(10),
+				meterRegistry);
+		when(primary.getConnection("order", "secret")).thenReturn(connection);
+
+		// Act
+		var result = routing.getConnection("order", "secret");
+
+		// Assert
+		assertThat(result).isSameAs(connection);
+		verifyNoInteractions(replica);
+		assertThat(meterRegistry.get("order.datasource.connections").tag("route", "primary").counter().count())
+				.isEqualTo(1.0);
+	}
+}
@@ -55,6 +55,26 @@ class OrderStatusTest {
 		});
 	}
 
+	@Test @DisplayName("Deve priorizar pedidos prontos, depois em preparação e por fim recebidos")
+	void shouldReturnActivePriorityForEachStatus() {
+		// Arrange & Act & Assert
+		assertAll(() -> assertEquals(1, OrderStatus.READY.getActivePriority()),
+				() -> assertEquals(2, OrderStatus.PREPARING.getActivePriority()),
+				() -> assertEquals(3, OrderStatus.RECEIVED.getActivePriority()),
+				() -> assertEquals(OrderStatus.INACTIVE_PRIORITY, OrderStatus.COMPLETED.getActivePriority()),
+				() -> assertEquals(OrderStatus.INACTIVE_PRIORITY, OrderStatus.CANCELLED.getActivePriority()));
+	}
+
+	@Test @DisplayName("Deve considerar ativos apenas pedidos não finalizados")
+	void shouldConsiderOnlyUnfinishedStatusesAsActive() {
+		// Arrange & Act & Assert
+		assertTrue(OrderStatus.RECEIVED.isActive());
+		assertTrue(OrderStatus.PREPARING.isActive());
+		assertTrue(OrderStatus.READY.isActive());
+		assertFalse(OrderStatus.COMPLETED.isActive());
+		assertFalse(OrderStatus.CANCELLED.isActive());
+	}
+
 	@Test @DisplayName("Deve permitir iterar todos os valores e garantir que não sejam nulos")
 	void shouldIterateAllValues() {
 		// Arrange & Act & Assert
@@ -0,0 +1,257 @@
+package unit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.IterableStream;
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverClient;
+import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import com.azure.messaging.servicebus.models.SubQueue;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
+import com.soat.fiap.food.core.order.infrastructure.common.event.azsvcbus.config.ServiceBusConfig;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+import com.soat.fiap.food.core.order.infrastructure.common.transaction.OrderStatusConflictRetry;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.catalog.handlers.StockReversalHandler;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.deadletter.DeadLetterReplayer;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentApprovedHandler;
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentExpiredHandler;
+import com.soat.fiap.food.core.shared.core.domain.exceptions.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("DeadLetterReplayer - Testes Unitários")
+class DeadLetterReplayerTest {
+
+	private static final String QUEUE = ServiceBusConfig.PAYMENT_APPROVED_QUEUE;
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private ServiceBusClientBuilder serviceBusClientBuilder;
+
+	@Mock
+	private ServiceBusReceiverClient receiver;
+
+	@Mock
+	private OrderEventDispatcher orderEventDispatcher;
+
+	@Mock
+	private ProcessedMessageStore processedMessageStore;
+
+	@Mock
+	private PaymentApprovedHandler paymentApprovedHandler;
+
+	@Mock
+	private PaymentExpiredHandler paymentExpiredHandler;
+
+	@Mock
+	private StockReversalHandler stockReversalHandler;
+
+	private DeadLetterReplayer replayer;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(serviceBusClientBuilder.receiver()
+				.queueName(QUEUE)
+				.subQueue(SubQueue.DEAD_LETTER_QUEUE)
+				.receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
+				.disableAutoComplete()
+				.buildClient()).thenReturn(receiver);
+
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return null;
+		}).when(orderEventDispatcher).dispatch(any(), any());
+
+		var orderStatusConflictRetry = new OrderStatusConflictRetry(
+				new TransactionTemplate(mock(PlatformTransactionManager.class)));
+		replayer = new DeadLetterReplayer(serviceBusClientBuilder, new EventCodec(), orderEventDispatcher,
+				processedMessageStore, orderStatusConflictRetry, paymentApprovedHandler, paymentExpiredHandler,
+				stockReversalHandler, 1000, 2, 100, 1000, 3, false);
+	}
+
+	@Test @DisplayName("Deve reprocessar e remover da dead-letter mensagens válidas")
+	void shouldReplayAndCompleteValidMessages() {
+		// Arrange
+		var message = message("msg-1", "{\"orderId\":1}");
+		receive(message);
+		when(processedMessageStore.processOnce(eq("payment-approved"), eq("msg-1"), any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(2).run();
+			return true;
+		});
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, null);
+
+		// Assert
+		assertThat(response.getMessages()).isEqualTo(1);
+		assertThat(response.getOutcomes()).containsEntry("REPLAYED", 1);
+		assertThat(response.getDeadLetterReasons()).containsEntry("MaxDeliveryCountExceeded", 1);
+		verify(paymentApprovedHandler).handle(argThat(event -> event.getOrderId().equals(1L)));
+		verify(orderEventDispatcher).dispatch(eq(1L), any());
+		verify(receiver).complete(message);
+	}
+
+	@Test @DisplayName("Deve remover sem reprocessar mensagens já processadas")
+	void shouldCompleteDuplicatesWithoutHandling() {
+		// Arrange
+		var message = message("msg-1", "{\"orderId\":1}");
+		receive(message);
+		when(processedMessageStore.processOnce(eq("payment-approved"), eq("msg-1"), any())).thenReturn(false);
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, null);
+
+		// Assert
+		assertThat(response.getOutcomes()).containsEntry("DUPLICATE", 1);
+		verifyNoInteractions(paymentApprovedHandler);
+		verify(receiver).complete(message);
+	}
+
+	@Test @DisplayName("Deve manter na dead-letter mensagens inválidas")
+	void shouldAbandonMalformedMessages() {
+		// Arrange
+		var message = message("msg-1", "{\"orderId\":");
+		receive(message);
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, null);
+
+		// Assert
+		assertThat(response.getOutcomes()).containsEntry("MALFORMED", 1);
+		verifyNoInteractions(processedMessageStore);
+		verify(receiver).abandon(message);
+		verify(receiver, never()).complete(any());
+	}
+
+	@Test @DisplayName("Deve manter na dead-letter e relatar mensagens com falha no handler")
+	void shouldAbandonAndReportFailedMessages() {
+		// Arrange
+		var message = message("msg-1", "{\"orderId\":1}");
+		receive(message);
+		when(processedMessageStore.processOnce(eq("payment-approved"), eq("msg-1"), any()))
+				.thenThrow(new OrderNotFoundException("Pedido não encontrado"));
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, null);
+
+		// Assert
+		assertThat(response.getOutcomes()).containsEntry("FAILED", 1);
+		assertThat(response.getFailures()).singleElement().asString().contains("msg-1");
+		verify(receiver).abandon(message);
+	}
+
+	@Test @DisplayName("Deve limitar a quantidade de mensagens reprocessadas")
+	void shouldStopAtMaxMessages() {
+		// Arrange
+		var first = message("msg-1", "{\"orderId\":1}");
+		var second = message("msg-2", "{\"orderId\":2}");
+		when(receiver.receiveMessages(anyInt(), any(Duration.class))).thenReturn(new IterableStream<>(List.of(first)),
+				new IterableStream<>(List.of(second)));
+		when(processedMessageStore.processOnce(any(), any(), any())).thenReturn(true);
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, 1);
+
+		// Assert
+		assertThat(response.getMessages()).isEqualTo(1);
+		verify(receiver).complete(first);
+		verify(receiver, never()).complete(second);
+	}
+
+	@Test @DisplayName("Deve processar uma única vez a mensagem com falha que volta para a dead-letter")
+	void shouldNotReplayRedeliveredPoisonMessage() {
+		// Arrange
+		var poison = message("msg-1", "{\"orderId\":1}");
+		when(receiver.receiveMessages(anyInt(), any(Duration.class))).thenReturn(new IterableStream<>(List.of(poison)),
+				new IterableStream<>(List.of(poison)), new IterableStream<>(List.of(poison)));
+		when(processedMessageStore.processOnce(eq("payment-approved"), eq("msg-1"), any()))
+				.thenThrow(new OrderNotFoundException("Pedido não encontrado"));
+
+		// Act
+		var response = replayer.replay(QUEUE, null, null, null);
+
+		// Assert
+		assertThat(response.getMessages()).isEqualTo(1);
+		assertThat(response.getOutcomes()).containsExactlyEntriesOf(Map.of("FAILED", 1));
+		verify(processedMessageStore, times(1)).processOnce(any(), any(), any());
+		verify(receiver, times(2)).abandon(poison);
+		verify(receiver, times(2)).receiveMessages(anyInt(), any(Duration.class));
+	}
+
+	@Test @DisplayName("Deve limitar a vazão e o paralelismo informados aos máximos configurados")
+	void shouldCapRateAndParallelism() {
+		// Arrange
+		var message = message("msg-1", "{\"orderId\":1}");
+		receive(message);
+		when(processedMessageStore.processOnce(any(), any(), any())).thenReturn(true);
+
+		// Act
+		replayer.replay(QUEUE, 1_000_000, 64, null);
+
+		// Assert
+		verify(receiver, atLeastOnce()).receiveMessages(eq(3), any(Duration.class));
+		verify(receiver, never()).receiveMessages(eq(64), any(Duration.class));
+	}
+
+	@Test @DisplayName("Deve inspecionar mensagens sem reprocessá-las nem removê-las")
+	void shouldInspectWithoutReplaying() {
+		// Arrange
+		var valid = message("msg-1", "{\"orderId\":1}");
+		var malformed = message("msg-2", "não é json");
+		when(receiver.peekMessages(anyInt())).thenReturn(new IterableStream<>(List.of(valid, malformed)),
+				new IterableStream<>(List.of()));
+
+		// Act
+		var response = replayer.inspect(QUEUE, null);
+
+		// Assert
+		assertThat(response.isDryRun()).isTrue();
+		assertThat(response.getOutcomes()).containsEntry("REPLAYABLE", 1).containsEntry("MALFORMED", 1);
+		verifyNoInteractions(processedMessageStore, paymentApprovedHandler);
+		verify(receiver, never()).complete(any());
+	}
+
+	@Test @DisplayName("Deve lançar ResourceNotFoundException para fila sem reprocessamento")
+	void shouldRejectUnknownQueue() {
+		// Act & Assert
+		assertThatThrownBy(() -> replayer.replay("unknown.queue", null, null, null))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	private void receive(ServiceBusReceivedMessage message) {
+		when(receiver.receiveMessages(anyInt(), any(Duration.class))).thenReturn(
+				new IterableStream<>(List.of(message)), new IterableStream<>(List.<ServiceBusReceivedMessage>of()));
+	}
+
+	private static ServiceBusReceivedMessage message(String messageId, String body) {
+		var message = mock(ServiceBusReceivedMessage.class, withSettings().strictness(Strictness.LENIENT));
+		when(message.getMessageId()).thenReturn(messageId);
+		when(message.getSequenceNumber()).thenReturn(SEQUENCE.incrementAndGet());
+		when(message.getBody()).thenReturn(BinaryData.fromString(body));
+		when(message.getDeadLetterReason()).thenReturn("MaxDeliveryCountExceeded");
+		return message;
+	}
+}
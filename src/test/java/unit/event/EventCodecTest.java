@@ -0,0 +1,124 @@
+package unit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.azure.core.util.BinaryData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderCreatedEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.OrderReadyEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentApprovedEventDto;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.StockReversalEventDto;
+import com.soat.fiap.food.core.order.infrastructure.common.event.codec.EventCodec;
+
+import unit.fixtures.EventFixture;
+
+@DisplayName("EventCodec - Testes Unitários")
+class EventCodecTest {
+
+	private final EventCodec eventCodec = new EventCodec();
+
+	@Test @DisplayName("Deve ler evento de pagamento aprovado diretamente dos bytes da mensagem")
+	void shouldDecodePaymentApprovedFromBytes() {
+		// Arrange
+		var body = BinaryData.fromBytes("""
+				{"paymentId":"7b1f9a3e-2c4d-4e5f-8a9b-0c1d2e3f4a5b","orderId":42,"amount":79.70,
+				"paymentMethod":"PIX","approvedAt":"2025-06-01T12:30:00"}
+				""".getBytes());
+
+		// Act
+		var event = eventCodec.decode(body, PaymentApprovedEventDto.class);
+
+		// Assert
+		assertThat(event.getPaymentId()).isEqualTo(UUID.fromString("7b1f9a3e-2c4d-4e5f-8a9b-0c1d2e3f4a5b"));
+		assertThat(event.getOrderId()).isEqualTo(42L);
+		assertThat(event.getAmount()).isEqualByComparingTo("79.70");
+		assertThat(event.getPaymentMethod()).isEqualTo("PIX");
+		assertThat(event.getApprovedAt()).isEqualTo(LocalDateTime.of(2025, 6, 1, 12, 30));
+	}
+
+	@Test @DisplayName("Deve ignorar propriedades desconhecidas")
+	void shouldIgnoreUnknownProperties() {
+		// Arrange
+		var body = BinaryData.fromString("{\"orderId\":7,\"reason\":\"OUT_OF_STOCK\"}");
+
+		// Act
+		var event = eventCodec.decode(body, StockReversalEventDto.class);
+
+		// Assert
+		assertThat(event.getOrderId()).isEqualTo(7L);
+	}
+
+	@Test @DisplayName("Deve lançar IllegalArgumentException para corpo inválido")
+	void shouldRejectMalformedBody() {
+		// Arrange
+		var body = BinaryData.fromString("{\"orderId\":");
+
+		// Act & Assert
+		assertThatThrownBy(() -> eventCodec.decode(body, StockReversalEventDto.class))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("StockReversalEventDto");
+	}
+
+	@Test @DisplayName("Deve gerar o mesmo JSON que o Gson para o evento de pedido criado")
+	void shouldEncodeOrderCreatedLikeGson() throws Exception {
+		// Arrange
+		var event = EventFixture.createOrderCreatedEventDto(1L, "ORD-2025-00000001", "user-1",
+				new BigDecimal("50.00"));
+		var mapper = new ObjectMapper();
+
+		// Act
+		var json = eventCodec.encode(event);
+
+		// Assert
+		assertThat(mapper.readTree(json)).isEqualTo(mapper.readTree(new Gson().toJson(event)));
+	}
+
+	@Test @DisplayName("Deve omitir campos transient e nulos ao serializar")
+	void shouldOmitTransientAndNullFields() {
+		// Arrange
+		var event = EventFixture.createOrderReadyEventDto("client-1", "ORD-2025-00000002", new BigDecimal("10.00"),
+				null);
+		event.setOrderId(2L);
+
+		// Act
+		var json = eventCodec.encode(event);
+
+		// Assert
+		assertThat(json).doesNotContain("orderId").doesNotContain("readyAt").contains("\"clientId\":\"client-1\"");
+	}
+
+	@Test @DisplayName("Deve ler o próprio JSON gerado")
+	void shouldRoundTrip() {
+		// Arrange
+		var event = EventFixture.createOrderCreatedEventDto(3L, "ORD-2025-00000003", "user-3",
+				new BigDecimal("20.00"));
+
+		// Act
+		var decoded = eventCodec.decode(BinaryData.fromString(eventCodec.encode(event)), OrderCreatedEventDto.class);
+
+		// Assert
+		assertThat(decoded).isEqualTo(event);
+	}
+
+	@Test @DisplayName("Deve ler evento de pedido pronto sem o ID do pedido")
+	void shouldDecodeOrderReadyWithoutOrderId() {
+		// Arrange
+		var body = BinaryData.fromString("{\"orderId\":9,\"clientId\":\"client-9\",\"orderNumber\":\"ORD-9\"}");
+
+		// Act
+		var event = eventCodec.decode(body, OrderReadyEventDto.class);
+
+		// Assert
+		assertThat(event.getOrderId()).isNull();
+		assertThat(event.getClientId()).isEqualTo("client-9");
+	}
+}
@@ -0,0 +1,161 @@
+package unit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.OrderEventDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OrderEventDispatcher - Testes Unitários")
+class OrderEventDispatcherTest {
+
+	private static final int STRIPES = 4;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderEventDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new OrderEventDispatcher(STRIPES, false, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Test @DisplayName("Deve processar eventos do mesmo pedido em sequência, sem sobreposição")
+	void shouldProcessEventsOfSameOrderSequentially() throws Exception {
+		// Arrange
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var processed = Collections.synchronizedList(new ArrayList<Integer>());
+		var callers = Executors.newFixedThreadPool(8);
+
+		// Act
+		try {
+			for (int i = 0; i < 20; i++) {
+				var sequence = i;
+				callers.submit(() -> dispatcher.dispatch(1L, () -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(5);
+					processed.add(sequence);
+					running.decrementAndGet();
+				}));
+			}
+		} finally {
+			callers.shutdown();
+			assertThat(callers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// Assert
+		assertThat(processed).hasSize(20);
+		assertThat(maxRunning.get()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve processar pedidos de faixas diferentes em paralelo")
+	void shouldProcessDifferentOrdersInParallel() throws Exception {
+		// Arrange
+		var barrier = new CyclicBarrier(2);
+		var done = new CountDownLatch(2);
+		var callers = Executors.newFixedThreadPool(2);
+		Runnable handler = () -> {
+			try {
+				barrier.await(5, TimeUnit.SECONDS);
+				done.countDown();
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		};
+
+		// Act
+		try {
+			callers.submit(() -> dispatcher.dispatch(1L, handler));
+			callers.submit(() -> dispatcher.dispatch(2L, handler));
+
+			// Assert
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	@Test @DisplayName("Deve propagar a exceção do handler para a thread do processador")
+	void shouldPropagateHandlerException() {
+		// Arrange
+		var failure = new IllegalArgumentException("pedido inválido");
+
+		// Act & Assert
+		assertThatThrownBy(() -> dispatcher.dispatch(1L, () -> {
+			throw failure;
+		})).isSameAs(failure);
+		assertThat(meterRegistry.get("order.events.dispatcher.queue.depth").gauges())
+				.allSatisfy(gauge -> assertThat(gauge.value()).isZero());
+	}
+
+	@Test @DisplayName("Deve processar na thread chamadora eventos sem pedido")
+	void shouldRunInlineWhenOrderIdIsNull() {
+		// Arrange
+		var threads = new ArrayList<Thread>();
+
+		// Act
+		dispatcher.dispatch(null, () -> threads.add(Thread.currentThread()));
+
+		// Assert
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test @DisplayName("Deve executar os handlers em virtual threads quando habilitadas")
+	void shouldRunHandlersOnVirtualThreadsWhenEnabled() {
+		// Arrange
+		var virtualDispatcher = new OrderEventDispatcher(STRIPES, true, new SimpleMeterRegistry());
+		var threads = new ArrayList<Thread>();
+
+		// Act
+		try {
+			virtualDispatcher.dispatch(1L, () -> threads.add(Thread.currentThread()));
+		} finally {
+			virtualDispatcher.shutdown();
+		}
+
+		// Assert
+		assertThat(threads).singleElement().satisfies(thread -> assertThat(thread.isVirtual()).isTrue());
+	}
+
+	@Test @DisplayName("Deve registrar a profundidade da fila de cada faixa")
+	void shouldRegisterQueueDepthPerStripe() {
+		// Act
+		List<String> stripes = meterRegistry.get("order.events.dispatcher.queue.depth")
+				.gauges()
+				.stream()
+				.map(gauge -> gauge.getId().getTag("stripe"))
+				.toList();
+
+		// Assert
+		assertThat(stripes).containsExactlyInAnyOrder("0", "1", "2", "3");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package unit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.ProcessedMessageStore;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.repository.SpringDataOrderProcessedMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("ProcessedMessageStore - Testes Unitários")
+class ProcessedMessageStoreTest {
+
+	private static final String CONSUMER = "payment-approved";
+
+	@Mock
+	private SpringDataOrderProcessedMessageRepository repository;
+
+	@Mock
+	private Runnable handler;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ProcessedMessageStore store;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		store = new ProcessedMessageStore(repository, meterRegistry, 100, Duration.ofDays(7));
+	}
+
+	@Test @DisplayName("Deve executar o handler na primeira entrega da mensagem")
+	void shouldRunHandlerOnFirstDelivery() {
+		// Arrange
+		when(repository.claim(CONSUMER, "msg-1")).thenReturn(1);
+
+		// Act
+		var processed = store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Assert
+		assertThat(processed).isTrue();
+		verify(handler).run();
+	}
+
+	@Test @DisplayName("Deve descartar redelivery registrada no banco sem executar o handler")
+	void shouldSkipRedeliveryRegisteredInDatabase() {
+		// Arrange
+		when(repository.claim(CONSUMER, "msg-1")).thenReturn(0);
+
+		// Act
+		var processed = store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Assert
+		assertThat(processed).isFalse();
+		verifyNoInteractions(handler);
+		assertThat(meterRegistry.get("order.events.duplicates").tag("consumer", CONSUMER).counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve descartar redelivery recente sem consultar o banco")
+	void shouldSkipRecentRedeliveryWithoutDatabase() {
+		// Arrange
+		when(repository.claim(CONSUMER, "msg-1")).thenReturn(1);
+		store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Act
+		var processed = store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Assert
+		assertThat(processed).isFalse();
+		verify(repository, times(1)).claim(CONSUMER, "msg-1");
+		verify(handler, times(1)).run();
+	}
+
+	@Test @DisplayName("Deve manter a mensagem pendente quando o handler falhar")
+	void shouldNotRememberMessageWhenHandlerFails() {
+		// Arrange
+		when(repository.claim(CONSUMER, "msg-1")).thenReturn(1);
+		doThrow(new IllegalStateException("falha")).doNothing().when(handler).run();
+
+		// Act
+		assertThatThrownBy(() -> store.processOnce(CONSUMER, "msg-1", handler))
+				.isInstanceOf(IllegalStateException.class);
+		var processed = store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Assert
+		assertThat(processed).isTrue();
+		verify(handler, times(2)).run();
+	}
+
+	@Test @DisplayName("Deve tratar o mesmo messageId de consumidores diferentes de forma independente")
+	void shouldIsolateConsumers() {
+		// Arrange
+		when(repository.claim(any(), any())).thenReturn(1);
+		store.processOnce(CONSUMER, "msg-1", handler);
+
+		// Act
+		var processed = store.processOnce("stock-reversal", "msg-1", handler);
+
+		// Assert
+		assertThat(processed).isTrue();
+		verify(handler, times(2)).run();
+	}
+
+	@Test @DisplayName("Deve processar mensagens sem messageId sem registrá-las")
+	void shouldRunHandlerWithoutMessageId() {
+		// Act
+		var processed = store.processOnce(CONSUMER, null, handler);
+
+		// Assert
+		assertThat(processed).isTrue();
+		verify(handler).run();
+		verifyNoInteractions(repository);
+	}
+
+	@Test @DisplayName("Deve ignorar falhas de banco ao remover registros expirados")
+	void shouldIgnoreDatabaseFailuresOnPurge() {
+		// Arrange
+		when(repository.deleteProcessedBefore(any(LocalDateTime.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+		// Act
+		store.purge();
+
+		// Assert
+		verify(repository).deleteProcessedBefore(any(LocalDateTime.class));
+	}
+}
@@ -16,13 +16,11 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
-import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusController;
+import com.soat.fiap.food.core.order.core.interfaceadapters.controller.UpdateOrderStatusFromEventController;
 import com.soat.fiap.food.core.order.core.interfaceadapters.dto.events.PaymentApprovedEventDto;
 import com.soat.fiap.food.core.order.infrastructure.common.source.EventPublisherSource;
 import com.soat.fiap.food.core.order.infrastructure.common.source.OrderDataSource;
-import com.soat.fiap.food.core.order.infrastructure.common.source.PaymentDataSource;
 import com.soat.fiap.food.core.order.infrastructure.in.event.listener.azsvcbus.payment.handlers.PaymentApprovedHandler;
-import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.request.OrderStatusRequest;
 
 import unit.fixtures.EventFixture;
 
@@ -32,9 +30,6 @@ class PaymentApprovedHandlerTest {
 	@Mock
 	private OrderDataSource orderDataSource;
 
-	@Mock
-	private PaymentDataSource paymentDataSource;
-
 	@Mock
 	private EventPublisherSource eventPublisherSource;
 
@@ -42,7 +37,7 @@ class PaymentApprovedHandlerTest {
 
 	@BeforeEach
 	void setUp() {
-		handler = new PaymentApprovedHandler(orderDataSource, paymentDataSource, eventPublisherSource);
+		handler = new PaymentApprovedHandler(orderDataSource, eventPublisherSource);
 	}
 
 	@Test @DisplayName("Deve processar evento de pagamento aprovado com sucesso")
@@ -51,14 +46,14 @@ class PaymentApprovedHandlerTest {
 		PaymentApprovedEventDto event = EventFixture.createPaymentApprovedEventDto(UUID.randomUUID(), 1L,
 				BigDecimal.valueOf(100.00), "CREDIT_CARD", LocalDateTime.now());
 
-		try (MockedStatic<UpdateOrderStatusController> mockedStatic = mockStatic(UpdateOrderStatusController.class)) {
+		try (MockedStatic<UpdateOrderStatusFromEventController> mockedStatic = mockStatic(
+				UpdateOrderStatusFromEventController.class)) {
 			// Act
 			assertThatNoException().isThrownBy(() -> handler.handle(event));
 
 			// Assert
-			mockedStatic.verify(() -> UpdateOrderStatusController.updateOrderStatus(eq(1L),
-					eq(new OrderStatusRequest(OrderStatus.PREPARING)), eq(orderDataSource), eq(paymentDataSource),
-					eq(eventPublisherSource)), times(1));
+			mockedStatic.verify(() -> UpdateOrderStatusFromEventController.updateOrderStatus(eq(1L),
+					eq(OrderStatus.PREPARING), eq(orderDataSource), eq(eventPublisherSource)), times(1));
 		}
 	}
 
@@ -68,14 +63,14 @@ class PaymentApprovedHandlerTest {
 		PaymentApprovedEventDto event = EventFixture.createPaymentApprovedEventDto(UUID.randomUUID(), 2L,
 				BigDecimal.valueOf(999.99), "PIX", LocalDateTime.now());
 
-		try (MockedStatic<UpdateOrderStatusController> mockedStatic = mockStatic(UpdateOrderStatusController.class)) {
+		try (MockedStatic<UpdateOrderStatusFromEventController> mockedStatic = mockStatic(
+				UpdateOrderStatusFromEventController.class)) {
 			// Act
 			assertThatNoException().isThrownBy(() -> handler.handle(event));
 
 			// Assert
-			mockedStatic.verify(() -> UpdateOrderStatusController.updateOrderStatus(eq(2L),
-					eq(new OrderStatusRequest(OrderStatus.PREPARING)), eq(orderDataSource), eq(paymentDataSource),
-					eq(eventPublisherSource)), times(1));
+			mockedStatic.verify(() -> UpdateOrderStatusFromEventController.updateOrderStatus(eq(2L),
+					eq(OrderStatus.PREPARING), eq(orderDataSource), eq(eventPublisherSource)), times(1));
 		}
 	}
 
@@ -88,19 +83,18 @@ class PaymentApprovedHandlerTest {
 		PaymentApprovedEventDto event2 = EventFixture.createPaymentApprovedEventDto(UUID.randomUUID(), 4L,
 				BigDecimal.valueOf(200.00), "CREDIT_CARD", LocalDateTime.now());
 
-		try (MockedStatic<UpdateOrderStatusController> mockedStatic = mockStatic(UpdateOrderStatusController.class)) {
+		try (MockedStatic<UpdateOrderStatusFromEventController> mockedStatic = mockStatic(
+				UpdateOrderStatusFromEventController.class)) {
 			// Act
 			handler.handle(event1);
 			handler.handle(event2);
 
 			// Assert
-			mockedStatic.verify(() -> UpdateOrderStatusController.updateOrderStatus(eq(3L),
-					eq(new OrderStatusRequest(OrderStatus.PREPARING)), eq(orderDataSource), eq(paymentDataSource),
-					eq(eventPublisherSource)), times(1));
+			mockedStatic.verify(() -> UpdateOrderStatusFromEventController.updateOrderStatus(eq(3L),
+					eq(OrderStatus.PREPARING), eq(orderDataSource), eq(eventPublisherSource)), times(1));
 
-			mockedStatic.verify(() -> UpdateOrderStatusController.updateOrderStatus(eq(4L),
-					eq(new OrderStatusRequest(OrderStatus.PREPARING)), eq(orderDataSource), eq(paymentDataSource),
-					eq(eventPublisherSource)), times(1));
+			mockedStatic.verify(() -> UpdateOrderStatusFromEventController.updateOrderStatus(eq(4L),
+					eq(OrderStatus.PREPARING), eq(orderDataSource), eq(eventPublisherSource)), times(1));
 		}
 	}
 }
@@ -0,0 +1,316 @@
+package unit.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardChangedEvent;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.board.KitchenBoardSnapshot;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderResponse;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.dto.response.OrderStatusResponse;
+import com.soat.fiap.food.core.order.infrastructure.in.web.api.stream.OrderStreamPublisher;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.event.OrderStatusUpdatedEvent;
+import com.soat.fiap.food.core.order.infrastructure.out.persistence.postgres.notification.OrderChangeNotification;
+
+@DisplayName("OrderStreamPublisher - Testes Unitários")
+class OrderStreamPublisherTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 14, 30);
+	private static final Long ORDER_ID = 1L;
+	private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+	private static final Executor DIRECT = Runnable::run;
+
+	private final List<StubEmitter> emitters = new CopyOnWriteArrayList<>();
+
+	/** Ação executada durante o próximo envio, simulando alterações concorrentes. */
+	private volatile Runnable duringNextSend;
+
+	private OrderStreamPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		publisher = publisher(DIRECT);
+	}
+
+	@Test @DisplayName("Deve enviar somente a versão mais recente do painel publicada durante um envio")
+	void shouldConflateBoardVersionsPublishedWhileSending() {
+		// Arrange
+		duringNextSend = () -> {
+			publisher.on(changed(2));
+			publisher.on(changed(3));
+		};
+
+		// Act
+		publisher.subscribeBoard(board(1));
+
+		// Assert
+		assertThat(emitter().boardVersions()).containsExactly(1L, 3L);
+	}
+
+	@Test @DisplayName("Não deve substituir uma alteração pendente por um heartbeat")
+	void shouldNotReplacePendingChangeWithHeartbeat() {
+		// Arrange
+		duringNextSend = () -> {
+			publisher.on(changed(2));
+			publisher.heartbeat();
+		};
+
+		// Act
+		publisher.subscribeBoard(board(1));
+
+		// Assert
+		assertThat(emitter().boardVersions()).containsExactly(1L, 2L);
+		assertThat(emitter().heartbeats()).isZero();
+	}
+
+	@Test @DisplayName("Deve substituir um heartbeat pendente por uma alteração")
+	void shouldReplacePendingHeartbeatWithChange() {
+		// Arrange
+		duringNextSend = () -> {
+			publisher.heartbeat();
+			publisher.on(changed(2));
+		};
+
+		// Act
+		publisher.subscribeBoard(board(1));
+
+		// Assert
+		assertThat(emitter().boardVersions()).containsExactly(1L, 2L);
+		assertThat(emitter().heartbeats()).isZero();
+	}
+
+	@Test @DisplayName("Deve enviar heartbeat ao assinante ocioso")
+	void shouldSendHeartbeatToIdleSubscriber() {
+		// Arrange
+		publisher.subscribeBoard(board(1));
+
+		// Act
+		publisher.heartbeat();
+
+		// Assert
+		assertThat(emitter().heartbeats()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve entregar a última versão publicada enquanto o envio termina em outra thread")
+	void shouldDeliverLatestVersionPublishedConcurrentlyWithDrain() throws Exception {
+		// Arrange
+		var executor = Executors.newSingleThreadExecutor();
+		publisher = publisher(executor);
+		var versions = 5_000;
+
+		try {
+			publisher.subscribeBoard(board(0));
+
+			// Act
+			for (int version = 1; version <= versions; version++) {
+				publisher.on(changed(version));
+			}
+
+			// Assert
+			var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (emitter().lastBoardVersion() != versions && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			var sent = emitter().boardVersions();
+			assertThat(emitter().lastBoardVersion()).as("A última versão publicada deve ser enviada")
+					.isEqualTo(versions);
+			assertThat(sent).isSorted().doesNotHaveDuplicates();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test @DisplayName("Deve remover o assinante do painel quando a conexão for encerrada")
+	void shouldUnsubscribeBoardOnCompletion() {
+		// Arrange
+		publisher.subscribeBoard(board(1));
+
+		// Act
+		emitter().completeByClient();
+		publisher.on(changed(2));
+		publisher.heartbeat();
+
+		// Assert
+		assertThat(emitter().attempts()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve remover o assinante do pedido quando a conexão for encerrada")
+	void shouldUnsubscribeOrderOnCompletion() {
+		// Arrange
+		publisher.subscribeOrder(ORDER_ID, () -> order(OrderStatus.RECEIVED, NOW, 0L));
+
+		// Act
+		emitter().completeByClient();
+		publisher.on(new OrderStatusUpdatedEvent(ORDER_ID, OrderStatus.PREPARING, NOW.plusMinutes(1), 1L));
+
+		// Assert
+		assertThat(emitter().attempts()).isEqualTo(1);
+	}
+
+	@Test @DisplayName("Deve encerrar o assinante após falha no envio")
+	void shouldCloseSubscriberAfterSendFailure() {
+		// Arrange
+		publisher.subscribeBoard(board(1));
+		emitter().broken = true;
+
+		// Act
+		publisher.on(changed(2));
+		publisher.on(changed(3));
+
+		// Assert
+		assertThat(emitter().attempts()).isEqualTo(2);
+	}
+
+	@Test @DisplayName("Não deve enviar ao pedido um estado com versão anterior à do último enviado")
+	void shouldSuppressStaleOrderStatusByVersion() {
+		// Arrange
+		publisher.subscribeOrder(ORDER_ID, () -> order(OrderStatus.READY, NOW, 3L));
+
+		// Act
+		publisher.on(new OrderStatusUpdatedEvent(ORDER_ID, OrderStatus.PREPARING, NOW.plusMinutes(5), 2L));
+
+		// Assert
+		assertThat(emitter().statuses()).extracting(OrderStatusResponse::getOrderStatus)
+				.containsOnly(OrderStatus.READY);
+	}
+
+	@Test @DisplayName("Deve enviar a transição mais recente mesmo com relógio atrasado na outra instância")
+	void shouldOrderStatusesByVersionDespiteClockSkew() {
+		// Arrange
+		publisher.subscribeOrder(ORDER_ID, () -> order(OrderStatus.RECEIVED, NOW, 1L));
+
+		// Act
+		publisher.on(new OrderChangeNotification("other-instance", ORDER_ID, OrderStatus.PREPARING, 2L,
+				NOW.minusSeconds(30)));
+
+		// Assert
+		var last = emitter().statuses().getLast();
+		assertThat(last.getOrderStatus()).isEqualTo(OrderStatus.PREPARING);
+		assertThat(last.getUpdatedAt()).isEqualTo(NOW.minusSeconds(30));
+		assertThat(last.getCreatedAt()).isEqualTo(NOW);
+	}
+
+	private OrderStreamPublisher publisher(Executor executor) {
+		return new OrderStreamPublisher(executor, Duration.ofMinutes(1)) {
+			@Override
+			protected SseEmitter newEmitter() {
+				var emitter = new StubEmitter();
+				emitters.add(emitter);
+				return emitter;
+			}
+		};
+	}
+
+	private StubEmitter emitter() {
+		assertThat(emitters).hasSize(1);
+		return emitters.getFirst();
+	}
+
+	private static KitchenBoardSnapshot board(long version) {
+		return KitchenBoardSnapshot.of(version, List.of(), "[]".getBytes());
+	}
+
+	private static KitchenBoardChangedEvent changed(long version) {
+		return new KitchenBoardChangedEvent(board(version));
+	}
+
+	private static OrderResponse order(OrderStatus status, LocalDateTime updatedAt, Long version) {
+		return OrderResponse.builder()
+				.id(ORDER_ID)
+				.status(status)
+				.createdAt(NOW)
+				.updatedAt(updatedAt)
+				.version(version)
+				.build();
+	}
+
+	/**
+	 * Emissor que registra os eventos enviados, sem uma requisição HTTP.
+	 */
+	private final class StubEmitter extends SseEmitter {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+		private final List<Object> payloads = new CopyOnWriteArrayList<>();
+		private final AtomicInteger attempts = new AtomicInteger();
+		private volatile boolean broken;
+		private Runnable completion;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			attempts.incrementAndGet();
+			if (broken) {
+				throw new IOException("Broken pipe");
+			}
+
+			var text = new StringBuilder();
+			for (var part : builder.build()) {
+				if (part.getData() instanceof String chunk) {
+					text.append(chunk);
+				} else {
+					payloads.add(part.getData());
+				}
+			}
+			events.add(text.toString());
+
+			var action = duringNextSend;
+			duringNextSend = null;
+			if (action != null) {
+				action.run();
+			}
+		}
+
+		@Override
+		public synchronized void onCompletion(Runnable callback) {
+			this.completion = callback;
+		}
+
+		void completeByClient() {
+			completion.run();
+		}
+
+		int attempts() {
+			return attempts.get();
+		}
+
+		List<Long> boardVersions() {
+			return events.stream()
+					.map(EVENT_ID::matcher)
+					.filter(Matcher::find)
+					.map(matcher -> Long.valueOf(matcher.group(1)))
+					.toList();
+		}
+
+		long lastBoardVersion() {
+			var versions = boardVersions();
+			return versions.isEmpty() ? -1 : versions.getLast();
+		}
+
+		long heartbeats() {
+			return events.stream().filter(event -> event.startsWith(":heartbeat")).count();
+		}
+
+		List<OrderStatusResponse> statuses() {
+			return payloads.stream()
+					.filter(OrderStatusResponse.class::isInstance)
+					.map(OrderStatusResponse.class::cast)
+					.toList();
+		}
+	}
+}
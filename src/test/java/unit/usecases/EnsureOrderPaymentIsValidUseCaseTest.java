@@ -1,8 +1,10 @@
 package unit.usecases;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
@@ -122,4 +124,34 @@ class EnsureOrderPaymentIsValidUseCaseTest {
 		verify(orderGateway).findById(orderId);
 		verify(paymentGateway).getOrderStatus(orderId);
 	}
+
+	@Test @DisplayName("Deve retornar pagamento vazio quando o serviço de pagamento falhar")
+	void shouldReturnEmptyPaymentWhenPaymentServiceFails() {
+		// Arrange
+		var orderId = 5L;
+		when(paymentGateway.getOrderStatus(orderId)).thenThrow(new IllegalStateException("Tempo limite excedido"));
+
+		// Act
+		var payment = EnsureOrderPaymentIsValidUseCase.getOrderPayment(orderId, paymentGateway);
+
+		// Assert
+		assertThat(payment).isEmpty();
+	}
+
+	@Test @DisplayName("Deve validar o pagamento já consultado sem chamar o serviço de pagamento")
+	void shouldValidateFetchedPaymentWithoutCallingPaymentService() {
+		// Arrange
+		var orderId = 6L;
+		var order = OrderFixture.createValidOrder();
+		order.setOrderStatus(OrderStatus.RECEIVED);
+		var payment = Optional.of(PaymentFixture.createPendingPaymentStatus(orderId));
+
+		when(orderGateway.findById(orderId)).thenReturn(Optional.of(order));
+
+		// Act & Assert
+		assertThatThrownBy(() -> EnsureOrderPaymentIsValidUseCase.ensurePaymentIsValidForOrder(orderId,
+				OrderStatus.PREPARING, payment, orderGateway)).isInstanceOf(OrderPaymentException.class);
+
+		verifyNoInteractions(paymentGateway);
+	}
 }
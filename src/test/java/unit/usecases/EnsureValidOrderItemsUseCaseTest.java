@@ -165,4 +165,49 @@ class EnsureValidOrderItemsUseCaseTest {
 		verify(catalogGateway).findByProductIds(List.of(1L));
 	}
 
+	@Test @DisplayName("Deve consultar o catálogo uma única vez por produto repetido nos itens")
+	void shouldDeduplicateRepeatedProductIds() {
+		// Arrange
+		var product = CatalogFixture.createCatalogProduct(1L, "Coca", new BigDecimal("10.0"), true, true, 10);
+		var orderItems = List.of(OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 1),
+				OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 2));
+
+		when(catalogGateway.findByProductIds(List.of(1L))).thenReturn(List.of(product));
+
+		// Act & Assert
+		assertThatNoException()
+				.isThrownBy(() -> EnsureValidOrderItemsUseCase.ensureValidOrderItems(orderItems, catalogGateway));
+
+		verify(catalogGateway).findByProductIds(List.of(1L));
+	}
+
+	@Test @DisplayName("Deve lançar exceção quando a soma dos itens do mesmo produto exceder o estoque")
+	void shouldThrowExceptionWhenAggregatedQuantityExceedsStock() {
+		// Arrange
+		var product = CatalogFixture.createCatalogProduct(1L, "Coca", new BigDecimal("10.0"), true, true, 5);
+		var orderItems = List.of(OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 3),
+				OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 3));
+
+		when(catalogGateway.findByProductIds(List.of(1L))).thenReturn(List.of(product));
+
+		// Act & Assert
+		assertThatThrownBy(() -> EnsureValidOrderItemsUseCase.ensureValidOrderItems(orderItems, catalogGateway))
+				.isInstanceOf(OrderItemException.class)
+				.hasMessage("Quantidade insuficiente em estoque para o produto: Coca");
+	}
+
+	@Test @DisplayName("Deve aceitar itens do mesmo produto cuja soma seja igual ao estoque")
+	void shouldAcceptAggregatedQuantityEqualToStock() {
+		// Arrange
+		var product = CatalogFixture.createCatalogProduct(1L, "Coca", new BigDecimal("10.0"), true, true, 6);
+		var orderItems = List.of(OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 3),
+				OrderFixture.createOrderItem("Coca", 1L, new BigDecimal("10.0"), 3));
+
+		when(catalogGateway.findByProductIds(List.of(1L))).thenReturn(List.of(product));
+
+		// Act & Assert
+		assertThatNoException()
+				.isThrownBy(() -> EnsureValidOrderItemsUseCase.ensureValidOrderItems(orderItems, catalogGateway));
+	}
+
 }
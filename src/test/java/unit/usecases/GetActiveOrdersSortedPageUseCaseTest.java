@@ -0,0 +1,101 @@
+package unit.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.soat.fiap.food.core.order.core.application.usecases.GetActiveOrdersSortedPageUseCase;
+import com.soat.fiap.food.core.order.core.domain.model.Order;
+import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.ActiveOrdersCursorDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+
+import unit.fixtures.OrderFixture;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("GetActiveOrdersSortedPageUseCase - Testes Unitários")
+class GetActiveOrdersSortedPageUseCaseTest {
+
+	@Mock
+	private OrderGateway orderGateway;
+
+	@Test @DisplayName("Deve retornar página sem cursor quando não houver próxima página")
+	void shouldReturnPageWithoutCursorWhenThereIsNoNextPage() {
+		// Arrange
+		var orders = createOrders(2);
+
+		when(orderGateway.findActiveOrdersSortedAfter(isNull(), eq(4))).thenReturn(orders);
+
+		// Act
+		var result = GetActiveOrdersSortedPageUseCase.getActiveOrdersSortedPage(null, 3, orderGateway);
+
+		// Assert
+		assertThat(result.orders()).containsExactlyElementsOf(orders);
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.nextCursor()).isNull();
+	}
+
+	@Test @DisplayName("Deve retornar cursor do último pedido da página quando houver próxima página")
+	void shouldReturnCursorOfLastOrderWhenThereIsNextPage() {
+		// Arrange
+		var orders = createOrders(4);
+		var lastOfPage = orders.get(2);
+
+		when(orderGateway.findActiveOrdersSortedAfter(isNull(), eq(4))).thenReturn(orders);
+
+		// Act
+		var result = GetActiveOrdersSortedPageUseCase.getActiveOrdersSortedPage(null, 3, orderGateway);
+
+		// Assert
+		assertThat(result.orders()).hasSize(3).containsExactlyElementsOf(orders.subList(0, 3));
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.nextCursor()).isEqualTo(new ActiveOrdersCursorDTO(OrderStatus.PREPARING.getActivePriority(),
+				lastOfPage.getCreatedAt(), lastOfPage.getId()));
+	}
+
+	@Test @DisplayName("Deve repassar o cursor recebido ao gateway")
+	void shouldForwardCursorToGateway() {
+		// Arrange
+		var cursor = new ActiveOrdersCursorDTO(1, OrderFixture.createValidOrder().getCreatedAt(), 10L);
+
+		when(orderGateway.findActiveOrdersSortedAfter(cursor, 21)).thenReturn(List.of());
+
+		// Act
+		var result = GetActiveOrdersSortedPageUseCase.getActiveOrdersSortedPage(cursor, 20, orderGateway);
+
+		// Assert
+		assertThat(result.orders()).isEmpty();
+		assertThat(result.hasNext()).isFalse();
+		verify(orderGateway).findActiveOrdersSortedAfter(cursor, 21);
+	}
+
+	@Test @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+	void shouldClampPageSizeToMaximum() {
+		// Arrange
+		when(orderGateway.findActiveOrdersSortedAfter(isNull(), anyInt())).thenReturn(List.of());
+
+		// Act
+		GetActiveOrdersSortedPageUseCase.getActiveOrdersSortedPage(null, 10_000, orderGateway);
+
+		// Assert
+		verify(orderGateway).findActiveOrdersSortedAfter(null, GetActiveOrdersSortedPageUseCase.MAX_PAGE_SIZE + 1);
+	}
+
+	private List<Order> createOrders(int quantity) {
+		var orders = new ArrayList<Order>();
+		for (long id = 1; id <= quantity; id++) {
+			var order = OrderFixture.createValidOrder();
+			order.setId(id);
+			order.setOrderStatus(OrderStatus.PREPARING);
+			orders.add(order);
+		}
+		return orders;
+	}
+}
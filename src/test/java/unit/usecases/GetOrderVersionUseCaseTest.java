@@ -0,0 +1,54 @@
+package unit.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.soat.fiap.food.core.order.core.application.usecases.GetOrderVersionUseCase;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
+import com.soat.fiap.food.core.order.core.interfaceadapters.dto.OrderVersionDTO;
+import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
+
+@ExtendWith(MockitoExtension.class) @DisplayName("GetOrderVersionUseCase - Testes Unitários")
+class GetOrderVersionUseCaseTest {
+
+	@Mock
+	private OrderGateway orderGateway;
+
+	@Test @DisplayName("Deve retornar a versão do pedido sem carregar o agregado")
+	void shouldReturnOrderVersionWithoutLoadingAggregate() {
+		// Arrange
+		var version = new OrderVersionDTO(1L, 3L, LocalDateTime.of(2025, 6, 15, 14, 45));
+		when(orderGateway.findVersionById(1L)).thenReturn(Optional.of(version));
+
+		// Act
+		var result = GetOrderVersionUseCase.getOrderVersion(1L, orderGateway);
+
+		// Assert
+		assertEquals(version, result);
+		verify(orderGateway).findVersionById(1L);
+		verifyNoMoreInteractions(orderGateway);
+	}
+
+	@Test @DisplayName("Deve lançar exceção quando pedido não for encontrado")
+	void shouldThrowExceptionWhenOrderNotFound() {
+		// Arrange
+		when(orderGateway.findVersionById(999L)).thenReturn(Optional.empty());
+
+		// Act & Assert
+		var exception = assertThrows(OrderNotFoundException.class,
+				() -> GetOrderVersionUseCase.getOrderVersion(999L, orderGateway));
+
+		assertEquals("Pedido não encontrado com id: 999", exception.getMessage());
+	}
+}
@@ -1,7 +1,8 @@
 package unit.usecases;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 import java.util.Optional;
 
@@ -13,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.soat.fiap.food.core.order.core.application.usecases.UpdateOrderStatusUseCase;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderAlreadyHasStatusException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderException;
 import com.soat.fiap.food.core.order.core.domain.exceptions.OrderNotFoundException;
+import com.soat.fiap.food.core.order.core.domain.exceptions.OrderStatusConflictException;
 import com.soat.fiap.food.core.order.core.domain.vo.OrderStatus;
 import com.soat.fiap.food.core.order.core.interfaceadapters.gateways.OrderGateway;
 
@@ -33,6 +36,7 @@ class UpdateOrderStatusUseCaseTest {
 		order.setOrderStatus(OrderStatus.RECEIVED);
 
 		when(orderGateway.findById(1L)).thenReturn(Optional.of(order));
+		when(orderGateway.updateStatus(order, OrderStatus.RECEIVED)).thenReturn(true);
 
 		// Act
 		var result = UpdateOrderStatusUseCase.updateOrderStatus(1L, OrderStatus.PREPARING, orderGateway);
@@ -41,6 +45,8 @@ class UpdateOrderStatusUseCaseTest {
 		assertNotNull(result);
 		assertEquals(1L, result.getId());
 		assertEquals(OrderStatus.PREPARING, result.getOrderStatus());
+		verify(orderGateway).updateStatus(order, OrderStatus.RECEIVED);
+		verify(orderGateway, never()).save(any());
 	}
 
 	@Test
@@ -70,6 +76,39 @@ class UpdateOrderStatusUseCaseTest {
 				() -> UpdateOrderStatusUseCase.updateOrderStatus(2L, OrderStatus.READY, orderGateway));
 
 		assertEquals("O pedido já possui o status informado para atualização", exception.getMessage());
+		verify(orderGateway, never()).updateStatus(any(), any());
+	}
+
+	@Test @DisplayName("Deve lançar exceção quando o status do pedido for alterado concorrentemente")
+	void shouldThrowExceptionWhenStatusChangedConcurrently() {
+		// Arrange
+		var order = OrderFixture.createValidOrder();
+		order.setId(6L);
+
+		when(orderGateway.findById(6L)).thenReturn(Optional.of(order));
+		when(orderGateway.updateStatus(order, OrderStatus.RECEIVED)).thenReturn(false);
+
+		// Act & Assert
+		var exception = assertThrows(OrderStatusConflictException.class,
+				() -> UpdateOrderStatusUseCase.updateOrderStatus(6L, OrderStatus.PREPARING, orderGateway));
+
+		assertEquals("O pedido 6 foi alterado concorrentemente", exception.getMessage());
+	}
+
+	@Test @DisplayName("Não deve gravar transição de status inválida")
+	void shouldNotPersistInvalidStatusTransition() {
+		// Arrange
+		var order = OrderFixture.createValidOrder();
+		order.setId(7L);
+		order.setOrderStatus(OrderStatus.PREPARING);
+
+		when(orderGateway.findById(7L)).thenReturn(Optional.of(order));
+
+		// Act & Assert
+		assertThrows(OrderException.class,
+				() -> UpdateOrderStatusUseCase.updateOrderStatus(7L, OrderStatus.CANCELLED, orderGateway));
+
+		verify(orderGateway, never()).updateStatus(any(), any());
 	}
 
 	@Test @DisplayName("Deve atualizar de RECEIVED para PREPARING")
@@ -80,6 +119,7 @@ class UpdateOrderStatusUseCaseTest {
 		order.setOrderStatus(OrderStatus.RECEIVED);
 
 		when(orderGateway.findById(3L)).thenReturn(Optional.of(order));
+		when(orderGateway.updateStatus(order, OrderStatus.RECEIVED)).thenReturn(true);
 
 		// Act
 		var result = UpdateOrderStatusUseCase.updateOrderStatus(3L, OrderStatus.PREPARING, orderGateway);
@@ -97,6 +137,7 @@ class UpdateOrderStatusUseCaseTest {
 		order.setOrderStatus(OrderStatus.PREPARING);
 
 		when(orderGateway.findById(4L)).thenReturn(Optional.of(order));
+		when(orderGateway.updateStatus(order, OrderStatus.PREPARING)).thenReturn(true);
 
 		// Act
 		var result = UpdateOrderStatusUseCase.updateOrderStatus(4L, OrderStatus.READY, orderGateway);
@@ -114,6 +155,7 @@ class UpdateOrderStatusUseCaseTest {
 		order.setOrderStatus(OrderStatus.READY);
 
 		when(orderGateway.findById(5L)).thenReturn(Optional.of(order));
+		when(orderGateway.updateStatus(order, OrderStatus.READY)).thenReturn(true);
 
 		// Act
 		var result = UpdateOrderStatusUseCase.updateOrderStatus(5L, OrderStatus.COMPLETED, orderGateway);